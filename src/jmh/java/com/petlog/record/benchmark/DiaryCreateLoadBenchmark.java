@@ -0,0 +1,115 @@
+package com.petlog.record.benchmark;
+
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일기 생성 API 동시 부하 테스트 (플랫폼 스레드 모드 vs 가상 스레드 모드)
+ * 실행 중인 서비스에 POST /api/diaries 를 동시에 보내고, 사용자/펫 서비스는 지연을 가진 로컬 스텁으로 대신합니다.
+ *
+ * 1) 서비스를 스텁을 바라보도록 기동 (검증 캐시를 꺼서 매 요청 원격 검증이 일어나게 함)
+ *    USER_SERVICE_URL=http://localhost:18080 PET_SERVICE_URL=http://localhost:18080 \
+ *    ./gradlew bootRun --args='--diary.validation.cache.ttl=0s'
+ *    가상 스레드 모드: ./gradlew bootRun -PjavaVersion=21 -PtracePinned \
+ *      --args='--spring.profiles.active=virtual-threads --diary.validation.cache.ttl=0s'
+ * 2) ./gradlew jmh -Pjmh.includes=DiaryCreateLoadBenchmark
+ * 두 모드의 Throughput(생성/s)과 SampleTime p0.99 를 비교합니다. 실패 요청 수는 보조 지표(failures)로 함께 출력됩니다.
+ * 가상 스레드 모드에서는 서비스 표준 출력에 고정(pinning) 스택이 찍히지 않아야 합니다 (-PtracePinned).
+ * 환경 변수: LOAD_TARGET_URL(기본 http://localhost:8087), LOAD_STUB_PORT(기본 18080), LOAD_STUB_LATENCY_MS(기본 50)
+ * 생성된 행 정리: DELETE FROM diaries WHERE user_id = -2 (이미지 없음)
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Threads(400) // 톰캣 기본 최대 스레드(200)보다 많은 동시 요청
+@Fork(1)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 20)
+public class DiaryCreateLoadBenchmark {
+
+    // 부하 테스트로 생성된 일기 표시용 사용자 ID
+    private static final long LOAD_TEST_USER_ID = -2L;
+
+    // JMH 보조 지표: 2xx 가 아니거나 I/O 오류로 끝난 요청 수 (스레드별로 세고 JMH 가 합산하여 결과 표에 출력)
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Failures {
+        public long failures;
+    }
+
+    private HttpServer stub;
+    private ExecutorService stubExecutor;
+    private HttpClient httpClient;
+    private URI createUri;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        int stubPort = Integer.parseInt(System.getenv().getOrDefault("LOAD_STUB_PORT", "18080"));
+        long latencyMillis = Long.parseLong(System.getenv().getOrDefault("LOAD_STUB_LATENCY_MS", "50"));
+
+        // 사용자/펫 서비스 스텁: 어떤 ID든 존재한다고 응답하되 원격 서비스 지연을 흉내냄
+        byte[] body = "{\"username\":\"load-test\"}".getBytes(StandardCharsets.UTF_8);
+        stubExecutor = Executors.newCachedThreadPool();
+        stub = HttpServer.create(new InetSocketAddress(stubPort), 4096);
+        stub.createContext("/api", exchange -> {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        stub.setExecutor(stubExecutor);
+        stub.start();
+
+        createUri = URI.create(System.getenv().getOrDefault("LOAD_TARGET_URL", "http://localhost:8087") + "/api/diaries");
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        stub.stop(0);
+        stubExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public int createDiary(Failures counters) {
+        long petId = ThreadLocalRandom.current().nextLong(1, 10_000);
+        String json = """
+                {"userId":%d,"petId":%d,"content":"부하 테스트 일기","visibility":"PRIVATE","isAiGen":false,"weather":"맑음","mood":"행복"}
+                """.formatted(LOAD_TEST_USER_ID, petId);
+        HttpRequest request = HttpRequest.newBuilder(createUri)
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+        try {
+            int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            if (status / 100 != 2) {
+                counters.failures++;
+            }
+            return status;
+        } catch (Exception e) {
+            counters.failures++;
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.petlog.record.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petlog.record.service.DiaryExportService;
+import com.petlog.record.service.impl.DiaryExportServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일기 내보내기 처리 시간 (일기 1만 / 10만 건, 일기당 이미지 2장)
+ * - fetchSize=0   : 드라이버가 결과 전체를 힙에 올림 (기존 findAllByUserId 와 같은 성질)
+ * - fetchSize=500 : 서버 측 커서로 500행씩 스트리밍 (운영 설정)
+ * 힙 사용량이 건수와 무관하다는 점은 DiaryExportServiceImplTest 가 단언으로 검증합니다.
+ * 실제 PostgreSQL이 필요하며 DB_URL, DB_USERNAME, DB_PASSWORD 환경 변수를 사용합니다.
+ * 표시용 사용자(-4: 1만 건, -5: 10만 건)의 데이터는 첫 실행 시 채우고 이후 재사용합니다.
+ * 실행: DB_URL=... ./gradlew jmh -Pjmh.includes=DiaryExportBenchmark
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-Xmx1g"})
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+public class DiaryExportBenchmark {
+
+    @Param({"10000", "100000"})
+    private int diaryCount;
+
+    @Param({"0", "500"})
+    private int fetchSize;
+
+    private DriverManagerDataSource dataSource;
+    private DiaryExportService exportService;
+    private long userId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        String url = System.getenv("DB_URL");
+        if (url == null || url.isBlank()) {
+            throw new IllegalStateException("DB_URL 환경 변수가 필요합니다.");
+        }
+        dataSource = new DriverManagerDataSource(url,
+                System.getenv().getOrDefault("DB_USERNAME", "postgres"),
+                System.getenv().getOrDefault("DB_PASSWORD", ""));
+        userId = diaryCount == 10_000 ? -4L : -5L;
+        seedIfNeeded();
+
+        exportService = new DiaryExportServiceImpl(dataSource, new DataSourceTransactionManager(dataSource),
+                new ObjectMapper(), fetchSize, 100, 1, Duration.ofHours(1));
+    }
+
+    private void seedIfNeeded() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement count = connection.prepareStatement("SELECT count(*) FROM diaries WHERE user_id = ?")) {
+                count.setLong(1, userId);
+                try (ResultSet rs = count.executeQuery()) {
+                    rs.next();
+                    if (rs.getLong(1) == diaryCount) {
+                        return;
+                    }
+                }
+            }
+            try (PreparedStatement deleteImages = connection.prepareStatement("DELETE FROM diary_images WHERE user_id = ?");
+                 PreparedStatement deleteDiaries = connection.prepareStatement("DELETE FROM diaries WHERE user_id = ?");
+                 PreparedStatement diaries = connection.prepareStatement("""
+                         INSERT INTO diaries (diary_id, user_id, pet_id, content, visibility, is_ai_gen, weather, mood, created_at, updated_at)
+                         SELECT nextval('diaries_seq'), ?, 1, '내보내기 벤치마크 일기 ' || g || ' - 오늘도 산책을 다녀왔다.',
+                                'PRIVATE', false, '맑음', '행복',
+                                TIMESTAMP '2015-01-01' + g * INTERVAL '1 hour', TIMESTAMP '2015-01-01' + g * INTERVAL '1 hour'
+                         FROM generate_series(1, ?) AS g
+                         """);
+                 PreparedStatement images = connection.prepareStatement("""
+                         INSERT INTO diary_images (image_id, diary_id, user_id, image_url, img_order, main_image, source, created_at, updated_at)
+                         SELECT nextval('diary_images_seq'), d.diary_id, d.user_id,
+                                'https://bucket.s3.ap-northeast-2.amazonaws.com/bench/' || d.diary_id || '/' || n || '.jpg',
+                                n, n = 1, 'GALLERY', d.created_at, d.created_at
+                         FROM diaries d CROSS JOIN generate_series(1, 2) AS n
+                         WHERE d.user_id = ?
+                         """)) {
+                deleteImages.setLong(1, userId);
+                deleteImages.executeUpdate();
+                deleteDiaries.setLong(1, userId);
+                deleteDiaries.executeUpdate();
+                diaries.setLong(1, userId);
+                diaries.setInt(2, diaryCount);
+                diaries.executeUpdate();
+                images.setLong(1, userId);
+                images.executeUpdate();
+            }
+        }
+    }
+
+    @Benchmark
+    public long export() throws Exception {
+        return exportService.export(userId, DiaryExportService.Format.NDJSON, OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,102 @@
+package com.petlog.record.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일기 INSERT 처리량 비교 (단건 트랜잭션 vs JDBC 배치 + reWriteBatchedInserts)
+ * 실제 PostgreSQL이 필요하며 애플리케이션과 같은 환경 변수(DB_URL, DB_USERNAME, DB_PASSWORD)를 사용합니다.
+ * 점수(ops/s)는 @OperationsPerInvocation 으로 보정되어 그대로 rows/s 입니다.
+ * 실행: DB_URL=... ./gradlew jmh -Pjmh.includes=DiaryInsertBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class DiaryInsertBenchmark {
+
+    private static final int ROWS = 500;
+    private static final int BATCH_SIZE = 50;
+
+    // 벤치마크가 넣은 행만 정리하기 위한 표시용 사용자 ID
+    private static final long BENCHMARK_USER_ID = -1L;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO diaries (diary_id, user_id, pet_id, content, visibility, is_ai_gen, weather, mood, created_at, updated_at)
+            VALUES (nextval('diaries_seq'), ?, ?, ?, 'PUBLIC', false, '맑음', '행복', ?, ?)
+            """;
+
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        String url = System.getenv("DB_URL");
+        if (url == null || url.isBlank()) {
+            throw new IllegalStateException("DB_URL 환경 변수가 필요합니다.");
+        }
+        Properties props = new Properties();
+        props.setProperty("user", System.getenv().getOrDefault("DB_USERNAME", "postgres"));
+        props.setProperty("password", System.getenv().getOrDefault("DB_PASSWORD", ""));
+        props.setProperty("reWriteBatchedInserts", "true"); // application.yaml hikari 설정과 동일
+        connection = DriverManager.getConnection(url, props);
+        connection.setAutoCommit(false);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("DELETE FROM diaries WHERE user_id = " + BENCHMARK_USER_ID);
+            connection.commit();
+        } finally {
+            connection.close();
+        }
+    }
+
+    // 기존 단건 생성 경로: 일기 1건마다 INSERT 1번 + 커밋 1번
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void singleInsertPerTransaction() throws Exception {
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL)) {
+            for (int i = 0; i < ROWS; i++) {
+                bind(ps, i);
+                ps.executeUpdate();
+                connection.commit();
+            }
+        }
+    }
+
+    // 벌크 생성 경로: 50건씩 배치 전송, 청크(50건)마다 커밋
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void batchInsertPerChunk() throws Exception {
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL)) {
+            for (int i = 0; i < ROWS; i++) {
+                bind(ps, i);
+                ps.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    ps.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+    }
+
+    private void bind(PreparedStatement ps, int i) throws Exception {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        ps.setLong(1, BENCHMARK_USER_ID);
+        ps.setLong(2, i % 10);
+        ps.setString(3, "벤치마크 일기 " + i);
+        ps.setTimestamp(4, now);
+        ps.setTimestamp(5, now);
+    }
+}
@@ -0,0 +1,117 @@
+package com.petlog.record.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.petlog.record.dto.request.DiaryRequest;
+import com.petlog.record.dto.response.DiaryResponse;
+import com.petlog.record.entity.Diary;
+import com.petlog.record.entity.DiaryImage;
+import com.petlog.record.entity.ImageSource;
+import com.petlog.record.entity.Visibility;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 다이어리 DTO 변환 / JSON 직렬화 벤치마크
+ * 실행: ./gradlew jmh  (gc 프로파일러로 gc.alloc.rate.norm = 호출당 할당 바이트 확인)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DiaryMappingBenchmark {
+
+    // 일기 1건당 첨부 이미지 수 (일반적인 1장 ~ 최대 50장)
+    @Param({"1", "10", "50"})
+    private int imageCount;
+
+    private Diary diary;
+    private DiaryResponse response;
+    private DiaryRequest.Create createRequest;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.of(2024, 3, 1, 10, 0);
+
+        diary = Diary.builder()
+                .diaryId(1L)
+                .userId(1L)
+                .petId(1L)
+                .content("오늘은 한강 공원에서 산책을 했다. 처음 보는 강아지 친구와 한참을 뛰어놀았다.")
+                .visibility(Visibility.PUBLIC)
+                .isAiGen(false)
+                .weather("맑음")
+                .mood("행복")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+
+        List<DiaryRequest.Image> requestImages = new ArrayList<>();
+        for (int i = 0; i < imageCount; i++) {
+            String url = "https://bucket.s3.ap-northeast-2.amazonaws.com/diary/1/image-" + i + ".jpg";
+            diary.addImage(DiaryImage.builder()
+                    .imageId((long) i)
+                    .userId(1L)
+                    .imageUrl(url)
+                    .imgOrder(i)
+                    .mainImage(i == 0)
+                    .source(ImageSource.GALLERY)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+            requestImages.add(DiaryRequest.Image.builder()
+                    .imageUrl(url)
+                    .imgOrder(i)
+                    .mainImage(i == 0)
+                    .source(ImageSource.GALLERY)
+                    .build());
+        }
+
+        createRequest = DiaryRequest.Create.builder()
+                .userId(1L)
+                .petId(1L)
+                .content(diary.getContent())
+                .visibility(Visibility.PUBLIC)
+                .isAiGen(false)
+                .weather("맑음")
+                .mood("행복")
+                .images(requestImages)
+                .build();
+
+        response = DiaryResponse.fromEntity(diary);
+
+        // Spring Boot 기본 ObjectMapper와 동일하게 날짜를 ISO 문자열로 직렬화
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Benchmark
+    public DiaryResponse diaryResponseFromEntity() {
+        return DiaryResponse.fromEntity(diary);
+    }
+
+    @Benchmark
+    public Diary diaryCreateRequestToEntity() {
+        return createRequest.toEntity();
+    }
+
+    @Benchmark
+    public byte[] diaryResponseToJson() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    // 변환 + 직렬화 (컨트롤러 응답 경로 전체)
+    @Benchmark
+    public byte[] diaryEntityToJson() throws Exception {
+        return objectMapper.writeValueAsBytes(DiaryResponse.fromEntity(diary));
+    }
+}
@@ -0,0 +1,147 @@
+package com.petlog.record.benchmark;
+
+import com.petlog.record.entity.Diary;
+import com.petlog.record.repository.DiaryQueryRepository;
+import com.petlog.record.util.SearchKeyword;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일기 본문 검색 지연 시간 측정 (diaries 100만 건, DiaryQueryRepository.searchDiaries 를 그대로 호출)
+ * 실제 PostgreSQL(V8 마이그레이션 적용)이 필요하며 DB_URL, DB_USERNAME, DB_PASSWORD 환경 변수를 사용합니다.
+ * 첫 실행 시 표시용 사용자(-1100 ~ -1001, 100명 x 1만 건)의 일기 100만 건을 채우고 이후 실행에서는 재사용합니다.
+ * (데이터 삭제: SEARCH_BENCH_CLEANUP=true 로 실행)
+ * 문장/단어/날씨/기분은 사용자(g % 100)와 서로 독립이 되도록 배치하여, 사용자마다 결과 수가 고르게 나뉨
+ * - 해변  : 약 1% 행(g % 97 = 0)에만 있는 드문 단어, 모든 사용자에 흩어져 있음
+ * - 산책  : 약 50% 행에 있는 흔한 단어 (관련도 정렬 비용이 가장 큼)
+ * - 바다 수영 : 두 단어 AND
+ * - 닷가  : 어절 중간 일치 (트라이그램 인덱스 경로)
+ * 실행: DB_URL=... ./gradlew jmh -Pjmh.includes=DiarySearchBenchmark
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class DiarySearchBenchmark {
+
+    private static final int USERS = 100;
+    private static final int DIARIES_PER_USER = 10_000;
+    private static final long FIRST_USER_ID = -1100L;
+    private static final int PAGE_SIZE = 20;
+
+    // 사용자 = g % 100 이므로, 다른 컬럼은 100 과 서로소인 주기(97, 3)나 g / 100 이상의 몫으로 정해 사용자와 무관하게 분포
+    private static final String SEED_SQL = """
+            INSERT INTO diaries (diary_id, user_id, pet_id, content, visibility, is_ai_gen, weather, mood, created_at, updated_at)
+            SELECT nextval('diaries_seq'),
+                   -1001 - (g % 100),
+                   g % 3,
+                   (ARRAY['오늘은 공원에서 산책을 했다.', '비가 와서 집에서 낮잠을 잤다.', '간식을 잔뜩 먹고 신이 났다.',
+                          '동물병원에 가서 예방접종을 맞았다.', '친구 강아지와 산책하며 뛰어놀았다.'])[1 + ((g / 100) % 5)]
+                       || ' ' ||
+                   (ARRAY['바다 근처 바닷가에서 수영도 했다.', '저녁에는 산책로를 한 바퀴 더 돌았다.', '새 장난감을 물어뜯었다.',
+                          '털이 많이 빠져서 빗질을 해줬다.', '햇볕 아래에서 한참 뒹굴었다.'])[1 + ((g / 500) % 5)]
+                       || CASE WHEN g % 97 = 0 THEN ' 해변에서 모래놀이를 처음 해봤다.' ELSE '' END,
+                   'PRIVATE', false,
+                   (ARRAY['맑음', '흐림', '비', '눈'])[1 + ((g / 300) % 4)],
+                   (ARRAY['행복', '평온', '신남', '피곤'])[1 + ((g / 700) % 4)],
+                   TIMESTAMP '2015-01-01' + (g / 100) * INTERVAL '1 hour',
+                   TIMESTAMP '2015-01-01' + (g / 100) * INTERVAL '1 hour'
+            FROM generate_series(0, ? - 1) AS g
+            """;
+
+    // 검색 Repository 만 띄우는 최소 컨텍스트 (웹/Kafka/Feign 없이 DataSource + JPA + Flyway, application.yaml 그대로 사용)
+    @SpringBootConfiguration
+    @EnableAutoConfiguration(exclude = KafkaAutoConfiguration.class)
+    @EntityScan(basePackageClasses = Diary.class)
+    @EnableJpaRepositories(basePackageClasses = DiaryQueryRepository.class)
+    static class SearchContext {
+    }
+
+    @Param({"해변", "산책", "바다 수영", "닷가"})
+    private String keyword;
+
+    // 펫 필터 사용 여부 (선택 필터가 함께 걸린 경우)
+    @Param({"false", "true"})
+    private boolean petFilter;
+
+    private ConfigurableApplicationContext context;
+    private DiaryQueryRepository diaryQueryRepository;
+    private SearchKeyword parsed;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        String url = System.getenv("DB_URL");
+        if (url == null || url.isBlank()) {
+            throw new IllegalStateException("DB_URL 환경 변수가 필요합니다.");
+        }
+        context = new SpringApplicationBuilder(SearchContext.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .properties("spring.jpa.show-sql=false")
+                .run();
+        diaryQueryRepository = context.getBean(DiaryQueryRepository.class);
+
+        seedIfNeeded(context.getBean(DataSource.class));
+        parsed = SearchKeyword.parse(keyword);
+    }
+
+    private void seedIfNeeded(DataSource dataSource) throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(
+                         "SELECT count(*) FROM diaries WHERE user_id BETWEEN " + FIRST_USER_ID + " AND " + (FIRST_USER_ID + USERS - 1))) {
+                rs.next();
+                if (rs.getLong(1) >= (long) USERS * DIARIES_PER_USER) {
+                    return;
+                }
+            }
+            try (Statement statement = connection.createStatement();
+                 PreparedStatement seed = connection.prepareStatement(SEED_SQL)) {
+                statement.executeUpdate("DELETE FROM diaries WHERE user_id BETWEEN " + FIRST_USER_ID + " AND " + (FIRST_USER_ID + USERS - 1));
+                seed.setInt(1, USERS * DIARIES_PER_USER);
+                seed.executeUpdate();
+                statement.execute("ANALYZE diaries");
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        try {
+            if (Boolean.parseBoolean(System.getenv("SEARCH_BENCH_CLEANUP"))) {
+                try (Connection connection = context.getBean(DataSource.class).getConnection();
+                     Statement statement = connection.createStatement()) {
+                    statement.executeUpdate("DELETE FROM diaries WHERE user_id BETWEEN " + FIRST_USER_ID + " AND " + (FIRST_USER_ID + USERS - 1));
+                }
+            }
+        } finally {
+            context.close();
+        }
+    }
+
+    // DiaryQueryServiceImpl.searchDiaries 의 첫 페이지 조회와 같은 인자 (size + 1 건으로 다음 페이지 여부 판단)
+    @Benchmark
+    public int searchFirstPage() {
+        long userId = FIRST_USER_ID + ThreadLocalRandom.current().nextInt(USERS);
+        return diaryQueryRepository.searchDiaries(userId, parsed.text(), parsed.tsQuery(), parsed.likePattern(),
+                petFilter ? 1L : null, null, null, null, null, null, null, PAGE_SIZE + 1).size();
+    }
+}
@@ -0,0 +1,110 @@
+package com.petlog.record.benchmark;
+
+import com.sun.net.httpserver.HttpServer;
+import feign.Client;
+import feign.Feign;
+import feign.Param;
+import feign.RequestLine;
+import feign.Retryer;
+import feign.hc5.ApacheHttp5Client;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feign HTTP 클라이언트 연결 재사용 비교 (로컬 스텁 서버 대상)
+ * - jdk-default  : Feign 기본 HttpURLConnection (JDK keep-alive 캐시, 목적지당 5개 - http.maxConnections)
+ * - hc5-no-reuse : Apache HttpClient 5, 연결 재사용 끔 (매 호출 TCP 핸드셰이크 = 풀링 없음)
+ * - hc5-pooled   : Apache HttpClient 5 커넥션 풀 (application.yaml 과 같은 크기)
+ * Throughput = calls/s, SampleTime 결과의 p0.99 = p99 지연 시간
+ * 실행: ./gradlew jmh -Pjmh.includes=FeignClientPoolingBenchmark
+ * (hc5-no-reuse 는 TIME_WAIT 소켓이 많이 쌓이므로 반복 실행 시 잠시 간격을 둘 것)
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Threads(16) // 동시 요청 (요청 스레드들이 같은 대상 서비스를 호출하는 상황)
+@Fork(1)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+public class FeignClientPoolingBenchmark {
+
+    @Param({"jdk-default", "hc5-no-reuse", "hc5-pooled"})
+    private String client;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private CloseableHttpClient httpClient;
+    private StubUserApi api;
+
+    interface StubUserApi {
+        @RequestLine("GET /api/users/{userId}")
+        String getUserInfo(@Param("userId") Long userId);
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        // 사용자 서비스 응답을 흉내내는 스텁 (지연 없음 -> 연결 비용 차이만 드러남)
+        byte[] body = "{\"userId\":1,\"username\":\"petlover\",\"status\":\"ACTIVE\"}".getBytes(StandardCharsets.UTF_8);
+        serverExecutor = Executors.newFixedThreadPool(64);
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        server.createContext("/api/users", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        api = Feign.builder()
+                .client(newClient())
+                .retryer(Retryer.NEVER_RETRY)
+                .target(StubUserApi.class, "http://localhost:" + server.getAddress().getPort());
+    }
+
+    private Client newClient() {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(200)
+                .setMaxConnPerRoute(50)
+                .build();
+        switch (client) {
+            case "hc5-pooled" -> {
+                httpClient = HttpClients.custom().setConnectionManager(connectionManager).build();
+                return new ApacheHttp5Client(httpClient);
+            }
+            case "hc5-no-reuse" -> {
+                httpClient = HttpClients.custom()
+                        .setConnectionManager(connectionManager)
+                        .setConnectionReuseStrategy((request, response, context) -> false)
+                        .build();
+                return new ApacheHttp5Client(httpClient);
+            }
+            default -> {
+                return new Client.Default(null, null);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (httpClient != null) {
+            httpClient.close();
+        }
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public String getUserInfo() {
+        return api.getUserInfo(1L);
+    }
+}
@@ -0,0 +1,108 @@
+package com.petlog.record.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.petlog.record.dto.response.RecapResponse;
+import com.petlog.record.entity.Recap;
+import com.petlog.record.entity.RecapHighlight;
+import com.petlog.record.entity.RecapStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리캡 DTO 변환 / JSON 직렬화 벤치마크
+ * 실행: ./gradlew jmh  (gc 프로파일러로 gc.alloc.rate.norm = 호출당 할당 바이트 확인)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RecapMappingBenchmark {
+
+    // 리캡 1건당 하이라이트 수 (1 ~ 최대 20)
+    @Param({"1", "5", "20"})
+    private int highlightCount;
+
+    // 목록 조회 시 한 번에 변환하는 카드 수
+    private static final int LIST_SIZE = 20;
+
+    private Recap recap;
+    private List<Recap> recaps;
+    private RecapResponse.Detail detail;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        recap = newRecap(1L);
+
+        recaps = new ArrayList<>();
+        for (long id = 1; id <= LIST_SIZE; id++) {
+            recaps.add(newRecap(id));
+        }
+
+        detail = RecapResponse.Detail.fromEntity(recap);
+
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private Recap newRecap(Long recapId) {
+        LocalDateTime now = LocalDateTime.of(2024, 4, 1, 0, 0);
+        Recap newRecap = Recap.builder()
+                .recapId(recapId)
+                .petId(1L)
+                .userId(1L)
+                .title("2024년 3월의 추억")
+                .summary("산책을 많이 다녀서 즐거웠던 한 달!")
+                .periodStart(LocalDate.of(2024, 3, 1))
+                .periodEnd(LocalDate.of(2024, 3, 31))
+                .mainImageUrl("https://bucket.s3.region.amazonaws.com/recap-cover.jpg")
+                .momentCount(45)
+                .status(RecapStatus.GENERATED)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+
+        for (int i = 0; i < highlightCount; i++) {
+            newRecap.addHighlight(RecapHighlight.builder()
+                    .title("하이라이트 " + i)
+                    .content("생애 처음 보는 눈에 신나서 한참을 뛰어다녔어요.")
+                    .build());
+        }
+        return newRecap;
+    }
+
+    @Benchmark
+    public RecapResponse.Detail recapDetailFromEntity() {
+        return RecapResponse.Detail.fromEntity(recap);
+    }
+
+    @Benchmark
+    public RecapResponse.Simple recapSimpleFromEntity() {
+        return RecapResponse.Simple.fromEntity(recap);
+    }
+
+    @Benchmark
+    public byte[] recapDetailToJson() throws Exception {
+        return objectMapper.writeValueAsBytes(detail);
+    }
+
+    // 카드 목록 변환 + 직렬화 (목록 API 응답 경로 전체)
+    @Benchmark
+    public byte[] recapSimpleListToJson() throws Exception {
+        List<RecapResponse.Simple> cards = new ArrayList<>(recaps.size());
+        for (Recap r : recaps) {
+            cards.add(RecapResponse.Simple.fromEntity(r));
+        }
+        return objectMapper.writeValueAsBytes(cards);
+    }
+}
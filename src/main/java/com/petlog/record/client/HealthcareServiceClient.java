@@ -0,0 +1,22 @@
+package com.petlog.record.client;
+
+import com.petlog.record.dto.client.HealthSummaryResponse;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.time.LocalDate;
+
+@FeignClient(name = "healthcare-service", url = "${external.healthcare-service.url}")
+public interface HealthcareServiceClient {
+
+    /**
+     * 펫의 기간별 건강 지표 평균 조회 (리캡 상세용)
+     */
+    @GetMapping("/api/health/pets/{petId}/summary")
+    HealthSummaryResponse getHealthSummary(@PathVariable("petId") Long petId,
+                                           @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                           @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to);
+}
@@ -0,0 +1,28 @@
+package com.petlog.record.client;
+
+import com.petlog.record.dto.client.HealthSummaryResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Slf4j
+@Component
+@Primary // [중요] 실제 FeignClient 대신 이 빈을 우선적으로 주입함
+@Profile({"test", "local-test"}) // 로컬 테스트 환경에서만 활성화
+public class MockHealthcareServiceClient implements HealthcareServiceClient {
+
+    @Override
+    public HealthSummaryResponse getHealthSummary(Long petId, LocalDate from, LocalDate to) {
+        log.info("[Mock] HealthcareServiceClient: 건강 지표 조회 요청 (petId={}, {} ~ {})", petId, from, to);
+        return HealthSummaryResponse.builder()
+                .petId(petId)
+                .avgHeartRate(85)
+                .avgStepCount(5400)
+                .avgSleepTime(12.5)
+                .avgWeight(5.2)
+                .build();
+    }
+}
@@ -6,6 +6,8 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Slf4j
 @Component
 @Primary // [중요] 실제 FeignClient 대신 이 빈을 우선적으로 주입함
@@ -30,4 +32,16 @@ public class MockUserServiceClient implements UserServiceClient {
                 .statusMessage("테스트 중입니다.")
                 .build();
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<Long> getFollowerIds(Long userId, int limit) {
+        log.info("[Mock] UserServiceClient: 팔로워 목록 조회 요청 (userId={}) -> 빈 목록 반환", userId);
+        return List.of();
+    }
+
+    @Override
+    public List<Long> getFollowingIds(Long userId) {
+        log.info("[Mock] UserServiceClient: 팔로잉 목록 조회 요청 (userId={}) -> 빈 목록 반환", userId);
+        return List.of();
+    }
+}
@@ -4,6 +4,9 @@ import com.petlog.record.dto.client.UserClientResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
 
 @FeignClient(name = "user-service", url = "${external.user-service.url}")
 public interface UserServiceClient {
@@ -19,4 +22,16 @@ public interface UserServiceClient {
      */
     @GetMapping("/api/users/{userId}")
     UserClientResponse getUserInfo(@PathVariable("userId") Long userId);
-}
\ No newline at end of file
+
+    /**
+     * 팔로워 ID 목록 조회 (피드 팬아웃용, 최대 limit 명)
+     */
+    @GetMapping("/api/users/{userId}/followers/ids")
+    List<Long> getFollowerIds(@PathVariable("userId") Long userId, @RequestParam("limit") int limit);
+
+    /**
+     * 팔로잉 ID 목록 조회 (피드 읽기용)
+     */
+    @GetMapping("/api/users/{userId}/followings/ids")
+    List<Long> getFollowingIds(@PathVariable("userId") Long userId);
+}
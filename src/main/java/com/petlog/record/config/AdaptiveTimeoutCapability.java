@@ -0,0 +1,141 @@
+package com.petlog.record.config;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 지연 시간 백분위 기반 Feign 읽기 타임아웃
+ * 클라이언트별 최근 응답 시간(슬라이딩 윈도우)의 p99 x 배수를 읽기 타임아웃으로 사용합니다.
+ * - 평소 빠른 의존성이 멈추면 설정값(최대 5초 등)까지 기다리지 않고 p99 기준으로 빨리 실패
+ * - 타임아웃도 응답 시간으로 기록하므로 의존성이 전반적으로 느려지면 타임아웃도 따라 늘어남 (설정값이 상한)
+ * - 표본이 부족한 기동 직후에는 설정된 readTimeout을 그대로 사용
+ */
+public class AdaptiveTimeoutCapability implements Capability {
+
+    private final MeterRegistry meterRegistry;
+    private final int windowSize;
+    private final int minSamples;
+    private final double multiplier;
+    private final long minTimeoutMillis;
+
+    private final Map<String, LatencyWindow> windows = new ConcurrentHashMap<>();
+
+    public AdaptiveTimeoutCapability(MeterRegistry meterRegistry, int windowSize, int minSamples,
+                                     double multiplier, Duration minTimeout) {
+        this.meterRegistry = meterRegistry;
+        this.windowSize = windowSize;
+        this.minSamples = minSamples;
+        this.multiplier = multiplier;
+        this.minTimeoutMillis = minTimeout.toMillis();
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> execute(client, request, options);
+    }
+
+    // 현재 적용 중인 읽기 타임아웃 (지표/테스트용)
+    public long currentReadTimeoutMillis(String clientName, long configuredMillis) {
+        LatencyWindow window = windows.get(clientName);
+        return window != null ? window.timeoutMillis(configuredMillis) : configuredMillis;
+    }
+
+    private Response execute(Client delegate, Request request, Request.Options options) throws IOException {
+        LatencyWindow window = windows.computeIfAbsent(clientName(request), this::register);
+
+        // 설정된 readTimeout은 상한으로만 사용
+        long readTimeoutMillis = window.timeoutMillis(options.readTimeoutMillis());
+        window.lastConfiguredMillis = options.readTimeoutMillis();
+        Request.Options adaptive = new Request.Options(
+                options.connectTimeoutMillis(), TimeUnit.MILLISECONDS,
+                readTimeoutMillis, TimeUnit.MILLISECONDS,
+                options.isFollowRedirects());
+
+        long startedAt = System.nanoTime();
+        try {
+            return delegate.execute(request, adaptive);
+        } finally {
+            window.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        }
+    }
+
+    private static String clientName(Request request) {
+        if (request.requestTemplate() != null && request.requestTemplate().feignTarget() != null) {
+            return request.requestTemplate().feignTarget().name();
+        }
+        return request.url();
+    }
+
+    private LatencyWindow register(String clientName) {
+        LatencyWindow window = new LatencyWindow(windowSize);
+        Gauge.builder("feign.client.latency.p99", window, w -> w.p99Millis)
+                .tag("client", clientName)
+                .baseUnit("milliseconds")
+                .description("최근 응답 시간 p99")
+                .register(meterRegistry);
+        Gauge.builder("feign.client.adaptive.read-timeout", window, w -> w.timeoutMillis(w.lastConfiguredMillis))
+                .tag("client", clientName)
+                .baseUnit("milliseconds")
+                .description("현재 적용 중인 적응형 읽기 타임아웃")
+                .register(meterRegistry);
+        return window;
+    }
+
+    // 클라이언트별 최근 응답 시간 링 버퍼 (p99는 일정 건수마다 재계산하여 요청 경로 비용을 낮춤)
+    // synchronized 대신 ReentrantLock: 가상 스레드 모드에서 경합 시 캐리어 스레드가 고정(pinning)되지 않도록 함
+    private final class LatencyWindow {
+
+        private static final int RECOMPUTE_EVERY = 10;
+
+        private final long[] samples;
+        private int next;
+        private int count;
+        private int sinceRecompute;
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private volatile long p99Millis = -1;
+        private volatile long lastConfiguredMillis;
+
+        private LatencyWindow(int size) {
+            this.samples = new long[size];
+        }
+
+        private void record(long elapsedMillis) {
+            lock.lock();
+            try {
+                samples[next] = elapsedMillis;
+                next = (next + 1) % samples.length;
+                count = Math.min(count + 1, samples.length);
+                if (count >= minSamples && ++sinceRecompute >= RECOMPUTE_EVERY) {
+                    sinceRecompute = 0;
+                    long[] sorted = Arrays.copyOf(samples, count);
+                    Arrays.sort(sorted);
+                    p99Millis = sorted[(int) Math.ceil(sorted.length * 0.99) - 1];
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private long timeoutMillis(long configuredMillis) {
+            long p99 = p99Millis;
+            if (p99 < 0) {
+                return configuredMillis;
+            }
+            long adaptive = (long) Math.ceil(p99 * multiplier);
+            return Math.min(configuredMillis, Math.max(minTimeoutMillis, adaptive));
+        }
+    }
+}
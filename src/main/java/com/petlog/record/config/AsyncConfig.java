@@ -0,0 +1,108 @@
+package com.petlog.record.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    // 외부 서비스(Feign) 호출을 병렬로 보내기 위한 전용 실행기
+    // 두 모드 모두 동시 호출 수를 max-concurrency 로 제한하고, 넘치면 기다리거나 호출 스레드에서 실행하지 않고 즉시 거절
+    // (TaskRejectedException -> 호출한 쪽이 건강 지표 생략(null) / EXTERNAL_API_ERROR 로 처리)
+    // 호출 스레드에서 실행하면 원격 호출이 요청 스레드를 잡고 지연 예산(completeOnTimeout)도 벗어나기 때문
+    // - 기본 모드: core = max 인 고정 풀 + 짧은 대기 큐 (ThreadPoolExecutor 는 큐가 가득 차야 core 이상으로 늘어나므로
+    //   core 를 max 보다 작게 두면 상한까지 늘어나기 전에 큐에 쌓임)
+    // - 가상 스레드 모드(spring.threads.virtual.enabled=true, Java 21): 호출마다 가상 스레드 생성, 동시 실행 수만 제한
+    @Bean(name = "externalCallExecutor")
+    public AsyncTaskExecutor externalCallExecutor(Environment environment,
+                                                  @Value("${diary.external-call.max-concurrency:64}") int maxConcurrency,
+                                                  @Value("${diary.external-call.queue-capacity:32}") int queueCapacity) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("external-call-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(maxConcurrency);
+            executor.setRejectTasksWhenLimitReached(true);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("external-call-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // 리캡 자동 생성 전용 스레드 풀
+    // 집계는 DB 읽기 위주의 긴 작업이므로 동시 실행 수를 작게 제한하여 커넥션 풀을 API 요청과 나눠 씀
+    // (동시성 상한이 DB 커넥션이므로 가상 스레드 모드에서도 대기 큐가 있는 고정 풀을 유지)
+    @Bean(name = "recapExecutor")
+    public ThreadPoolTaskExecutor recapExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("recap-gen-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        // 종료 시 진행 중인 생성 작업이 끝날 때까지 잠시 대기 (중단된 건은 WAITING으로 남아 재요청 가능)
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    // 월간 리캡 배치 워커 풀
+    // 워커 1개 = DB 커넥션 1개를 점유하므로 Hikari 최대 풀 크기보다 충분히 작게 유지
+    @Bean(name = "recapBatchExecutor")
+    public ThreadPoolTaskExecutor recapBatchExecutor(@Value("${recap.batch.workers:4}") int workers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(10_000);
+        executor.setThreadNamePrefix("recap-batch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    // 피드 팬아웃 전용 스레드 풀
+    // 팔로워 조회(원격) + 타임라인 적재를 일기 작성 요청과 분리
+    @Bean(name = "feedFanoutExecutor")
+    public ThreadPoolTaskExecutor feedFanoutExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(5000);
+        executor.setThreadNamePrefix("feed-fanout-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // 사용자/펫 기록 일괄 삭제 전용 스레드 풀
+    // 삭제 청크는 쓰기 락을 잡으므로 동시 실행 수를 작게 유지하여 API 요청의 쓰기와 경합을 줄임
+    @Bean(name = "purgeExecutor")
+    public ThreadPoolTaskExecutor purgeExecutor(@Value("${diary.purge.workers:2}") int workers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(10_000);
+        executor.setThreadNamePrefix("purge-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
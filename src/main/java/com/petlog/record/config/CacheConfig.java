@@ -0,0 +1,39 @@
+package com.petlog.record.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Spring Cache 활성화
+ * 캐시 구현체는 spring.cache.type 으로 선택합니다.
+ * - 단일 노드: caffeine (기본, 프로세스 내 로컬 캐시)
+ * - 다중 노드: redis 등 분산 캐시로 교체 (spring-boot-starter-data-redis 추가 후 spring.cache.type=redis)
+ * 서비스 코드는 CacheManager 추상화만 사용하므로 구현체 교체 시 수정이 필요 없습니다.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // 다이어리 스타일 캐시 (key: "userId:petId")
+    public static final String DIARY_STYLE_CACHE = "diaryStyles";
+
+    // 지난 기간 건강 지표 캐시 (key: "petId:periodStart:periodEnd")
+    public static final String HEALTH_SUMMARY_CACHE = "healthSummaries";
+
+    // 지난 기간 집계는 바뀌지 않으므로 공용 spec(10분)보다 길게 유지하는 전용 설정으로 등록
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> healthSummaryCacheCustomizer() {
+        return cacheManager -> cacheManager.registerCustomCache(HEALTH_SUMMARY_CACHE,
+                Caffeine.newBuilder()
+                        .maximumSize(50_000)
+                        .expireAfterWrite(Duration.ofHours(24))
+                        .recordStats()
+                        .build());
+    }
+}
@@ -0,0 +1,35 @@
+package com.petlog.record.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Feign 커넥션 풀 지표 노출
+ * 풀 설정 자체는 spring.cloud.openfeign.httpclient.* (application.yaml) 에서 관리합니다.
+ * /actuator/metrics/httpcomponents.httpclient.pool.* 로 대여/대기/유휴 연결 수 확인
+ */
+@Configuration
+public class FeignHttpClientConfig {
+
+    private final ObjectProvider<PoolingHttpClientConnectionManager> connectionManagers;
+    private final MeterRegistry meterRegistry;
+
+    public FeignHttpClientConfig(ObjectProvider<PoolingHttpClientConnectionManager> connectionManagers,
+                                 MeterRegistry meterRegistry) {
+        this.connectionManagers = connectionManagers;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // hc5 비활성화(spring.cloud.openfeign.httpclient.hc5.enabled=false) 시에는 풀 빈이 없으므로 건너뜀
+    @EventListener(ApplicationReadyEvent.class)
+    public void bindConnectionPoolMetrics() {
+        connectionManagers.ifAvailable(connectionManager ->
+                new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "feign")
+                        .bindTo(meterRegistry));
+    }
+}
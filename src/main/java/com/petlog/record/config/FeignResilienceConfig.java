@@ -0,0 +1,35 @@
+package com.petlog.record.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.openfeign.CircuitBreakerNameResolver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Feign 클라이언트 장애 격리 설정
+ * - 서킷 브레이커 / 벌크헤드: spring.cloud.openfeign.circuitbreaker.enabled + resilience4j.* (application.yaml)
+ * - 적응형 타임아웃: 모든 Feign 클라이언트에 AdaptiveTimeoutCapability 적용
+ */
+@Configuration
+public class FeignResilienceConfig {
+
+    // 서킷 브레이커/벌크헤드 이름을 메서드 단위가 아닌 Feign 클라이언트 이름(user-service 등)으로 통일
+    // -> resilience4j.circuitbreaker.instances.<client-name> 설정이 그대로 적용됨
+    @Bean
+    public CircuitBreakerNameResolver circuitBreakerNameResolver() {
+        return (feignClientName, target, method) -> feignClientName;
+    }
+
+    @Bean
+    public AdaptiveTimeoutCapability adaptiveTimeoutCapability(
+            MeterRegistry meterRegistry,
+            @Value("${diary.feign.adaptive-timeout.window-size:200}") int windowSize,
+            @Value("${diary.feign.adaptive-timeout.min-samples:20}") int minSamples,
+            @Value("${diary.feign.adaptive-timeout.multiplier:3.0}") double multiplier,
+            @Value("${diary.feign.adaptive-timeout.min-timeout:200ms}") Duration minTimeout) {
+        return new AdaptiveTimeoutCapability(meterRegistry, windowSize, minSamples, multiplier, minTimeout);
+    }
+}
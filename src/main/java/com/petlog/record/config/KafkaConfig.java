@@ -0,0 +1,25 @@
+package com.petlog.record.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+@Configuration
+public class KafkaConfig {
+
+    @Value("${diary.kafka.topics.partitions:3}")
+    private int partitions;
+
+    // 토픽이 없으면 애플리케이션 기동 시 생성 (이미 있으면 무시)
+    @Bean
+    public NewTopic diaryEventsTopic(@Value("${diary.kafka.topics.diary-events}") String name) {
+        return TopicBuilder.name(name).partitions(partitions).build();
+    }
+
+    @Bean
+    public NewTopic recapEventsTopic(@Value("${diary.kafka.topics.recap-events}") String name) {
+        return TopicBuilder.name(name).partitions(partitions).build();
+    }
+}
@@ -1,15 +1,25 @@
 package com.petlog.record.controller;
 
 import com.petlog.record.dto.request.DiaryRequest;
+import com.petlog.record.dto.response.DiaryBulkResponse;
+import com.petlog.record.dto.response.DiaryImportResponse;
 import com.petlog.record.dto.response.DiaryResponse;
+import com.petlog.record.service.DiaryExportService;
+import com.petlog.record.service.DiaryImportService;
 import com.petlog.record.service.DiaryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.util.HashMap;
 import java.util.Map;
@@ -21,6 +31,8 @@ import java.util.Map;
 public class DiaryController {
 
     private final DiaryService diaryService;
+    private final DiaryExportService diaryExportService;
+    private final DiaryImportService diaryImportService;
 
     @Operation(summary = "다이어리 생성", description = "사용자 ID와 펫 ID를 기반으로 새로운 일기를 작성합니다. (회원 서비스 연동 검증 포함)")
     @PostMapping
@@ -39,6 +51,48 @@ public class DiaryController {
                 .body(response);
     }
 
+    @Operation(summary = "다이어리 벌크 생성", description = "여러 일기를 한 번에 작성합니다. (최대 1000건, 항목별 성공/실패 결과 반환)")
+    @PostMapping("/bulk")
+    public ResponseEntity<DiaryBulkResponse> createDiaries(@Valid @RequestBody DiaryRequest.BulkCreate request) {
+        return ResponseEntity.ok(diaryService.createDiaries(request.getDiaries()));
+    }
+
+    // 응답 본문은 MVC 비동기 스레드에서 DB 커서를 읽으며 바로 써 내려감 (요청 스레드 반환, spring.mvc.async.request-timeout 적용)
+    @Operation(summary = "다이어리 내보내기", description = "사용자의 모든 일기(이미지 정보 포함)를 한 줄에 한 건씩 JSON(NDJSON)으로 내려받습니다. format=zip 이면 압축 파일로 내려받습니다.")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportDiaries(@RequestParam Long userId,
+                                                               @RequestParam(defaultValue = "ndjson") String format) {
+        DiaryExportService.Format exportFormat = DiaryExportService.Format.from(format);
+        // 자리가 없으면 여기서 429 로 거절 (본문을 쓰기 시작한 뒤에는 상태 코드를 바꿀 수 없음)
+        DiaryExportService.Slot slot = diaryExportService.acquireSlot();
+        StreamingResponseBody body = out -> {
+            try (slot) {
+                diaryExportService.export(userId, exportFormat, out);
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("diaries-" + userId + "." + exportFormat.extension())
+                        .build().toString())
+                .body(body);
+    }
+
+    // 요청 본문을 InputStream 으로 받아 읽는 만큼 바로 적재 (파일 전체를 메모리에 올리지 않음)
+    @Operation(summary = "다이어리 가져오기", description = "내보내기 형식의 NDJSON(한 줄에 일기 하나)을 청크 단위로 검증하여 대량 적재합니다. 중단된 경우 응답의 jobId와 같은 파일을 다시 보내면 마지막으로 커밋된 줄 다음부터 이어서 적재합니다.")
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<DiaryImportResponse> importDiaries(@RequestParam(required = false) Long jobId,
+                                                             InputStream body) throws IOException {
+        return ResponseEntity.ok(diaryImportService.importDiaries(jobId, body));
+    }
+
+    @Operation(summary = "다이어리 가져오기 작업 조회", description = "가져오기 작업의 상태와 커밋된 줄 수, 누적 적재/실패 건수를 조회합니다.")
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<DiaryImportResponse> getImportJob(@PathVariable Long jobId) {
+        return ResponseEntity.ok(diaryImportService.getJob(jobId));
+    }
+
     @Operation(summary = "다이어리 상세 조회", description = "다이어리 ID를 통해 일기의 상세 내용을 조회합니다.")
     @GetMapping("/{diaryId}")
     public ResponseEntity<DiaryResponse> getDiary(@PathVariable Long diaryId) {
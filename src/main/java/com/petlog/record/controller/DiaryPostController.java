@@ -0,0 +1,87 @@
+package com.petlog.record.controller;
+
+import com.petlog.record.dto.request.DiaryPostRequest;
+import com.petlog.record.dto.response.CursorPageResponse;
+import com.petlog.record.dto.response.DiaryPostResponse;
+import com.petlog.record.service.DiaryPostService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+
+@Tag(name = "Diary Post API", description = "다이어리 게시글 작성 및 타임라인 API")
+@RestController
+@RequestMapping("/api/diary-posts")
+@RequiredArgsConstructor
+public class DiaryPostController {
+
+    private final DiaryPostService diaryPostService;
+
+    @Operation(summary = "게시글 작성", description = "이미지 URL 목록과 함께 다이어리 게시글을 작성합니다. (이미지 최대 20장, 회원 서비스 연동 검증 포함)")
+    @PostMapping
+    public ResponseEntity<Map<String, Object>> createPost(@Valid @RequestBody DiaryPostRequest.Create request) {
+        Long postId = diaryPostService.createPost(request);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("postId", postId);
+        response.put("message", "게시글이 성공적으로 등록되었습니다.");
+
+        return ResponseEntity
+                .created(URI.create("/api/diary-posts/" + postId))
+                .body(response);
+    }
+
+    @Operation(summary = "게시글 상세 조회", description = "게시글 ID로 게시글을 조회합니다.")
+    @GetMapping("/{postId}")
+    public ResponseEntity<DiaryPostResponse> getPost(@PathVariable Long postId) {
+        return ResponseEntity.ok(diaryPostService.getPost(postId));
+    }
+
+    @Operation(summary = "게시글 수정", description = "게시글 내용, 이미지 목록, 위치를 부분 수정합니다. (이미지 목록은 전달 시 통째로 교체)")
+    @PatchMapping("/{postId}")
+    public ResponseEntity<Void> updatePost(@PathVariable Long postId,
+                                           @Valid @RequestBody DiaryPostRequest.Update request) {
+        diaryPostService.updatePost(postId, request);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "게시글 삭제", description = "게시글을 삭제합니다.")
+    @DeleteMapping("/{postId}")
+    public ResponseEntity<Void> deletePost(@PathVariable Long postId) {
+        diaryPostService.deletePost(postId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "사용자 타임라인 조회", description = "사용자가 작성한 게시글을 최신순으로 커서 기반 페이지 조회합니다. (size 최대 50)")
+    @GetMapping("/users/{userId}")
+    public ResponseEntity<CursorPageResponse<DiaryPostResponse>> getUserTimeline(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(diaryPostService.getUserTimeline(userId, cursor, size));
+    }
+
+    @Operation(summary = "펫 타임라인 조회", description = "특정 펫의 게시글을 최신순으로 커서 기반 페이지 조회합니다. (size 최대 50)")
+    @GetMapping("/pets/{petId}")
+    public ResponseEntity<CursorPageResponse<DiaryPostResponse>> getPetTimeline(
+            @PathVariable Long petId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(diaryPostService.getPetTimeline(petId, cursor, size));
+    }
+
+    @Operation(summary = "이미지 포함 게시글 조회", description = "특정 이미지 URL을 포함한 게시글을 최신순으로 커서 기반 페이지 조회합니다. (size 최대 50)")
+    @GetMapping("/by-image")
+    public ResponseEntity<CursorPageResponse<DiaryPostResponse>> getPostsContainingImage(
+            @RequestParam String imageUrl,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(diaryPostService.getPostsContainingImage(imageUrl, cursor, size));
+    }
+}
@@ -1,15 +1,21 @@
 package com.petlog.record.controller;
 
+import com.petlog.record.dto.request.DiaryRequest;
+import com.petlog.record.dto.response.CursorPageResponse;
+import com.petlog.record.dto.response.DiaryCalendarResponse;
 import com.petlog.record.dto.response.DiaryResponse;
+import com.petlog.record.dto.response.DiarySearchResponse;
 import com.petlog.record.service.DiaryQueryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 
 @Tag(name = "Diary Query API", description = "다이어리 조회(캘린더/보관함) API") // 컨트롤러 설명 추가
@@ -29,10 +35,32 @@ public class DiaryQueryController {
         return ResponseEntity.ok(diaryQueryService.getDiariesByDate(userId, date));
     }
 
+    // === 캘린더 월간 요약 API ===
+    @Operation(summary = "캘린더 월간 요약 조회", description = "특정 사용자의 한 달 동안 날짜별 일기 수, 대표 이미지, 기분을 한 번에 조회합니다.")
+    @GetMapping("/calendar/monthly")
+    public ResponseEntity<DiaryCalendarResponse> getMonthlySummary(
+            @RequestParam Long userId,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth yearMonth) {
+        return ResponseEntity.ok(diaryQueryService.getMonthlySummary(userId, yearMonth));
+    }
+
     // === AI 다이어리 보관함 조회 API ===
-    @Operation(summary = "AI 다이어리 보관함 조회", description = "특정 사용자가 AI를 통해 생성한 다이어리 목록(isAiGen=true)을 조회합니다.")
+    @Operation(summary = "AI 다이어리 보관함 조회", description = "특정 사용자가 AI를 통해 생성한 다이어리 목록(isAiGen=true)을 최신순으로 커서 기반 페이지 조회합니다. (size 최대 50)")
     @GetMapping("/ai-archive")
-    public ResponseEntity<List<DiaryResponse>> getAiDiaries(@RequestParam Long userId) {
-        return ResponseEntity.ok(diaryQueryService.getAiDiaries(userId));
+    public ResponseEntity<CursorPageResponse<DiaryResponse>> getAiDiaries(
+            @RequestParam Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(diaryQueryService.getAiDiaries(userId, cursor, size));
+    }
+
+    // === 일기 본문 검색 API ===
+    @Operation(summary = "다이어리 본문 검색", description = "특정 사용자의 일기 본문을 검색어로 찾아 관련도순으로 커서 기반 페이지 조회합니다. 펫/기분/날씨/작성일 범위로 좁힐 수 있습니다. (size 최대 50)")
+    @GetMapping("/search")
+    public ResponseEntity<CursorPageResponse<DiarySearchResponse>> searchDiaries(
+            @Valid @ModelAttribute DiaryRequest.Search condition,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(diaryQueryService.searchDiaries(condition, cursor, size));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,28 @@
+package com.petlog.record.controller;
+
+import com.petlog.record.dto.response.CursorPageResponse;
+import com.petlog.record.dto.response.DiaryResponse;
+import com.petlog.record.service.FeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Feed API", description = "팔로잉 일기 피드 API")
+@RestController
+@RequestMapping("/api/feeds")
+@RequiredArgsConstructor
+public class FeedController {
+
+    private final FeedService feedService;
+
+    @Operation(summary = "피드 조회", description = "조회자 본인과 팔로잉 사용자의 공개(PUBLIC/FOLLOWER) 일기를 최신순으로 커서 기반 페이지 조회합니다. (size 최대 50)")
+    @GetMapping("/{viewerId}")
+    public ResponseEntity<CursorPageResponse<DiaryResponse>> getFeed(
+            @PathVariable Long viewerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(feedService.getFeed(viewerId, cursor, size));
+    }
+}
@@ -0,0 +1,58 @@
+package com.petlog.record.controller;
+
+import com.petlog.record.exception.BusinessException;
+import com.petlog.record.exception.ErrorCode;
+import com.petlog.record.scheduler.AccountPurgeJob;
+import com.petlog.record.scheduler.PurgeProgress;
+import com.petlog.record.scheduler.PurgeTarget;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Tag(name = "Purge API", description = "삭제된 사용자/펫의 기록 일괄 삭제 및 진행 상황 조회 API (운영용)")
+@RestController
+@RequestMapping("/api/purges")
+@RequiredArgsConstructor
+public class PurgeController {
+
+    private final AccountPurgeJob accountPurgeJob;
+
+    @Operation(summary = "사용자 기록 일괄 삭제", description = "사용자의 일기/이미지/리캡/스타일/게시글을 비동기로 모두 삭제합니다. 같은 사용자의 작업이 실행 중이면 그 작업을 돌려줍니다.")
+    @PostMapping("/users/{userId}")
+    public ResponseEntity<Map<String, Object>> purgeUser(@PathVariable Long userId) {
+        return ResponseEntity.accepted().body(toResponse(accountPurgeJob.trigger(PurgeTarget.USER, userId)));
+    }
+
+    @Operation(summary = "펫 기록 일괄 삭제", description = "펫의 일기/이미지/리캡/스타일/게시글을 비동기로 모두 삭제합니다. 같은 펫의 작업이 실행 중이면 그 작업을 돌려줍니다.")
+    @PostMapping("/pets/{petId}")
+    public ResponseEntity<Map<String, Object>> purgePet(@PathVariable Long petId) {
+        return ResponseEntity.accepted().body(toResponse(accountPurgeJob.trigger(PurgeTarget.PET, petId)));
+    }
+
+    @Operation(summary = "일괄 삭제 진행 상황 조회", description = "테이블별 누적 삭제 행 수와 상태를 조회합니다. (완료 후 일정 시간 동안만 보관)")
+    @GetMapping("/{jobId}")
+    public ResponseEntity<Map<String, Object>> getProgress(@PathVariable String jobId) {
+        PurgeProgress progress = accountPurgeJob.getProgress(jobId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.OPERATION_NOT_ALLOWED, "실행 기록이 없는 삭제 작업입니다."));
+        return ResponseEntity.ok(toResponse(progress));
+    }
+
+    private Map<String, Object> toResponse(PurgeProgress progress) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("jobId", progress.getJobId());
+        response.put("target", progress.getTarget());
+        response.put("targetId", progress.getTargetId());
+        response.put("status", progress.getStatus());
+        response.put("deletedRows", progress.deletedRowsSnapshot());
+        response.put("chunks", progress.getChunks().get());
+        response.put("lastError", progress.getLastError());
+        response.put("startedAt", progress.getStartedAt());
+        response.put("completedAt", progress.getCompletedAt());
+        return response;
+    }
+}
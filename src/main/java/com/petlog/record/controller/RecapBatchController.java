@@ -0,0 +1,59 @@
+package com.petlog.record.controller;
+
+import com.petlog.record.entity.RecapBatchCheckpoint;
+import com.petlog.record.exception.BusinessException;
+import com.petlog.record.exception.ErrorCode;
+import com.petlog.record.scheduler.MonthlyRecapBatchJob;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+
+@Tag(name = "Recap Batch API", description = "월간 리캡 배치 수동 실행 및 진행 상황 조회 API (운영용)")
+@RestController
+@RequestMapping("/api/recaps/batch")
+@RequiredArgsConstructor
+public class RecapBatchController {
+
+    private final MonthlyRecapBatchJob monthlyRecapBatchJob;
+
+    @Operation(summary = "월간 리캡 배치 실행", description = "지정한 월의 리캡 배치를 비동기로 실행합니다. 중단된 배치는 체크포인트부터 이어서 처리합니다.")
+    @PostMapping("/monthly")
+    public ResponseEntity<Map<String, Object>> runMonthly(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth yearMonth,
+            @RequestParam(defaultValue = "false") boolean restart) {
+        if (!monthlyRecapBatchJob.trigger(yearMonth, restart)) {
+            throw new BusinessException(ErrorCode.OPERATION_NOT_ALLOWED, "월간 리캡 배치가 이미 실행 중입니다.");
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("yearMonth", yearMonth.toString());
+        response.put("message", "월간 리캡 배치 실행이 요청되었습니다.");
+        return ResponseEntity.accepted().body(response);
+    }
+
+    @Operation(summary = "월간 리캡 배치 진행 상황 조회", description = "체크포인트 기준 누적 처리 건수와 상태를 조회합니다.")
+    @GetMapping("/monthly")
+    public ResponseEntity<Map<String, Object>> getMonthlyStatus(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth yearMonth) {
+        RecapBatchCheckpoint checkpoint = monthlyRecapBatchJob.getCheckpoint(yearMonth)
+                .orElseThrow(() -> new BusinessException(ErrorCode.OPERATION_NOT_ALLOWED, "실행 기록이 없는 월입니다."));
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("yearMonth", yearMonth.toString());
+        response.put("status", checkpoint.getStatus());
+        response.put("processedCount", checkpoint.getProcessedCount());
+        response.put("generatedCount", checkpoint.getGeneratedCount());
+        response.put("skippedCount", checkpoint.getSkippedCount());
+        response.put("failedCount", checkpoint.getFailedCount());
+        response.put("startedAt", checkpoint.getStartedAt());
+        response.put("completedAt", checkpoint.getCompletedAt());
+        return ResponseEntity.ok(response);
+    }
+}
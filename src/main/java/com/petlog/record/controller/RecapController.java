@@ -1,19 +1,25 @@
 package com.petlog.record.controller;
 
 import com.petlog.record.dto.request.RecapRequest;
+import com.petlog.record.dto.response.CursorPageResponse;
 import com.petlog.record.dto.response.RecapResponse;
+import com.petlog.record.entity.RecapStatus;
 import com.petlog.record.service.RecapService;
+import com.petlog.record.util.ListVersion;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 @Tag(name = "Recap API", description = "월간 리캡 생성 및 조회 API")
 @RestController
@@ -23,6 +29,9 @@ public class RecapController {
 
     private final RecapService recapService;
 
+    // 클라이언트가 캐시하되 매번 ETag로 재검증 (사용자별 데이터이므로 공유 캐시 금지)
+    private static final CacheControl LIST_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     // 리캡 임시 생성
     @Operation(summary = "리캡 생성", description = "특정 기간의 기록을 바탕으로 리캡을 생성하고 알림을 발송합니다.")
     @PostMapping
@@ -36,6 +45,23 @@ public class RecapController {
         return ResponseEntity.created(URI.create("/api/recaps/" + recapId)).body(response);
     }
 
+    // 리캡 자동 생성 (서버가 기간 내 일기를 집계하여 비동기 생성)
+    @Operation(summary = "리캡 자동 생성", description = "펫과 기간을 지정하면 서버가 일기를 집계하여 리캡을 생성합니다. 생성 전까지는 WAITING 상태로 조회됩니다.")
+    @PostMapping("/generate")
+    public ResponseEntity<Map<String, Object>> generateRecap(@Valid @RequestBody RecapRequest.Generate request) {
+        Long recapId = recapService.generateRecap(request);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("recapId", recapId);
+        response.put("status", RecapStatus.WAITING);
+        response.put("message", "리캡 생성이 요청되었습니다. 완료되면 알림이 발송됩니다.");
+
+        // 202 Accepted: 생성은 비동기로 진행되며 Location에서 상태 확인 가능
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/recaps/" + recapId))
+                .body(response);
+    }
+
     // 상세 조회
     @Operation(summary = "리캡 상세 조회", description = "리캡 ID를 통해 상세 내용을 조회합니다.")
     @GetMapping("/{recapId}")
@@ -43,17 +69,42 @@ public class RecapController {
         return ResponseEntity.ok(recapService.getRecap(recapId));
     }
 
-    // 사용자별 전체 리캡 조회 (카드 리스트)
-    @Operation(summary = "사용자별 리캡 목록 조회", description = "특정 사용자의 모든 리캡 목록을 조회합니다.")
+    // 사용자별 리캡 조회 (카드 리스트, 커서 기반 페이지)
+    @Operation(summary = "사용자별 리캡 목록 조회",
+            description = "특정 사용자의 리캡 목록을 최신순으로 페이지 조회합니다. 응답의 nextCursor로 다음 페이지를 요청하며, "
+                    + "If-None-Match / If-Modified-Since 헤더를 보내면 변경이 없을 때 304를 반환합니다.")
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<RecapResponse.Simple>> getAllRecaps(@PathVariable Long userId) {
-        return ResponseEntity.ok(recapService.getAllRecaps(userId));
+    public ResponseEntity<CursorPageResponse<RecapResponse.Simple>> getAllRecaps(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest webRequest) {
+        ListVersion version = recapService.getAllRecapsVersion(userId);
+        return conditionalList(webRequest, version, version.etag("user", userId, cursor, size),
+                () -> recapService.getAllRecaps(userId, cursor, size));
     }
 
-    // 펫별 리캡 조회 (카드 리스트)
-    @Operation(summary = "펫별 리캡 목록 조회", description = "특정 펫의 리캡 목록을 조회합니다.")
+    // 펫별 리캡 조회 (카드 리스트, 커서 기반 페이지)
+    @Operation(summary = "펫별 리캡 목록 조회",
+            description = "특정 펫의 리캡 목록을 최신순으로 페이지 조회합니다. (조건부 요청 시 변경이 없으면 304)")
     @GetMapping("/pet/{petId}")
-    public ResponseEntity<List<RecapResponse.Simple>> getRecapsByPet(@PathVariable Long petId) {
-        return ResponseEntity.ok(recapService.getRecapsByPet(petId));
+    public ResponseEntity<CursorPageResponse<RecapResponse.Simple>> getRecapsByPet(
+            @PathVariable Long petId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest webRequest) {
+        ListVersion version = recapService.getRecapsByPetVersion(petId);
+        return conditionalList(webRequest, version, version.etag("pet", petId, cursor, size),
+                () -> recapService.getRecapsByPet(petId, cursor, size));
+    }
+
+    // 목록 버전이 클라이언트 캐시와 같으면 목록 조회/직렬화 없이 304 반환
+    // checkNotModified가 ETag / Last-Modified 응답 헤더를 설정함
+    private <T> ResponseEntity<T> conditionalList(WebRequest webRequest, ListVersion version, String etag,
+                                                  Supplier<T> body) {
+        if (webRequest.checkNotModified(etag, version.lastModifiedMillis())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(LIST_CACHE_CONTROL).build();
+        }
+        return ResponseEntity.ok().cacheControl(LIST_CACHE_CONTROL).body(body.get());
     }
-}
\ No newline at end of file
+}
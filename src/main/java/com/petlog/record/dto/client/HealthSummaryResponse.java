@@ -0,0 +1,23 @@
+package com.petlog.record.dto.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+// 헬스케어 서비스 기간 집계 응답 (리캡 상세의 건강 지표에 병합)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HealthSummaryResponse implements Serializable { // 분산 캐시로 교체 시 직렬화 필요
+
+    private Long petId;
+
+    private Integer avgHeartRate;   // 평균 심박수 (BPM)
+    private Integer avgStepCount;   // 일평균 걸음 수
+    private Double avgSleepTime;    // 일평균 수면 시간 (시간)
+    private Double avgWeight;       // 평균 몸무게 (kg)
+}
@@ -0,0 +1,151 @@
+package com.petlog.record.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.petlog.record.entity.ImageSource;
+import com.petlog.record.entity.Visibility;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class DiaryImportRequest {
+
+    // [Request] 가져오기 NDJSON 한 줄 (내보내기 형식과 동일, diaryId 등 모르는 필드는 무시)
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @Schema(description = "일기 가져오기 NDJSON 한 줄")
+    public static class Line {
+
+        // weather, mood, image_url 컬럼 길이 (VARCHAR(255))
+        private static final int MAX_VARCHAR_LENGTH = 255;
+
+        @Schema(description = "작성자(사용자) ID", example = "1")
+        private Long userId;
+
+        @Schema(description = "펫 ID", example = "1")
+        private Long petId;
+
+        @Schema(description = "일기 내용", example = "오늘 산책 너무 즐거웠어!")
+        private String content;
+
+        @Schema(description = "공개 범위 (생략 시 PRIVATE)", example = "PRIVATE")
+        private String visibility;
+
+        @Schema(description = "AI 생성 여부 (생략 시 false)", example = "false")
+        private Boolean isAiGen;
+
+        @Schema(description = "날씨", example = "맑음")
+        private String weather;
+
+        @Schema(description = "기분", example = "행복")
+        private String mood;
+
+        @Schema(description = "작성 일시 (생략 시 가져온 시각)")
+        private LocalDateTime createdAt;
+
+        @Schema(description = "수정 일시 (생략 시 작성 일시)")
+        private LocalDateTime updatedAt;
+
+        @Schema(description = "이미지 목록")
+        private List<Image> images;
+
+        /**
+         * 형식 검증 (원격 호출 없이 판단 가능한 항목만)
+         * @return 오류 메시지, 문제가 없으면 null
+         */
+        public String validate() {
+            if (userId == null || petId == null) {
+                return "userId, petId는 필수입니다.";
+            }
+            if (visibility != null && !isEnumConstant(Visibility.class, visibility)) {
+                return "지원하지 않는 공개 범위입니다: " + visibility;
+            }
+            // 길이 초과/NUL 문자는 COPY 단계에서 청크 전체를 실패시키므로 줄 단위로 미리 거름
+            String textError = checkText("content", content, Integer.MAX_VALUE);
+            if (textError == null) {
+                textError = checkText("weather", weather, MAX_VARCHAR_LENGTH);
+            }
+            if (textError == null) {
+                textError = checkText("mood", mood, MAX_VARCHAR_LENGTH);
+            }
+            if (textError != null) {
+                return textError;
+            }
+            if (images == null) {
+                return null;
+            }
+            for (Image image : images) {
+                if (image == null || image.getImageUrl() == null || image.getImageUrl().isBlank()) {
+                    return "imageUrl은 필수입니다.";
+                }
+                String urlError = checkText("imageUrl", image.getImageUrl(), MAX_VARCHAR_LENGTH);
+                if (urlError != null) {
+                    return urlError;
+                }
+                if (image.getSource() != null && !isEnumConstant(ImageSource.class, image.getSource())) {
+                    return "지원하지 않는 이미지 출처입니다: " + image.getSource();
+                }
+            }
+            return null;
+        }
+
+        public Visibility resolveVisibility() {
+            return visibility != null ? Visibility.valueOf(visibility) : Visibility.PRIVATE;
+        }
+
+        public List<Image> imagesOrEmpty() {
+            return images != null ? images : List.of();
+        }
+
+        // PostgreSQL 문자열 컬럼은 NUL 문자(0x00)를 저장할 수 없음
+        private static String checkText(String field, String value, int maxLength) {
+            if (value == null) {
+                return null;
+            }
+            if (value.length() > maxLength) {
+                return field + "은(는) " + maxLength + "자를 넘을 수 없습니다.";
+            }
+            if (value.indexOf('\u0000') >= 0) {
+                return field + "에 NUL 문자를 포함할 수 없습니다.";
+            }
+            return null;
+        }
+
+        private static <E extends Enum<E>> boolean isEnumConstant(Class<E> type, String name) {
+            try {
+                Enum.valueOf(type, name);
+                return true;
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+        }
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @Schema(description = "가져오기 이미지 정보")
+    public static class Image {
+
+        @Schema(description = "이미지 URL", example = "https://bucket.s3.region.amazonaws.com/image.jpg")
+        private String imageUrl;
+
+        @Schema(description = "이미지 순서 (생략 시 목록 순서, 1부터)", example = "1")
+        private Integer imgOrder;
+
+        @Schema(description = "대표 이미지 여부 (생략 시 첫 번째 이미지)", example = "true")
+        private Boolean mainImage;
+
+        @Schema(description = "이미지 출처 (생략 시 GALLERY)", example = "GALLERY")
+        private String source;
+    }
+}
@@ -0,0 +1,81 @@
+package com.petlog.record.dto.request;
+
+import com.petlog.record.entity.DiaryPost;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class DiaryPostRequest {
+
+    public static final int MAX_IMAGES = 20;
+
+    // [Request] 게시글 생성
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "다이어리 게시글 생성 요청 DTO")
+    public static class Create {
+
+        @NotNull(message = "작성자 ID는 필수입니다.")
+        @Schema(description = "작성자(사용자) ID", example = "1")
+        private Long userId;
+
+        @Schema(description = "관련 펫 ID (선택)", example = "1")
+        private Long petId;
+
+        @Schema(description = "다이어리 스타일 ID (선택)", example = "3")
+        private Long styleId;
+
+        @Schema(description = "게시글 내용", example = "주말에 한강 공원 다녀왔어요!")
+        private String content;
+
+        @Size(max = MAX_IMAGES, message = "이미지는 최대 20장까지 첨부할 수 있습니다.")
+        @Schema(description = "이미지 URL 목록 (순서 유지)", example = "[\"https://bucket.s3.ap-northeast-2.amazonaws.com/post1.jpg\"]")
+        private List<@NotBlank String> imageUrls;
+
+        @Size(max = 255, message = "위치 정보는 255자 이하로 입력해주세요.")
+        @Schema(description = "위치 정보", example = "서울 여의도 한강공원")
+        private String location;
+
+        // DTO -> DiaryPost Entity 변환
+        public DiaryPost toEntity() {
+            return DiaryPost.builder()
+                    .userId(this.userId)
+                    .petId(this.petId)
+                    .styleId(this.styleId)
+                    .content(this.content)
+                    .imageUrls(this.imageUrls != null ? new ArrayList<>(this.imageUrls) : new ArrayList<>())
+                    .location(this.location)
+                    .build();
+        }
+    }
+
+    // [Request] 게시글 수정 (null 인 항목은 기존 값 유지)
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "다이어리 게시글 수정 요청 DTO")
+    public static class Update {
+
+        @Schema(description = "수정할 내용", example = "내용 수정됨")
+        private String content;
+
+        @Size(max = MAX_IMAGES, message = "이미지는 최대 20장까지 첨부할 수 있습니다.")
+        @Schema(description = "교체할 이미지 URL 목록")
+        private List<@NotBlank String> imageUrls;
+
+        @Size(max = 255, message = "위치 정보는 255자 이하로 입력해주세요.")
+        @Schema(description = "위치 정보", example = "서울 뚝섬 한강공원")
+        private String location;
+    }
+}
@@ -5,9 +5,15 @@ import com.petlog.record.entity.DiaryImage;
 import com.petlog.record.entity.ImageSource;
 import com.petlog.record.entity.Visibility;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.springframework.format.annotation.DateTimeFormat;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public class DiaryRequest {
@@ -68,6 +74,23 @@ public class DiaryRequest {
         }
     }
 
+    // [Request] 일기 벌크 생성 (마이그레이션 / AI 생성 작업용)
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "일기 벌크 생성 요청 DTO")
+    public static class BulkCreate {
+
+        public static final int MAX_ITEMS = 1000;
+
+        @Valid
+        @NotEmpty(message = "생성할 일기 목록은 비어 있을 수 없습니다.")
+        @Size(max = MAX_ITEMS, message = "한 번에 최대 1000건까지 생성할 수 있습니다.")
+        @Schema(description = "생성할 일기 목록 (요청 순서대로 결과 반환)")
+        private List<Create> diaries;
+    }
+
     @Data
     @Builder
     @NoArgsConstructor
@@ -88,6 +111,40 @@ public class DiaryRequest {
         private String mood;
     }
 
+    // [Request] 일기 본문 검색 조건 (쿼리 파라미터 바인딩)
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "일기 검색 조건 DTO")
+    public static class Search {
+
+        @NotNull(message = "사용자 ID는 필수입니다.")
+        @Schema(description = "검색할 일기의 작성자(사용자) ID", example = "1")
+        private Long userId;
+
+        @NotBlank(message = "검색어는 필수입니다.")
+        @Size(max = 100, message = "검색어는 100자 이하로 입력해주세요.")
+        @Schema(description = "검색어 (공백으로 구분된 단어는 모두 포함, 단어 앞부분 일치)", example = "해변 산책")
+        private String keyword;
+
+        @Schema(description = "펫 ID", example = "1")
+        private Long petId;
+
+        @Schema(description = "기분", example = "행복")
+        private String mood;
+
+        @Schema(description = "날씨", example = "맑음")
+        private String weather;
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        @Schema(description = "작성일 시작 (포함)", example = "2023-01-01")
+        private LocalDate from;
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        @Schema(description = "작성일 종료 (포함)", example = "2024-12-31")
+        private LocalDate to;
+    }
+
     // [Inner DTO] 이미지 요청용
     @Data
     @Builder
@@ -78,6 +78,59 @@ public class RecapRequest {
         }
     }
 
+    // [Request] 리캡 자동 생성 (서버가 기간 내 일기를 집계)
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "RecapGenerateRequest", description = "리캡 자동 생성 요청 DTO")
+    public static class Generate {
+
+        @NotNull(message = "펫 ID는 필수입니다.")
+        @Schema(description = "리캡을 생성할 펫 ID", example = "1")
+        private Long petId;
+
+        @NotNull(message = "사용자 ID는 필수입니다.")
+        @Schema(description = "사용자 ID", example = "1")
+        private Long userId;
+
+        @NotNull(message = "집계 기간 시작일은 필수입니다.")
+        @Schema(description = "집계 기간 시작일", example = "2024-03-01")
+        private LocalDate periodStart;
+
+        @NotNull(message = "집계 기간 종료일은 필수입니다.")
+        @Schema(description = "집계 기간 종료일 (포함)", example = "2024-03-31")
+        private LocalDate periodEnd;
+
+        @Schema(description = "리캡 제목 (미입력 시 기간으로 자동 생성)", example = "2024년 3월의 추억")
+        private String title;
+
+        // 집계 전 '생성 대기 중' 카드로 노출될 엔티티
+        public Recap toWaitingEntity() {
+            return Recap.builder()
+                    .userId(this.userId)
+                    .petId(this.petId)
+                    .title(this.title != null && !this.title.isBlank() ? this.title : defaultTitle(periodStart, periodEnd))
+                    .periodStart(this.periodStart)
+                    .periodEnd(this.periodEnd)
+                    .momentCount(0)
+                    .status(RecapStatus.WAITING)
+                    .build();
+        }
+
+        // 예: "2024년 3월의 추억", "2024년 1-2월의 추억", "2023년 12월 - 2024년 1월의 추억"
+        public static String defaultTitle(LocalDate start, LocalDate end) {
+            if (start.getYear() != end.getYear()) {
+                return String.format("%d년 %d월 - %d년 %d월의 추억",
+                        start.getYear(), start.getMonthValue(), end.getYear(), end.getMonthValue());
+            }
+            if (start.getMonth() != end.getMonth()) {
+                return String.format("%d년 %d-%d월의 추억", start.getYear(), start.getMonthValue(), end.getMonthValue());
+            }
+            return String.format("%d년 %d월의 추억", start.getYear(), start.getMonthValue());
+        }
+    }
+
     @Data
     @Builder
     @NoArgsConstructor
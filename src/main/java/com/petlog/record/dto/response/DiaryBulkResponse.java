@@ -0,0 +1,84 @@
+package com.petlog.record.dto.response;
+
+import com.petlog.record.exception.ErrorCode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "일기 벌크 생성 응답 DTO")
+public class DiaryBulkResponse {
+
+    @Schema(description = "요청 건수", example = "100")
+    private int requestedCount;
+
+    @Schema(description = "성공 건수", example = "98")
+    private int successCount;
+
+    @Schema(description = "실패 건수", example = "2")
+    private int failureCount;
+
+    @Schema(description = "처리 시간 (ms)", example = "350")
+    private long elapsedMillis;
+
+    @Schema(description = "요청 순서와 동일한 항목별 결과")
+    private List<Item> results;
+
+    public static DiaryBulkResponse of(List<Item> results, long elapsedMillis) {
+        int successCount = (int) results.stream().filter(Item::isSuccess).count();
+        return DiaryBulkResponse.builder()
+                .requestedCount(results.size())
+                .successCount(successCount)
+                .failureCount(results.size() - successCount)
+                .elapsedMillis(elapsedMillis)
+                .results(results)
+                .build();
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "벌크 생성 항목별 결과")
+    public static class Item {
+
+        @Schema(description = "요청 목록 내 위치 (0부터)", example = "0")
+        private int index;
+
+        @Schema(description = "성공 여부", example = "true")
+        private boolean success;
+
+        @Schema(description = "생성된 다이어리 ID (실패 시 null)", example = "101")
+        private Long diaryId;
+
+        @Schema(description = "실패 코드 (성공 시 null)", example = "PET_001")
+        private String errorCode;
+
+        @Schema(description = "실패 사유 (성공 시 null)", example = "존재하지 않는 펫입니다.")
+        private String message;
+
+        public static Item success(int index, Long diaryId) {
+            return Item.builder()
+                    .index(index)
+                    .success(true)
+                    .diaryId(diaryId)
+                    .build();
+        }
+
+        public static Item failure(int index, ErrorCode errorCode) {
+            return Item.builder()
+                    .index(index)
+                    .success(false)
+                    .errorCode(errorCode.getCode())
+                    .message(errorCode.getMessage())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.petlog.record.dto.response;
+
+import com.petlog.record.repository.projection.DiaryDailySummary;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "캘린더 월간 요약 응답 DTO")
+public class DiaryCalendarResponse {
+
+    @Schema(description = "조회 연월", example = "2024-03")
+    private String yearMonth;
+
+    @Schema(description = "해당 월 전체 일기 수", example = "12")
+    private Long totalCount;
+
+    @Schema(description = "일기가 있는 날짜별 요약 목록 (일기가 없는 날은 포함되지 않음)")
+    private List<Day> days;
+
+    public static DiaryCalendarResponse of(YearMonth yearMonth, List<DiaryDailySummary> summaries) {
+        List<Day> days = summaries.stream()
+                .map(Day::fromProjection)
+                .collect(Collectors.toList());
+
+        return DiaryCalendarResponse.builder()
+                .yearMonth(yearMonth.toString())
+                .totalCount(days.stream().mapToLong(Day::getDiaryCount).sum())
+                .days(days)
+                .build();
+    }
+
+    // [Inner DTO] 날짜별 요약
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "캘린더 날짜별 요약 DTO")
+    public static class Day {
+
+        @Schema(description = "날짜", example = "2024-03-05")
+        private LocalDate date;
+
+        @Schema(description = "해당 날짜 일기 수", example = "2")
+        private Long diaryCount;
+
+        @Schema(description = "썸네일로 사용할 대표 이미지 URL (가장 최근 일기 기준)", example = "https://bucket.s3.region.amazonaws.com/image.jpg")
+        private String mainImageUrl;
+
+        @Schema(description = "기분 (가장 최근 일기 기준)", example = "행복")
+        private String mood;
+
+        public static Day fromProjection(DiaryDailySummary summary) {
+            return Day.builder()
+                    .date(summary.getDiaryDate())
+                    .diaryCount(summary.getDiaryCount())
+                    .mainImageUrl(summary.getMainImageUrl())
+                    .mood(summary.getMood())
+                    .build();
+        }
+    }
+}
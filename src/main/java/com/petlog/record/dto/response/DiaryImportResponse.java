@@ -0,0 +1,67 @@
+package com.petlog.record.dto.response;
+
+import com.petlog.record.entity.DiaryImportJob;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "일기 가져오기 작업 상태 응답 DTO")
+public class DiaryImportResponse {
+
+    @Schema(description = "가져오기 작업 ID (실패 시 같은 파일과 함께 보내면 이어서 적재)", example = "7")
+    private Long jobId;
+
+    @Schema(description = "작업 상태 (RUNNING, COMPLETED, FAILED)", example = "COMPLETED")
+    private String status;
+
+    @Schema(description = "커밋된 입력 줄 수 (재개 시 이 줄 다음부터 처리)", example = "100000")
+    private long linesProcessed;
+
+    @Schema(description = "적재된 일기 수 (누적)", example = "99990")
+    private long importedCount;
+
+    @Schema(description = "적재된 이미지 수 (누적)", example = "150000")
+    private long imageCount;
+
+    @Schema(description = "검증에 실패해 건너뛴 줄 수 (누적)", example = "10")
+    private long failedCount;
+
+    @Schema(description = "최근 오류 예시 또는 중단 원인", example = "line 42: userId, petId는 필수입니다.")
+    private String lastError;
+
+    @Schema(description = "이번 요청의 처리 시간 (ms)", example = "8200")
+    private long elapsedMillis;
+
+    @Schema(description = "이번 요청의 적재 속도 (일기 rows/s)", example = "12193")
+    private long rowsPerSecond;
+
+    @Schema(description = "작업 시작 일시")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "작업 완료 일시")
+    private LocalDateTime completedAt;
+
+    public static DiaryImportResponse of(DiaryImportJob job, long importedThisRun, long elapsedMillis) {
+        return DiaryImportResponse.builder()
+                .jobId(job.getJobId())
+                .status(job.getStatus().name())
+                .linesProcessed(job.getLinesProcessed())
+                .importedCount(job.getImportedCount())
+                .imageCount(job.getImageCount())
+                .failedCount(job.getFailedCount())
+                .lastError(job.getLastError())
+                .elapsedMillis(elapsedMillis)
+                .rowsPerSecond(elapsedMillis > 0 ? importedThisRun * 1000 / elapsedMillis : 0)
+                .startedAt(job.getStartedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+}
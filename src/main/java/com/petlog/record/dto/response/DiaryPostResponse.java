@@ -0,0 +1,60 @@
+package com.petlog.record.dto.response;
+
+import com.petlog.record.entity.DiaryPost;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "다이어리 게시글 응답 DTO")
+public class DiaryPostResponse {
+
+    @Schema(description = "게시글 ID", example = "10")
+    private Long postId;
+
+    @Schema(description = "작성자(사용자) ID", example = "1")
+    private Long userId;
+
+    @Schema(description = "관련 펫 ID", example = "1")
+    private Long petId;
+
+    @Schema(description = "다이어리 스타일 ID", example = "3")
+    private Long styleId;
+
+    @Schema(description = "게시글 내용", example = "주말에 한강 공원 다녀왔어요!")
+    private String content;
+
+    @Schema(description = "이미지 URL 목록")
+    private List<String> imageUrls;
+
+    @Schema(description = "위치 정보", example = "서울 여의도 한강공원")
+    private String location;
+
+    @Schema(description = "작성일시", example = "2024-05-04T15:00:00")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "수정일시", example = "2024-05-04T15:30:00")
+    private LocalDateTime updatedAt;
+
+    public static DiaryPostResponse fromEntity(DiaryPost post) {
+        return DiaryPostResponse.builder()
+                .postId(post.getId())
+                .userId(post.getUserId())
+                .petId(post.getPetId())
+                .styleId(post.getStyleId())
+                .content(post.getContent())
+                .imageUrls(post.getImageUrls() != null ? List.copyOf(post.getImageUrls()) : List.of())
+                .location(post.getLocation())
+                .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.petlog.record.dto.response;
+
+import com.petlog.record.repository.projection.DiarySearchHit;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "다이어리 검색 결과 DTO")
+public class DiarySearchResponse {
+
+    @Schema(description = "다이어리 ID", example = "1")
+    private Long diaryId;
+
+    @Schema(description = "관련 펫 ID", example = "1")
+    private Long petId;
+
+    @Schema(description = "일기 내용", example = "오늘은 해변에서 처음으로 수영을 했다.")
+    private String content;
+
+    @Schema(description = "기분", example = "행복")
+    private String mood;
+
+    @Schema(description = "날씨", example = "맑음")
+    private String weather;
+
+    @Schema(description = "작성일시", example = "2023-07-15T10:00:00")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "관련도 점수 (높을수록 검색어와 가까움)", example = "0.35")
+    private Float score;
+
+    public static DiarySearchResponse fromHit(DiarySearchHit hit) {
+        return DiarySearchResponse.builder()
+                .diaryId(hit.getDiaryId())
+                .petId(hit.getPetId())
+                .content(hit.getContent())
+                .mood(hit.getMood())
+                .weather(hit.getWeather())
+                .createdAt(hit.getCreatedAt())
+                .score(hit.getScore())
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.petlog.record.dto.response;
 
 import com.petlog.record.entity.Recap;
 import com.petlog.record.entity.RecapHighlight;
+import com.petlog.record.repository.projection.RecapSimpleView;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -139,6 +140,21 @@ public class RecapResponse {
                     .updatedAt(recap.getUpdatedAt())
                     .build();
         }
+
+        // 프로젝션 -> DTO 변환 (목록 조회는 엔티티를 로딩하지 않음)
+        public static Simple fromView(RecapSimpleView view) {
+            return Simple.builder()
+                    .recapId(view.getRecapId())
+                    .title(view.getTitle())
+                    .mainImageUrl(view.getMainImageUrl())
+                    .momentCount(view.getMomentCount())
+                    .status(view.getStatus() != null ? view.getStatus().name() : null)
+                    .periodStart(view.getPeriodStart())
+                    .periodEnd(view.getPeriodEnd())
+                    .createdAt(view.getCreatedAt())
+                    .updatedAt(view.getUpdatedAt())
+                    .build();
+        }
     }
 
     // [Inner] 하이라이트
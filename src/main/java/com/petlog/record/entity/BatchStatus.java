@@ -0,0 +1,8 @@
+package com.petlog.record.entity;
+
+// 배치 작업 진행 상태
+public enum BatchStatus {
+    RUNNING,   // 진행 중 (중단 시 체크포인트부터 재개)
+    COMPLETED, // 완료
+    FAILED     // 중단됨 (원인 수정 후 체크포인트부터 재개 가능)
+}
@@ -14,11 +14,20 @@ import java.util.List;
 @Builder // 클래스 레벨로 이동: 모든 필드를 대상으로 빌더 생성 가능
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor // 빌더 패턴 사용 시 전체 생성자가 필요
-@Table(name = "DIARIES")
+// 인덱스의 실제 생성은 Flyway 마이그레이션(db/migration)에서 관리
+// AI 보관함용 부분 인덱스(idx_diaries_user_ai_created, WHERE is_ai_gen = true)는 JPA로 표현할 수 없어 V2 참조
+@Table(name = "DIARIES", indexes = {
+        @Index(name = "idx_diaries_user_created", columnList = "user_id, created_at"),
+        @Index(name = "idx_diaries_pet_created", columnList = "pet_id, created_at"),
+        @Index(name = "idx_diaries_pet_user_created", columnList = "pet_id, user_id, created_at")
+})
 public class Diary {
 
     // 일기 ID
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY는 INSERT마다 키를 즉시 받아와야 해서 JDBC 배치가 꺼지므로 시퀀스(50개 단위 pooled) 사용
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "diaries_seq_gen")
+    @SequenceGenerator(name = "diaries_seq_gen", sequenceName = "diaries_seq", allocationSize = 50)
     private Long diaryId;
 
     // 작성자 ID (FK) - 필수값
@@ -12,11 +12,15 @@ import java.time.LocalDateTime;
 @Builder // 클래스 레벨로 이동: 모든 필드를 빌더에 포함
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor // 추가: 빌더 패턴 사용 시 모든 필드를 받는 생성자가 필요
-@Table(name = "DIARY_IMAGES")
+@Table(name = "DIARY_IMAGES", indexes = {
+        @Index(name = "idx_diary_images_diary", columnList = "diary_id, img_order")
+})
 public class DiaryImage {
 
     // 이미지 ID
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "diary_images_seq_gen")
+    @SequenceGenerator(name = "diary_images_seq_gen", sequenceName = "diary_images_seq", allocationSize = 50)
     private Long imageId;
 
     // 일기 (FK) - 일기가 없는 이미지는 존재할 수 없음
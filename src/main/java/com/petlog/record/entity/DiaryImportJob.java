@@ -0,0 +1,86 @@
+package com.petlog.record.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일기 대량 가져오기 작업 체크포인트
+ * 입력 NDJSON 의 몇 번째 줄까지 커밋했는지 기록합니다. (청크 적재와 같은 트랜잭션에서 갱신)
+ * 실패한 작업은 같은 파일을 다시 올리면 linesProcessed 다음 줄부터 이어서 처리합니다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "diary_import_jobs")
+public class DiaryImportJob {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long jobId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BatchStatus status;
+
+    // 마지막으로 커밋된 입력 줄 번호 (1부터, 처음이면 0)
+    private long linesProcessed;
+
+    // === 누적 처리 건수 ===
+    private long importedCount;
+    private long imageCount;
+    private long failedCount;
+
+    // 최근 청크의 줄 단위 오류 예시 또는 작업 중단 원인
+    @Column(columnDefinition = "TEXT")
+    private String lastError;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    public static DiaryImportJob start() {
+        return DiaryImportJob.builder()
+                .status(BatchStatus.RUNNING)
+                .startedAt(LocalDateTime.now())
+                .build();
+    }
+
+    // 한 청크 적재 완료 후 체크포인트 전진
+    public void advance(long lastLine, long imported, long images, long failed, String errorSample) {
+        this.linesProcessed = lastLine;
+        this.importedCount += imported;
+        this.imageCount += images;
+        this.failedCount += failed;
+        if (errorSample != null) {
+            this.lastError = truncate(errorSample);
+        }
+    }
+
+    public void complete() {
+        this.status = BatchStatus.COMPLETED;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    public void fail(String reason) {
+        this.status = BatchStatus.FAILED;
+        this.lastError = truncate(reason);
+    }
+
+    // 중단된 작업 재개 (체크포인트와 누적 건수는 유지)
+    public void resume() {
+        this.status = BatchStatus.RUNNING;
+    }
+
+    private static String truncate(String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
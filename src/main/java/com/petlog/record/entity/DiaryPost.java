@@ -3,10 +3,13 @@ package com.petlog.record.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
-import org.hibernate.annotations.Type;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
 @Getter
@@ -14,7 +17,12 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Table(name = "diary_posts")
+// 인덱스의 실제 생성은 Flyway 마이그레이션(db/migration)에서 관리
+// 이미지 GIN 인덱스(idx_diary_posts_images, jsonb_path_ops)는 JPA로 표현할 수 없어 V9 참조
+@Table(name = "diary_posts", indexes = {
+        @Index(name = "idx_diary_posts_user_created_id", columnList = "user_id, created_at DESC, id DESC"),
+        @Index(name = "idx_diary_posts_pet_created_id", columnList = "pet_id, created_at DESC, id DESC")
+})
 public class DiaryPost {
 
     // 게시글 ID
@@ -39,10 +47,12 @@ public class DiaryPost {
     @Column(columnDefinition = "TEXT")
     private String content;
 
-    // 이미지 URL 배열 (JSON 타입으로 저장될 것으로 가정)
-    // PostgreSql의 JSONB 타입 또는 JSON 문자열로 처리
-    @Column(name = "images", columnDefinition = "JSON")
-    private String imagesJson; // 이미지 URL 배열을 JSON 문자열로 저장
+    // 이미지 URL 배열 (PostgreSQL JSONB)
+    // Hibernate JSON 매핑으로 읽고 쓸 때 List<String> <-> JSONB 변환 (사용처마다 JSON 문자열을 다시 파싱하지 않음)
+    @Builder.Default
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "images", columnDefinition = "jsonb")
+    private List<String> imageUrls = new ArrayList<>();
 
     // 위치 정보
     @Column(name = "location", length = 255)
@@ -50,9 +60,17 @@ public class DiaryPost {
 
     // 작성일
     @CreationTimestamp
+    @Column(updatable = false)
     private LocalDateTime createdAt;
 
     // 수정일
     @UpdateTimestamp
     private LocalDateTime updatedAt;
-}
\ No newline at end of file
+
+    // === [비즈니스 로직] ===
+    public void update(String content, List<String> imageUrls, String location) {
+        this.content = content;
+        this.imageUrls = new ArrayList<>(imageUrls);
+        this.location = location;
+    }
+}
@@ -13,7 +13,11 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Table(name = "diary_styles")
+// (user_id, pet_id) 유니크: pet_id가 NULL인 사용자 기본 스타일도 1개만 허용하도록
+// 실제 인덱스는 NULLS NOT DISTINCT 로 생성 (V4 마이그레이션, PostgreSQL 15+)
+@Table(name = "diary_styles", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_diary_styles_user_pet", columnNames = {"user_id", "pet_id"})
+})
 public class DiaryStyle {
 
     // 스타일 ID
@@ -0,0 +1,26 @@
+package com.petlog.record.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 피드 셀럽 계정 (팔로워 수가 feed.celebrity-threshold 를 넘어 쓰기 팬아웃을 생략하는 작성자)
+ * 메모리에만 두면 재시작 후 셀럽의 과거 일기가 어느 피드에도 보이지 않으므로 DB에 기록합니다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "feed_celebrities")
+public class FeedCelebrity {
+
+    @Id
+    private Long userId;
+
+    // 셀럽으로 표시된 시각
+    @Column(nullable = false)
+    private LocalDateTime markedAt;
+}
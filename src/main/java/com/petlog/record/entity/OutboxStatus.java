@@ -0,0 +1,7 @@
+package com.petlog.record.entity;
+
+// 아웃박스 전송 상태
+public enum OutboxStatus {
+    PENDING, // 전송 대기 (재시도 대기 포함)
+    FAILED   // 최대 재시도 횟수 초과 -> 운영자 확인 필요
+}
@@ -0,0 +1,83 @@
+package com.petlog.record.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관함(스토리지 서비스) 사진 전송 아웃박스
+ * 일기 저장과 같은 트랜잭션에서 적재되고, 커밋 이후 백그라운드 디스패처가 모아서 전송합니다.
+ * 전송 성공 시 행을 삭제하므로 테이블에는 미전송/실패 건만 남습니다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "photo_transfer_outbox", indexes = {
+        @Index(name = "idx_photo_outbox_status_next", columnList = "status, next_attempt_at")
+})
+public class PhotoTransferOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "photo_transfer_outbox_seq_gen")
+    @SequenceGenerator(name = "photo_transfer_outbox_seq_gen", sequenceName = "photo_transfer_outbox_seq", allocationSize = 50)
+    private Long outboxId;
+
+    // 사진이 포함된 일기 ID (추적용)
+    @Column(nullable = false)
+    private Long diaryId;
+
+    // 사진 소유 사용자 ID
+    @Column(nullable = false)
+    private Long userId;
+
+    // 전송할 이미지 경로
+    @Column(nullable = false)
+    private String imageUrl;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    // 전송 시도 횟수
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attemptCount = 0;
+
+    // 다음 전송 가능 시각 (재시도 백오프 / 처리 중 임대(lease) 만료 시각)
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 마지막 실패 사유
+    @Column(length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    // === [비즈니스 로직] ===
+
+    // 디스패처가 가져간 동안 다른 노드/주기가 중복 전송하지 않도록 임대 시각까지 미룸
+    public void lease(LocalDateTime leaseUntil) {
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    // 전송 실패 처리: 최대 횟수 초과 시 FAILED, 아니면 다음 시도 시각 예약
+    public void recordFailure(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+        this.attemptCount = this.attemptCount + 1;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        this.nextAttemptAt = nextAttemptAt;
+        if (this.attemptCount >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+        }
+    }
+}
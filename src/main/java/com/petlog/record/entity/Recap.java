@@ -15,7 +15,11 @@ import java.util.List;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Table(name = "RECAPS")
+@Table(name = "RECAPS", indexes = {
+        @Index(name = "idx_recaps_user_created_id", columnList = "user_id, created_at DESC, recap_id DESC"),
+        @Index(name = "idx_recaps_pet_created_id", columnList = "pet_id, created_at DESC, recap_id DESC"),
+        @Index(name = "idx_recaps_pet_period", columnList = "pet_id, user_id, period_start, period_end")
+})
 public class Recap {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -49,6 +53,7 @@ public class Recap {
     // === [하이라이트 목록 (1:N)] ===
     @Builder.Default
     @OneToMany(mappedBy = "recap", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("highlightId ASC") // fetch join 시에도 저장 순서(하이라이트 순위) 유지
     private List<RecapHighlight> highlights = new ArrayList<>();
 
     @CreationTimestamp
@@ -63,5 +68,27 @@ public class Recap {
         this.highlights.add(highlight);
         highlight.setRecap(this);
     }
+
+    // 자동 생성 완료: 집계 결과를 채우고 WAITING -> GENERATED
+    public void complete(String summary, String mainImageUrl, int momentCount, List<RecapHighlight> highlights) {
+        this.summary = summary;
+        this.mainImageUrl = mainImageUrl;
+        this.momentCount = momentCount;
+        this.highlights.clear();
+        highlights.forEach(this::addHighlight);
+        this.status = RecapStatus.GENERATED;
+    }
+
+    // 자동 생성 실패: WAITING -> FAILED
+    public void fail() {
+        this.status = RecapStatus.FAILED;
+    }
+
+    // 실패 건 재시도: FAILED -> WAITING (다른 상태는 그대로)
+    public void retry() {
+        if (this.status == RecapStatus.FAILED) {
+            this.status = RecapStatus.WAITING;
+        }
+    }
 }
 
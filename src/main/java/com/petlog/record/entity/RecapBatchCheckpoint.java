@@ -0,0 +1,95 @@
+package com.petlog.record.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 월간 리캡 배치 체크포인트
+ * 대상 (petId, userId)를 키 순서로 처리하면서 페이지가 끝날 때마다 마지막 키를 기록합니다.
+ * 프로세스가 중단되면 마지막 키 다음부터 이어서 처리합니다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "recap_batch_checkpoints")
+public class RecapBatchCheckpoint {
+
+    // 작업 키 (예: "monthly-recap:2024-03")
+    @Id
+    private String jobKey;
+
+    @Column(nullable = false)
+    private LocalDate periodStart;
+
+    @Column(nullable = false)
+    private LocalDate periodEnd;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BatchStatus status;
+
+    // 마지막으로 처리 완료한 대상 키 (처음이면 0)
+    @Column(nullable = false)
+    private Long lastPetId;
+
+    @Column(nullable = false)
+    private Long lastUserId;
+
+    // === 누적 처리 건수 ===
+    private long processedCount;
+    private long generatedCount;
+    private long skippedCount;
+    private long failedCount;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    public static RecapBatchCheckpoint start(String jobKey, LocalDate periodStart, LocalDate periodEnd) {
+        return RecapBatchCheckpoint.builder()
+                .jobKey(jobKey)
+                .periodStart(periodStart)
+                .periodEnd(periodEnd)
+                .status(BatchStatus.RUNNING)
+                .lastPetId(0L)
+                .lastUserId(0L)
+                .startedAt(LocalDateTime.now())
+                .build();
+    }
+
+    // 한 페이지 처리 완료 후 커서 전진
+    public void advance(Long lastPetId, Long lastUserId, long generated, long skipped, long failed) {
+        this.lastPetId = lastPetId;
+        this.lastUserId = lastUserId;
+        this.generatedCount += generated;
+        this.skippedCount += skipped;
+        this.failedCount += failed;
+        this.processedCount += generated + skipped + failed;
+    }
+
+    public void complete() {
+        this.status = BatchStatus.COMPLETED;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    // 완료된 기간을 처음부터 다시 실행 (이미 생성된 리캡은 멱등하게 건너뜀)
+    public void restart() {
+        this.status = BatchStatus.RUNNING;
+        this.lastPetId = 0L;
+        this.lastUserId = 0L;
+        this.processedCount = 0;
+        this.generatedCount = 0;
+        this.skippedCount = 0;
+        this.failedCount = 0;
+        this.startedAt = LocalDateTime.now();
+        this.completedAt = null;
+    }
+}
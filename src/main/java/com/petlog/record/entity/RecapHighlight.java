@@ -12,7 +12,9 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Table(name = "RECAP_HIGHLIGHTS")
+@Table(name = "RECAP_HIGHLIGHTS", indexes = {
+        @Index(name = "idx_recap_highlights_recap", columnList = "recap_id")
+})
 public class RecapHighlight {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -3,5 +3,6 @@ package com.petlog.record.entity;
 // 상태 관리 Enum
 public enum RecapStatus {
     GENERATED, // 생성 완료
-    WAITING    // 생성 대기 중 (스크린샷의 '생성 대기 중' 카드 대응)
+    WAITING,   // 생성 대기 중 (스크린샷의 '생성 대기 중' 카드 대응)
+    FAILED     // 자동 생성 실패 (재생성 요청 가능)
 }
@@ -0,0 +1,56 @@
+package com.petlog.record.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petlog.record.scheduler.AccountPurgeJob;
+import com.petlog.record.scheduler.PurgeTarget;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원/펫 서비스의 삭제 이벤트를 받아 해당 기록 데이터 일괄 삭제를 시작합니다.
+ * 메시지는 JSON 문자열({"userId": 1} / {"petId": 1})로 받아 직접 파싱하여 발행 측 타입 헤더에 의존하지 않습니다.
+ * 삭제 작업은 멱등이므로 재전달(at-least-once)되어도 안전하며, 리스너는 작업을 넘기고 바로 반환합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountDeletedListener {
+
+    private final AccountPurgeJob accountPurgeJob;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = "${diary.kafka.topics.user-deleted}",
+            groupId = "${diary.purge.consumer-group}",
+            autoStartup = "${diary.purge.listener-enabled:true}")
+    public void onUserDeleted(String payload) {
+        trigger(PurgeTarget.USER, "userId", payload);
+    }
+
+    @KafkaListener(topics = "${diary.kafka.topics.pet-deleted}",
+            groupId = "${diary.purge.consumer-group}",
+            autoStartup = "${diary.purge.listener-enabled:true}")
+    public void onPetDeleted(String payload) {
+        trigger(PurgeTarget.PET, "petId", payload);
+    }
+
+    private void trigger(PurgeTarget target, String idField, String payload) {
+        Long targetId;
+        try {
+            JsonNode id = objectMapper.readTree(payload).path(idField);
+            targetId = id.canConvertToLong() ? id.asLong() : null;
+        } catch (JsonProcessingException e) {
+            targetId = null;
+        }
+        // 잘못된 메시지로 파티션이 막히지 않도록 로그만 남기고 넘어감
+        if (targetId == null) {
+            log.warn("삭제 이벤트 형식 오류로 무시 ({}): {}", target, payload);
+            return;
+        }
+        log.info("삭제 이벤트 수신 -> 기록 일괄 삭제 시작 ({}: {})", target, targetId);
+        accountPurgeJob.trigger(target, targetId);
+    }
+}
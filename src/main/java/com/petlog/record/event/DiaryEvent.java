@@ -0,0 +1,52 @@
+package com.petlog.record.event;
+
+import com.petlog.record.entity.Diary;
+import com.petlog.record.entity.Visibility;
+
+import java.time.LocalDateTime;
+
+/**
+ * 다이어리 생명주기 이벤트 (Kafka 발행용)
+ * 다운스트림(보관함/알림/검색) 서비스가 필요한 최소 필드만 담아 메시지 크기를 작게 유지합니다.
+ * 본문/이미지 등 상세 정보가 필요하면 diaryId로 조회 API를 호출합니다.
+ */
+public record DiaryEvent(
+        Type type,
+        Long diaryId,
+        Long userId,
+        Long petId,
+        Visibility visibility,
+        Boolean isAiGen,
+        LocalDateTime createdAt,
+        LocalDateTime occurredAt
+) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static DiaryEvent created(Diary diary) {
+        return of(Type.CREATED, diary);
+    }
+
+    public static DiaryEvent updated(Diary diary) {
+        return of(Type.UPDATED, diary);
+    }
+
+    public static DiaryEvent deleted(Diary diary) {
+        return of(Type.DELETED, diary);
+    }
+
+    private static DiaryEvent of(Type type, Diary diary) {
+        return new DiaryEvent(
+                type,
+                diary.getDiaryId(),
+                diary.getUserId(),
+                diary.getPetId(),
+                diary.getVisibility(),
+                diary.getIsAiGen(),
+                diary.getCreatedAt(),
+                LocalDateTime.now()
+        );
+    }
+}
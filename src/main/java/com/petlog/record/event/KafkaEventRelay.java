@@ -0,0 +1,52 @@
+package com.petlog.record.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 서비스 계층에서 발행한 도메인 이벤트를 트랜잭션 커밋 이후 Kafka로 전달합니다.
+ * 롤백된 변경은 발행되지 않으며, Kafka 장애가 API 응답 실패로 이어지지 않도록 전송 실패는 로그만 남깁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KafkaEventRelay {
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Value("${diary.kafka.topics.diary-events}")
+    private String diaryTopic;
+
+    @Value("${diary.kafka.topics.recap-events}")
+    private String recapTopic;
+
+    // 같은 일기의 이벤트 순서를 보장하기 위해 diaryId를 파티션 키로 사용
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDiaryEvent(DiaryEvent event) {
+        send(diaryTopic, String.valueOf(event.diaryId()), event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecapEvent(RecapEvent event) {
+        send(recapTopic, String.valueOf(event.recapId()), event);
+    }
+
+    private void send(String topic, String key, Object event) {
+        try {
+            kafkaTemplate.send(topic, key, event)
+                    .whenComplete((result, ex) -> {
+                        if (ex != null) {
+                            log.warn("Kafka 이벤트 발행 실패 (topic: {}, key: {}): {}", topic, key, ex.getMessage());
+                        }
+                    });
+        } catch (Exception e) {
+            // 메타데이터 조회 타임아웃(max.block.ms) 등 동기 예외
+            log.warn("Kafka 이벤트 발행 실패 (topic: {}, key: {}): {}", topic, key, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.petlog.record.event;
+
+import com.petlog.record.entity.Recap;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 리캡 생명주기 이벤트 (Kafka 발행용)
+ * 알림 서비스는 이 이벤트를 구독하여 "월간 리캡 도착" 알림을 보냅니다.
+ */
+public record RecapEvent(
+        Type type,
+        Long recapId,
+        Long userId,
+        Long petId,
+        String title,
+        LocalDate periodStart,
+        LocalDate periodEnd,
+        String status,
+        LocalDateTime occurredAt
+) {
+
+    public enum Type {
+        CREATED,
+        GENERATED // 자동 생성 엔진이 집계를 마친 시점
+    }
+
+    public static RecapEvent created(Recap recap) {
+        return of(Type.CREATED, recap);
+    }
+
+    public static RecapEvent generated(Recap recap) {
+        return of(Type.GENERATED, recap);
+    }
+
+    private static RecapEvent of(Type type, Recap recap) {
+        return new RecapEvent(
+                type,
+                recap.getRecapId(),
+                recap.getUserId(),
+                recap.getPetId(),
+                recap.getTitle(),
+                recap.getPeriodStart(),
+                recap.getPeriodEnd(),
+                recap.getStatus() != null ? recap.getStatus().name() : null,
+                LocalDateTime.now()
+        );
+    }
+}
@@ -0,0 +1,8 @@
+package com.petlog.record.event;
+
+/**
+ * 리캡 자동 생성 요청 (애플리케이션 내부 이벤트, Kafka로 발행하지 않음)
+ * WAITING 상태 리캡이 커밋된 이후 RecapGenerator가 비동기로 집계를 시작합니다.
+ */
+public record RecapGenerationRequested(Long recapId) {
+}
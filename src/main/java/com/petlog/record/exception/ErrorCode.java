@@ -30,6 +30,9 @@ public enum ErrorCode {
 
     // === [DIARY] 다이어리 관련 ===
     DIARY_NOT_FOUND("DIARY_001", "해당 일기를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    DIARY_POST_NOT_FOUND("DIARY_002", "해당 게시글을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    DIARY_IMPORT_JOB_NOT_FOUND("DIARY_003", "해당 가져오기 작업을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    DIARY_EXPORT_BUSY("DIARY_004", "진행 중인 내보내기가 많습니다. 잠시 후 다시 시도해 주세요.", HttpStatus.TOO_MANY_REQUESTS),
 
     // ===  리캡 관련 ===
     RECAP_NOT_FOUND("RECAP_001", "해당 리캡을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
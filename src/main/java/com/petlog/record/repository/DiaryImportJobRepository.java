@@ -0,0 +1,9 @@
+package com.petlog.record.repository;
+
+import com.petlog.record.entity.DiaryImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DiaryImportJobRepository extends JpaRepository<DiaryImportJob, Long> {
+}
@@ -1,16 +1,79 @@
 package com.petlog.record.repository;
 
 import com.petlog.record.entity.DiaryPost;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Repository
 public interface DiaryPostRepository extends JpaRepository<DiaryPost, Long> {
-    
-    // 필요하다면 여기에 커스텀 쿼리 메서드를 추가할 수 있습니다.
-    // 예: List<DiaryPost> findAllByUserIdAndPetId(Long userId, Long petId);
-    
-    // 이미지를 JSON 문자열로 저장하는 경우, 필요한 조회 쿼리 추가 가능
-}
\ No newline at end of file
+
+    // 1. 사용자 타임라인 첫 페이지 (최신순, idx_diary_posts_user_created_id)
+    // 이미지는 JSONB 컬럼이라 게시글 행과 함께 읽힘 (추가 조회 없음)
+    @Query("""
+            select p from DiaryPost p
+            where p.userId = :userId
+            order by p.createdAt desc, p.id desc
+            """)
+    List<DiaryPost> findUserTimeline(@Param("userId") Long userId, Limit limit);
+
+    // 2. 사용자 타임라인 다음 페이지 (커서 (createdAt, id) 이후)
+    @Query("""
+            select p from DiaryPost p
+            where p.userId = :userId
+              and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id))
+            order by p.createdAt desc, p.id desc
+            """)
+    List<DiaryPost> findUserTimelineBefore(@Param("userId") Long userId,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Limit limit);
+
+    // 3. 펫 타임라인 첫 페이지 (최신순, idx_diary_posts_pet_created_id)
+    @Query("""
+            select p from DiaryPost p
+            where p.petId = :petId
+            order by p.createdAt desc, p.id desc
+            """)
+    List<DiaryPost> findPetTimeline(@Param("petId") Long petId, Limit limit);
+
+    // 4. 펫 타임라인 다음 페이지
+    @Query("""
+            select p from DiaryPost p
+            where p.petId = :petId
+              and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id))
+            order by p.createdAt desc, p.id desc
+            """)
+    List<DiaryPost> findPetTimelineBefore(@Param("petId") Long petId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id,
+                                          Limit limit);
+
+    // 5. 특정 이미지 URL을 포함한 게시글 (JSONB 포함 연산자 @> -> GIN 인덱스 idx_diary_posts_images)
+    // jsonb_build_array 로 비교 대상을 만들어 URL 문자열의 JSON 이스케이프를 DB에 맡김
+    @Query(value = """
+            SELECT * FROM diary_posts p
+            WHERE p.images @> jsonb_build_array(CAST(:imageUrl AS text))
+            ORDER BY p.created_at DESC, p.id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<DiaryPost> findPostsContainingImage(@Param("imageUrl") String imageUrl, @Param("limit") int limit);
+
+    // 6. 이미지 포함 게시글 다음 페이지
+    @Query(value = """
+            SELECT * FROM diary_posts p
+            WHERE p.images @> jsonb_build_array(CAST(:imageUrl AS text))
+              AND (p.created_at < :createdAt OR (p.created_at = :createdAt AND p.id < :id))
+            ORDER BY p.created_at DESC, p.id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<DiaryPost> findPostsContainingImageBefore(@Param("imageUrl") String imageUrl,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") Long id,
+                                                   @Param("limit") int limit);
+}
@@ -1,7 +1,13 @@
 package com.petlog.record.repository;
 
 import com.petlog.record.entity.Diary;
+import com.petlog.record.repository.projection.DiaryDailySummary;
+import com.petlog.record.repository.projection.DiarySearchHit;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -11,8 +17,86 @@ import java.util.List;
 public interface DiaryQueryRepository extends JpaRepository<Diary, Long> {
 
     // 1. 캘린더용 날짜별 조회 (해당 날짜의 00:00:00 ~ 23:59:59 사이 데이터 검색)
+    // images를 fetch join으로 함께 조회하여 일기 건수만큼 추가 SELECT가 나가는 N+1 문제 방지
+    @EntityGraph(attributePaths = "images")
     List<Diary> findAllByUserIdAndCreatedAtBetween(Long userId, LocalDateTime start, LocalDateTime end);
 
-    // 2. AI 다이어리 보관함 조회 (isAiGen = true 인 것만)
-    List<Diary> findAllByUserIdAndIsAiGenOrderByCreatedAtDesc(Long userId, Boolean isAiGen);
-}
\ No newline at end of file
+    // 2. AI 다이어리 보관함 첫 페이지 조회 (isAiGen = true, 최신순)
+    // 컬렉션 fetch join + LIMIT은 메모리 페이징이 되므로 images는 default_batch_fetch_size로 IN 조회
+    @Query("""
+            select d from Diary d
+            where d.userId = :userId and d.isAiGen = true
+            order by d.createdAt desc, d.diaryId desc
+            """)
+    List<Diary> findAiDiaries(@Param("userId") Long userId, Limit limit);
+
+    // 3. AI 다이어리 보관함 다음 페이지 조회 (커서 (createdAt, diaryId) 이후 데이터만 검색)
+    @Query("""
+            select d from Diary d
+            where d.userId = :userId and d.isAiGen = true
+              and (d.createdAt < :createdAt or (d.createdAt = :createdAt and d.diaryId < :diaryId))
+            order by d.createdAt desc, d.diaryId desc
+            """)
+    List<Diary> findAiDiariesBefore(@Param("userId") Long userId,
+                                    @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("diaryId") Long diaryId,
+                                    Limit limit);
+
+    // 4. 캘린더 월간 요약 (일자별 일기 수 / 대표 이미지 / 기분을 GROUP BY 한 번으로 집계)
+    // Diary 엔티티를 로딩하지 않고 프로젝션으로 바로 매핑
+    @Query(value = """
+            SELECT CAST(d.created_at AS DATE) AS "diaryDate",
+                   COUNT(DISTINCT d.diary_id) AS "diaryCount",
+                   (ARRAY_AGG(d.mood ORDER BY d.created_at DESC) FILTER (WHERE d.mood IS NOT NULL))[1] AS "mood",
+                   (ARRAY_AGG(i.image_url ORDER BY d.created_at DESC) FILTER (WHERE i.image_url IS NOT NULL))[1] AS "mainImageUrl"
+            FROM diaries d
+            LEFT JOIN diary_images i ON i.diary_id = d.diary_id AND i.main_image = true
+            WHERE d.user_id = :userId
+              AND d.created_at >= :start
+              AND d.created_at < :end
+            GROUP BY CAST(d.created_at AS DATE)
+            ORDER BY "diaryDate"
+            """, nativeQuery = true)
+    List<DiaryDailySummary> summarizeByDay(@Param("userId") Long userId,
+                                           @Param("start") LocalDateTime start,
+                                           @Param("end") LocalDateTime end);
+
+    // 5. 본문 전문 검색 (관련도순 + (score, diaryId) 커서)
+    // tsvector 접두사 일치(idx_diaries_content_tsv) 또는 부분 문자열 일치(idx_diaries_content_trgm)를 BitmapOr 로 결합
+    // 선택 필터는 CAST(... IS NULL) 로 타입을 명시하여 null 바인딩 시에도 파라미터 타입 추론이 실패하지 않도록 함
+    // 점수 계산은 필터를 통과한 행에만, 페이지 경계 비교는 계산된 score 로 수행
+    @Query(value = """
+            SELECT r.diary_id AS "diaryId", r.pet_id AS "petId", r.content AS "content",
+                   r.mood AS "mood", r.weather AS "weather", r.created_at AS "createdAt", r.score AS "score"
+            FROM (
+                SELECT d.diary_id, d.pet_id, d.content, d.mood, d.weather, d.created_at,
+                       CAST(ts_rank_cd(d.content_tsv, q.query) + word_similarity(:keyword, coalesce(d.content, '')) AS real) AS score
+                FROM diaries d
+                CROSS JOIN to_tsquery('simple', :tsQuery) AS q(query)
+                WHERE d.user_id = :userId
+                  AND (d.content_tsv @@ q.query OR d.content ILIKE :likePattern)
+                  AND (CAST(:petId AS bigint) IS NULL OR d.pet_id = :petId)
+                  AND (CAST(:mood AS varchar) IS NULL OR d.mood = :mood)
+                  AND (CAST(:weather AS varchar) IS NULL OR d.weather = :weather)
+                  AND (CAST(:from AS timestamp) IS NULL OR d.created_at >= :from)
+                  AND (CAST(:to AS timestamp) IS NULL OR d.created_at < :to)
+            ) r
+            WHERE CAST(:afterScore AS real) IS NULL
+               OR r.score < CAST(:afterScore AS real)
+               OR (r.score = CAST(:afterScore AS real) AND r.diary_id < :afterId)
+            ORDER BY r.score DESC, r.diary_id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<DiarySearchHit> searchDiaries(@Param("userId") Long userId,
+                                       @Param("keyword") String keyword,
+                                       @Param("tsQuery") String tsQuery,
+                                       @Param("likePattern") String likePattern,
+                                       @Param("petId") Long petId,
+                                       @Param("mood") String mood,
+                                       @Param("weather") String weather,
+                                       @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to,
+                                       @Param("afterScore") Float afterScore,
+                                       @Param("afterId") Long afterId,
+                                       @Param("limit") int limit);
+}
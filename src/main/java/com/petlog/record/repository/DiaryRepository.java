@@ -1,9 +1,17 @@
 package com.petlog.record.repository;
 
 import com.petlog.record.entity.Diary;
+import com.petlog.record.repository.projection.DiaryFeedKey;
+import com.petlog.record.repository.projection.RecapBatchTarget;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -13,4 +21,89 @@ public interface DiaryRepository extends JpaRepository<Diary, Long> {
 
     // 특정 펫에 대해 작성된 모든 일기 목록 조회
     List<Diary> findAllByPetId(Long petId);
-}
\ No newline at end of file
+
+    // 리캡 집계용: 리캡 소유자가 펫에 대해 쓴 기간 내 일기 첫 청크 (오래된 순, idx_diaries_pet_user_created)
+    // 함께 기르는 펫이면 다른 사용자의 일기(PRIVATE 포함)가 섞이지 않도록 작성자로 한정
+    // images는 default_batch_fetch_size로 청크 단위 IN 조회
+    @Query("""
+            select d from Diary d
+            where d.petId = :petId and d.userId = :userId and d.createdAt >= :start and d.createdAt < :end
+            order by d.createdAt asc, d.diaryId asc
+            """)
+    List<Diary> findPeriodChunk(@Param("petId") Long petId,
+                                @Param("userId") Long userId,
+                                @Param("start") LocalDateTime start,
+                                @Param("end") LocalDateTime end,
+                                Limit limit);
+
+    // 리캡 집계용: 마지막으로 읽은 (createdAt, diaryId) 이후 청크
+    @Query("""
+            select d from Diary d
+            where d.petId = :petId and d.userId = :userId and d.createdAt >= :start and d.createdAt < :end
+              and (d.createdAt > :createdAt or (d.createdAt = :createdAt and d.diaryId > :diaryId))
+            order by d.createdAt asc, d.diaryId asc
+            """)
+    List<Diary> findPeriodChunkAfter(@Param("petId") Long petId,
+                                     @Param("userId") Long userId,
+                                     @Param("start") LocalDateTime start,
+                                     @Param("end") LocalDateTime end,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("diaryId") Long diaryId,
+                                     Limit limit);
+
+    // 월간 리캡 배치 대상: 기간 내 일기가 있는 (petId, userId)를 키 순서로 페이지 조회
+    // (pet_id, user_id, created_at) 인덱스 순서대로 읽으므로 페이지마다 기간 전체를 다시 스캔하지 않음
+    @Query(value = """
+            SELECT d.pet_id AS "petId", d.user_id AS "userId"
+            FROM diaries d
+            WHERE (d.pet_id, d.user_id) > (:afterPetId, :afterUserId)
+              AND d.created_at >= :start
+              AND d.created_at < :end
+            GROUP BY d.pet_id, d.user_id
+            ORDER BY d.pet_id, d.user_id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<RecapBatchTarget> findRecapTargets(@Param("start") LocalDateTime start,
+                                            @Param("end") LocalDateTime end,
+                                            @Param("afterPetId") Long afterPetId,
+                                            @Param("afterUserId") Long afterUserId,
+                                            @Param("limit") int limit);
+
+    // 피드 읽기(셀럽 계정 직접 조회): 팔로워에게 보이는(PRIVATE 제외) 일기 키만 최신순으로 (idx_diaries_user_created)
+    @Query("""
+            select d.diaryId as diaryId, d.userId as userId, d.createdAt as createdAt from Diary d
+            where d.userId = :userId and d.visibility <> com.petlog.record.entity.Visibility.PRIVATE
+            order by d.createdAt desc, d.diaryId desc
+            """)
+    List<DiaryFeedKey> findFeedKeys(@Param("userId") Long userId, Limit limit);
+
+    // 피드 읽기: 커서 (createdAt, diaryId) 이후
+    @Query("""
+            select d.diaryId as diaryId, d.userId as userId, d.createdAt as createdAt from Diary d
+            where d.userId = :userId and d.visibility <> com.petlog.record.entity.Visibility.PRIVATE
+              and (d.createdAt < :createdAt or (d.createdAt = :createdAt and d.diaryId < :diaryId))
+            order by d.createdAt desc, d.diaryId desc
+            """)
+    List<DiaryFeedKey> findFeedKeysBefore(@Param("userId") Long userId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("diaryId") Long diaryId,
+                                          Limit limit);
+
+    // 피드 타임라인 재구성: 여러 작성자의 보이는 일기 키를 최신순으로 limit 건까지 (작성자별 idx_diaries_user_created)
+    @Query("""
+            select d.diaryId as diaryId, d.userId as userId, d.createdAt as createdAt from Diary d
+            where d.userId in :userIds and d.visibility <> com.petlog.record.entity.Visibility.PRIVATE
+            order by d.createdAt desc, d.diaryId desc
+            """)
+    List<DiaryFeedKey> findFeedKeysByUserIds(@Param("userIds") Collection<Long> userIds, Limit limit);
+
+    // 단건 삭제: 이미지를 문장 하나로 삭제 (orphanRemoval 은 이미지 컬렉션을 로딩한 뒤 행마다 DELETE 를 보냄)
+    @Modifying
+    @Query("delete from DiaryImage i where i.diary.diaryId = :diaryId")
+    int deleteImagesByDiaryId(@Param("diaryId") Long diaryId);
+
+    // 이미 로딩된 Diary 가 영속성 컨텍스트에 남아 이후 flush 되지 않도록 실행 후 비움
+    @Modifying(clearAutomatically = true)
+    @Query("delete from Diary d where d.diaryId = :diaryId")
+    int deleteByDiaryId(@Param("diaryId") Long diaryId);
+}
@@ -2,7 +2,10 @@ package com.petlog.record.repository;
 
 import com.petlog.record.entity.DiaryStyle;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.List;
@@ -18,4 +21,53 @@ public interface DiaryStyleRepository extends JpaRepository<DiaryStyle, Long> {
     
     // 펫 ID 없이 사용자 전체의 기본 스타일을 찾을 때 사용 가능
     Optional<DiaryStyle> findByUserIdAndPetIdIsNull(Long userId);
-}
\ No newline at end of file
+
+    // 기본 스타일 생성 (INSERT ... ON CONFLICT 한 번으로 처리)
+    // 동시에 첫 조회가 들어와도 uk_diary_styles_user_pet 유니크 인덱스로 1행만 생성되고,
+    // 충돌 시 no-op UPDATE로 기존 행을 RETURNING 하여 항상 스타일을 반환
+    @Transactional
+    @Query(value = """
+            INSERT INTO diary_styles (user_id, pet_id, gallery_type, text_alignment, font_size, size_option,
+                                      background_color, preset, theme_style, created_at, updated_at)
+            VALUES (:userId, :petId, 'grid', 'left', 16, 'medium', '#FFFFFF', 'default', 'basic', now(), now())
+            ON CONFLICT (user_id, pet_id) DO UPDATE SET user_id = EXCLUDED.user_id
+            RETURNING *
+            """, nativeQuery = true)
+    DiaryStyle insertDefaultIfAbsent(@Param("userId") Long userId, @Param("petId") Long petId);
+
+    // 스타일 생성/수정 Upsert (INSERT ... ON CONFLICT DO UPDATE 한 번으로 처리)
+    // null 항목: 신규 생성이면 기본값, 기존 스타일이면 기존 값 유지
+    @Transactional
+    @Query(value = """
+            INSERT INTO diary_styles (user_id, pet_id, gallery_type, text_alignment, font_size, size_option,
+                                      background_color, preset, theme_style, created_at, updated_at)
+            VALUES (:userId, :petId,
+                    COALESCE(CAST(:galleryType AS VARCHAR), 'grid'),
+                    COALESCE(CAST(:textAlignment AS VARCHAR), 'left'),
+                    COALESCE(CAST(:fontSize AS INTEGER), 16),
+                    COALESCE(CAST(:sizeOption AS VARCHAR), 'medium'),
+                    COALESCE(CAST(:backgroundColor AS VARCHAR), '#FFFFFF'),
+                    COALESCE(CAST(:preset AS VARCHAR), 'default'),
+                    COALESCE(CAST(:themeStyle AS VARCHAR), 'basic'),
+                    now(), now())
+            ON CONFLICT (user_id, pet_id) DO UPDATE SET
+                gallery_type     = COALESCE(CAST(:galleryType AS VARCHAR), diary_styles.gallery_type),
+                text_alignment   = COALESCE(CAST(:textAlignment AS VARCHAR), diary_styles.text_alignment),
+                font_size        = COALESCE(CAST(:fontSize AS INTEGER), diary_styles.font_size),
+                size_option      = COALESCE(CAST(:sizeOption AS VARCHAR), diary_styles.size_option),
+                background_color = COALESCE(CAST(:backgroundColor AS VARCHAR), diary_styles.background_color),
+                preset           = COALESCE(CAST(:preset AS VARCHAR), diary_styles.preset),
+                theme_style      = COALESCE(CAST(:themeStyle AS VARCHAR), diary_styles.theme_style),
+                updated_at       = now()
+            RETURNING *
+            """, nativeQuery = true)
+    DiaryStyle upsertStyle(@Param("userId") Long userId,
+                           @Param("petId") Long petId,
+                           @Param("galleryType") String galleryType,
+                           @Param("textAlignment") String textAlignment,
+                           @Param("fontSize") Integer fontSize,
+                           @Param("sizeOption") String sizeOption,
+                           @Param("backgroundColor") String backgroundColor,
+                           @Param("preset") String preset,
+                           @Param("themeStyle") String themeStyle);
+}
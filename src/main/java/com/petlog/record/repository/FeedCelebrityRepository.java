@@ -0,0 +1,31 @@
+package com.petlog.record.repository;
+
+import com.petlog.record.entity.FeedCelebrity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface FeedCelebrityRepository extends JpaRepository<FeedCelebrity, Long> {
+
+    // 셀럽 계정 전체 (팔로워 수 기준치를 넘는 계정은 소수이므로 통째로 캐시)
+    @Query("select c.userId from FeedCelebrity c")
+    List<Long> findAllUserIds();
+
+    // 여러 노드가 동시에 표시해도 한 행만 남도록 충돌 시 무시
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO feed_celebrities (user_id, marked_at) VALUES (:userId, now()) ON CONFLICT (user_id) DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId);
+
+    @Transactional
+    @Modifying
+    @Query("delete from FeedCelebrity c where c.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
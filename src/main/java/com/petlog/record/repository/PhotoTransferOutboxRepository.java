@@ -0,0 +1,35 @@
+package com.petlog.record.repository;
+
+import com.petlog.record.entity.OutboxStatus;
+import com.petlog.record.entity.PhotoTransferOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PhotoTransferOutboxRepository extends JpaRepository<PhotoTransferOutbox, Long> {
+
+    // 전송 시각이 도래한 대기 건을 잠금과 함께 조회
+    // SKIP LOCKED: 다른 노드가 잡고 있는 행은 건너뛰어 다중 인스턴스에서도 중복 전송 방지
+    @Query(value = """
+            SELECT * FROM photo_transfer_outbox
+            WHERE status = 'PENDING' AND next_attempt_at <= :now
+            ORDER BY outbox_id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<PhotoTransferOutbox> findDueForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 일기 단건 삭제 시 아직 보내지 않은 전송 건을 문장 하나로 삭제 (idx_photo_outbox_diary)
+    @Modifying
+    @Query("delete from PhotoTransferOutbox o where o.diaryId = :diaryId")
+    int deleteByDiaryId(@Param("diaryId") Long diaryId);
+
+    // 상태별 건수 (적체 지표용)
+    long countByStatus(OutboxStatus status);
+}
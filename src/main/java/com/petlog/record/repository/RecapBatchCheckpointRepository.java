@@ -0,0 +1,15 @@
+package com.petlog.record.repository;
+
+import com.petlog.record.entity.BatchStatus;
+import com.petlog.record.entity.RecapBatchCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface RecapBatchCheckpointRepository extends JpaRepository<RecapBatchCheckpoint, String> {
+
+    // 기동 시 중단된 작업 재개용
+    List<RecapBatchCheckpoint> findAllByStatus(BatchStatus status);
+}
@@ -1,17 +1,102 @@
 package com.petlog.record.repository;
 
 import com.petlog.record.entity.Recap;
+import com.petlog.record.repository.projection.RecapListStamp;
+import com.petlog.record.repository.projection.RecapPeriodView;
+import com.petlog.record.repository.projection.RecapSimpleView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface RecapRepository extends JpaRepository<Recap, Long> {
     
-    // 1. 사용자별 리캡 전체 조회 (최신순)
-    List<Recap> findAllByUserIdOrderByCreatedAtDesc(Long userId);
+    // 카드 목록용 프로젝션 SELECT 절 (하이라이트/요약 본문 제외)
+    String SIMPLE_VIEW_SELECT = """
+            select r.recapId as recapId, r.title as title, r.mainImageUrl as mainImageUrl,
+                   r.momentCount as momentCount, r.status as status,
+                   r.periodStart as periodStart, r.periodEnd as periodEnd,
+                   r.createdAt as createdAt, r.updatedAt as updatedAt
+            from Recap r
+            """;
 
-    // 2. 펫별 리캡 조회 (최신순)
-    List<Recap> findAllByPetIdOrderByCreatedAtDesc(Long petId);
-}
\ No newline at end of file
+    // 1. 사용자별 리캡 첫 페이지 (최신순, 키셋 페이지네이션)
+    @Query(SIMPLE_VIEW_SELECT + """
+            where r.userId = :userId
+            order by r.createdAt desc, r.recapId desc
+            """)
+    List<RecapSimpleView> findSimpleViewsByUserId(@Param("userId") Long userId, Limit limit);
+
+    // 1-1. 사용자별 리캡 다음 페이지 (커서 (createdAt, recapId) 이후)
+    @Query(SIMPLE_VIEW_SELECT + """
+            where r.userId = :userId
+              and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.recapId < :recapId))
+            order by r.createdAt desc, r.recapId desc
+            """)
+    List<RecapSimpleView> findSimpleViewsByUserIdBefore(@Param("userId") Long userId,
+                                                       @Param("createdAt") LocalDateTime createdAt,
+                                                       @Param("recapId") Long recapId,
+                                                       Limit limit);
+
+    // 1-2. 사용자별 리캡 목록 버전 (ETag/Last-Modified 계산용)
+    @Query("select max(r.updatedAt) as lastModified, count(r) as totalCount from Recap r where r.userId = :userId")
+    RecapListStamp findListStampByUserId(@Param("userId") Long userId);
+
+    // 2. 펫별 리캡 첫 페이지 (최신순, 키셋 페이지네이션)
+    @Query(SIMPLE_VIEW_SELECT + """
+            where r.petId = :petId
+            order by r.createdAt desc, r.recapId desc
+            """)
+    List<RecapSimpleView> findSimpleViewsByPetId(@Param("petId") Long petId, Limit limit);
+
+    // 2-1. 펫별 리캡 다음 페이지
+    @Query(SIMPLE_VIEW_SELECT + """
+            where r.petId = :petId
+              and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.recapId < :recapId))
+            order by r.createdAt desc, r.recapId desc
+            """)
+    List<RecapSimpleView> findSimpleViewsByPetIdBefore(@Param("petId") Long petId,
+                                                      @Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("recapId") Long recapId,
+                                                      Limit limit);
+
+    // 2-2. 펫별 리캡 목록 버전
+    @Query("select max(r.updatedAt) as lastModified, count(r) as totalCount from Recap r where r.petId = :petId")
+    RecapListStamp findListStampByPetId(@Param("petId") Long petId);
+
+    // 3. 배치 멱등성 확인용: 같은 사용자/펫/기간의 리캡 (펫을 함께 기록하는 사용자마다 리캡이 따로 있음, idx_recaps_pet_period)
+    Optional<Recap> findFirstByUserIdAndPetIdAndPeriodStartAndPeriodEnd(Long userId, Long petId,
+                                                                         LocalDate periodStart, LocalDate periodEnd);
+
+    // 3-1. 배치 재실행 시 재시도 대상: 기간 내 FAILED 리캡 ID 를 recapId 키셋으로 (idx_recaps_failed_period)
+    @Query("""
+            select r.recapId from Recap r
+            where r.periodStart = :periodStart and r.periodEnd = :periodEnd
+              and r.status = com.petlog.record.entity.RecapStatus.FAILED
+              and r.recapId > :afterId
+            order by r.recapId
+            """)
+    List<Long> findFailedRecapIds(@Param("periodStart") LocalDate periodStart,
+                                  @Param("periodEnd") LocalDate periodEnd,
+                                  @Param("afterId") Long afterId,
+                                  Limit limit);
+
+    // 4. 상세 조회용: 하이라이트를 fetch join으로 한 번에 조회 (지연 로딩 추가 쿼리 제거)
+    @Query("""
+            select distinct r from Recap r
+            left join fetch r.highlights
+            where r.recapId = :recapId
+            """)
+    Optional<Recap> findWithHighlightsById(@Param("recapId") Long recapId);
+
+    // 5. 상세 조회 시 헬스케어 호출을 먼저 시작하기 위한 기간 키 조회
+    @Query("select r.petId as petId, r.periodStart as periodStart, r.periodEnd as periodEnd from Recap r where r.recapId = :recapId")
+    Optional<RecapPeriodView> findPeriodById(@Param("recapId") Long recapId);
+}
@@ -0,0 +1,15 @@
+package com.petlog.record.repository.projection;
+
+import java.time.LocalDate;
+
+// 캘린더 월간 요약용 일자별 집계 결과 (Native Query 인터페이스 프로젝션)
+public interface DiaryDailySummary {
+
+    LocalDate getDiaryDate();     // 작성일
+
+    Long getDiaryCount();         // 해당 날짜 일기 수
+
+    String getMood();             // 가장 최근 일기의 기분
+
+    String getMainImageUrl();     // 가장 최근 일기의 대표 이미지
+}
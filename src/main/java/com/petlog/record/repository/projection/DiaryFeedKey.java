@@ -0,0 +1,13 @@
+package com.petlog.record.repository.projection;
+
+import java.time.LocalDateTime;
+
+// 피드 읽기 시 셀럽 계정 일기를 직접 조회할 때 필요한 키만 담은 프로젝션
+public interface DiaryFeedKey {
+
+    Long getDiaryId();
+
+    Long getUserId();
+
+    LocalDateTime getCreatedAt();
+}
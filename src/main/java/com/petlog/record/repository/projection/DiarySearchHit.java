@@ -0,0 +1,21 @@
+package com.petlog.record.repository.projection;
+
+import java.time.LocalDateTime;
+
+// 일기 전문 검색 결과 한 건 (Native Query 인터페이스 프로젝션)
+public interface DiarySearchHit {
+
+    Long getDiaryId();
+
+    Long getPetId();
+
+    String getContent();
+
+    String getMood();
+
+    String getWeather();
+
+    LocalDateTime getCreatedAt();
+
+    Float getScore();             // 관련도 점수 (ts_rank_cd + word_similarity)
+}
@@ -0,0 +1,9 @@
+package com.petlog.record.repository.projection;
+
+// 월간 리캡 배치 대상 (기간 내 일기가 있는 펫/사용자 쌍, Native Query 인터페이스 프로젝션)
+public interface RecapBatchTarget {
+
+    Long getPetId();
+
+    Long getUserId();
+}
@@ -0,0 +1,11 @@
+package com.petlog.record.repository.projection;
+
+import java.time.LocalDateTime;
+
+// 리캡 목록 변경 여부 판단용 (가장 최근 수정 시각 + 건수, 목록 본문 없이 집계만 조회)
+public interface RecapListStamp {
+
+    LocalDateTime getLastModified();
+
+    Long getTotalCount();
+}
@@ -0,0 +1,13 @@
+package com.petlog.record.repository.projection;
+
+import java.time.LocalDate;
+
+// 리캡 상세 조회 시 헬스케어 호출에 필요한 키 (펫 + 기간)
+public interface RecapPeriodView {
+
+    Long getPetId();
+
+    LocalDate getPeriodStart();
+
+    LocalDate getPeriodEnd();
+}
@@ -0,0 +1,28 @@
+package com.petlog.record.repository.projection;
+
+import com.petlog.record.entity.RecapStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 리캡 카드 목록용 컬럼만 조회하는 인터페이스 프로젝션 (하이라이트/요약 본문 제외)
+public interface RecapSimpleView {
+
+    Long getRecapId();
+
+    String getTitle();
+
+    String getMainImageUrl();
+
+    Integer getMomentCount();
+
+    RecapStatus getStatus();
+
+    LocalDate getPeriodStart();
+
+    LocalDate getPeriodEnd();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,278 @@
+package com.petlog.record.scheduler;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.petlog.record.config.CacheConfig;
+import com.petlog.record.service.UserPetValidator;
+import com.petlog.record.service.feed.CelebrityRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자/펫 삭제 시 기록 데이터 일괄 삭제
+ * 일기 단건 삭제 API 를 반복 호출하는 대신, 대상 컬럼(user_id / pet_id) 조건으로 청크 단위 집합 DELETE 를 실행합니다.
+ * - 청크 1개 = 트랜잭션 1개: 부모/자식 행을 데이터 변경 CTE 한 문장으로 함께 지움 (FK 검사는 문장 끝에서 수행)
+ * - SET LOCAL lock_timeout 으로 락 대기를 제한하고, 대기 초과 시 잠시 쉬었다가 같은 청크를 다시 시도
+ *   -> 사용자 요청과 같은 행을 두고 오래 경합하거나 긴 트랜잭션으로 다른 쓰기를 막지 않음
+ * - 조건에 맞는 행만 지우므로 멱등: 중단되면 같은 대상으로 다시 요청하면 남은 행만 삭제
+ */
+@Slf4j
+@Component
+public class AccountPurgeJob {
+
+    /**
+     * 삭제 단계 (실행 순서대로)
+     * 첫 번째 테이블이 청크 크기를 결정하는 주 테이블이며, 결과 행의 열 순서는 tables 순서와 같음
+     */
+    private record Step(List<String> tables, String sql) {
+    }
+
+    private static final List<Step> STEPS = List.of(
+            // 일기 + 이미지 + 아직 보내지 않은 보관함 전송 아웃박스
+            new Step(List.of("diaries", "diary_images", "photo_transfer_outbox"), """
+                    WITH doomed AS (
+                        SELECT diary_id FROM diaries WHERE %s = ? LIMIT ?
+                    ), deleted_outbox AS (
+                        DELETE FROM photo_transfer_outbox o USING doomed WHERE o.diary_id = doomed.diary_id RETURNING 1
+                    ), deleted_images AS (
+                        DELETE FROM diary_images i USING doomed WHERE i.diary_id = doomed.diary_id RETURNING 1
+                    ), deleted_diaries AS (
+                        DELETE FROM diaries d USING doomed WHERE d.diary_id = doomed.diary_id RETURNING 1
+                    )
+                    SELECT (SELECT count(*) FROM deleted_diaries),
+                           (SELECT count(*) FROM deleted_images),
+                           (SELECT count(*) FROM deleted_outbox)
+                    """),
+            // 리캡 + 하이라이트
+            new Step(List.of("recaps", "recap_highlights"), """
+                    WITH doomed AS (
+                        SELECT recap_id FROM recaps WHERE %s = ? LIMIT ?
+                    ), deleted_highlights AS (
+                        DELETE FROM recap_highlights h USING doomed WHERE h.recap_id = doomed.recap_id RETURNING 1
+                    ), deleted_recaps AS (
+                        DELETE FROM recaps r USING doomed WHERE r.recap_id = doomed.recap_id RETURNING 1
+                    )
+                    SELECT (SELECT count(*) FROM deleted_recaps),
+                           (SELECT count(*) FROM deleted_highlights)
+                    """),
+            new Step(List.of("diary_posts"), """
+                    WITH doomed AS (
+                        SELECT id FROM diary_posts WHERE %s = ? LIMIT ?
+                    ), deleted_posts AS (
+                        DELETE FROM diary_posts p USING doomed WHERE p.id = doomed.id RETURNING 1
+                    )
+                    SELECT count(*) FROM deleted_posts
+                    """),
+            new Step(List.of("diary_styles"), """
+                    WITH doomed AS (
+                        SELECT id FROM diary_styles WHERE %s = ? LIMIT ?
+                    ), deleted_styles AS (
+                        DELETE FROM diary_styles s USING doomed WHERE s.id = doomed.id RETURNING 1
+                    )
+                    SELECT count(*) FROM deleted_styles
+                    """)
+    );
+
+    private static final List<String> ALL_TABLES = STEPS.stream().flatMap(step -> step.tables().stream()).toList();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate writeTx;
+    private final UserPetValidator userPetValidator;
+    private final CacheManager cacheManager;
+    private final CelebrityRegistry celebrityRegistry;
+    private final Executor purgeExecutor;
+
+    private final int chunkSize;
+    private final Duration lockTimeout;
+    private final int maxLockRetries;
+    private final Duration retryBackoff;
+    private final Duration chunkPause;
+
+    // 대상별 실행 중인 작업 (같은 대상 중복 요청은 기존 작업을 돌려줌)
+    private final Map<String, PurgeProgress> running = new ConcurrentHashMap<>();
+    // 조회용 작업 상태 (완료 후에도 progress-ttl 동안 보관)
+    private final Cache<String, PurgeProgress> jobs;
+
+    // === 지표 (/actuator/metrics) ===
+    private final Map<String, Counter> deletedCounters;
+    private final Timer chunkTimer;
+    private final Counter lockTimeoutCounter;
+
+    public AccountPurgeJob(DataSource dataSource,
+                           PlatformTransactionManager transactionManager,
+                           UserPetValidator userPetValidator,
+                           CacheManager cacheManager,
+                           CelebrityRegistry celebrityRegistry,
+                           @Qualifier("purgeExecutor") Executor purgeExecutor,
+                           MeterRegistry meterRegistry,
+                           @Value("${diary.purge.chunk-size:1000}") int chunkSize,
+                           @Value("${diary.purge.lock-timeout:2s}") Duration lockTimeout,
+                           @Value("${diary.purge.max-lock-retries:5}") int maxLockRetries,
+                           @Value("${diary.purge.retry-backoff:500ms}") Duration retryBackoff,
+                           @Value("${diary.purge.chunk-pause:50ms}") Duration chunkPause,
+                           @Value("${diary.purge.progress-ttl:6h}") Duration progressTtl) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.writeTx = new TransactionTemplate(transactionManager);
+        this.userPetValidator = userPetValidator;
+        this.cacheManager = cacheManager;
+        this.celebrityRegistry = celebrityRegistry;
+        this.purgeExecutor = purgeExecutor;
+        this.chunkSize = chunkSize;
+        this.lockTimeout = lockTimeout;
+        this.maxLockRetries = maxLockRetries;
+        this.retryBackoff = retryBackoff;
+        this.chunkPause = chunkPause;
+        this.jobs = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(progressTtl)
+                .build();
+        this.deletedCounters = ALL_TABLES.stream().collect(Collectors.toMap(Function.identity(),
+                table -> Counter.builder("purge.rows")
+                        .description("일괄 삭제된 행 수")
+                        .tag("table", table)
+                        .register(meterRegistry)));
+        this.chunkTimer = Timer.builder("purge.chunk")
+                .description("삭제 청크(트랜잭션) 1개 처리 시간")
+                .register(meterRegistry);
+        this.lockTimeoutCounter = Counter.builder("purge.lock.timeouts")
+                .description("lock_timeout 초과로 다시 시도한 청크 수")
+                .register(meterRegistry);
+        meterRegistry.gauge("purge.jobs.running", running, Map::size);
+    }
+
+    /**
+     * 삭제 작업을 비동기로 시작합니다. 같은 대상의 작업이 이미 실행 중이면 그 작업을 돌려줍니다.
+     */
+    public PurgeProgress trigger(PurgeTarget target, Long targetId) {
+        // 삭제된 사용자/펫으로 새 기록이 만들어지지 않도록 존재 확인 캐시부터 비움
+        if (target == PurgeTarget.USER) {
+            userPetValidator.evictUser(targetId);
+        } else {
+            userPetValidator.evictPet(targetId);
+        }
+
+        String key = target + ":" + targetId;
+        PurgeProgress progress = new PurgeProgress(UUID.randomUUID().toString(), target, targetId, ALL_TABLES);
+        PurgeProgress existing = running.putIfAbsent(key, progress);
+        if (existing != null) {
+            return existing;
+        }
+        jobs.put(progress.getJobId(), progress);
+        purgeExecutor.execute(() -> {
+            try {
+                run(progress);
+            } finally {
+                running.remove(key);
+            }
+        });
+        return progress;
+    }
+
+    public Optional<PurgeProgress> getProgress(String jobId) {
+        return Optional.ofNullable(jobs.getIfPresent(jobId));
+    }
+
+    private void run(PurgeProgress progress) {
+        long startedAt = System.nanoTime();
+        log.info("기록 일괄 삭제 시작 (jobId: {}, {}: {})", progress.getJobId(), progress.getTarget(), progress.getTargetId());
+        try {
+            for (Step step : STEPS) {
+                purgeStep(step, progress);
+            }
+            cleanUpAfterPurge(progress);
+            progress.complete();
+            log.info("기록 일괄 삭제 완료 (jobId: {}, {}: {}, {}ms, 삭제 행: {})",
+                    progress.getJobId(), progress.getTarget(), progress.getTargetId(),
+                    (System.nanoTime() - startedAt) / 1_000_000, progress.deletedRowsSnapshot());
+        } catch (RuntimeException e) {
+            progress.fail(NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+            log.error("기록 일괄 삭제 중단 (jobId: {}, {}: {}) - 같은 대상으로 다시 요청하면 남은 행만 삭제: {}",
+                    progress.getJobId(), progress.getTarget(), progress.getTargetId(), e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            progress.fail("interrupted");
+        }
+    }
+
+    /**
+     * 삭제된 행을 가리키는 캐시/표시 정리
+     * - 스타일 캐시: 키가 "userId:petId" 라 대상 키만 골라낼 수 없으므로 전체를 비움 (삭제 작업은 드물어 재적재 비용이 작음)
+     *   남겨 두면 삭제된 스타일을 계속 응답하고, TTL 만료 후 조회 시 기본 스타일 행이 다시 생성됨
+     * - 사용자 삭제: 셀럽 표시(feed_celebrities) 행도 지우고 셀럽 목록 캐시를 무효화
+     */
+    private void cleanUpAfterPurge(PurgeProgress progress) {
+        org.springframework.cache.Cache styleCache = cacheManager.getCache(CacheConfig.DIARY_STYLE_CACHE);
+        if (styleCache != null) {
+            styleCache.clear();
+        }
+        if (progress.getTarget() == PurgeTarget.USER) {
+            celebrityRegistry.unmark(progress.getTargetId());
+        }
+    }
+
+    // 주 테이블 삭제 건수가 청크 크기보다 작아질 때까지 반복
+    private void purgeStep(Step step, PurgeProgress progress) throws InterruptedException {
+        String sql = step.sql().formatted(progress.getTarget().column());
+        while (true) {
+            long[] deleted = deleteChunk(sql, step.tables().size(), progress.getTargetId());
+            for (int i = 0; i < deleted.length; i++) {
+                String table = step.tables().get(i);
+                progress.addDeleted(table, deleted[i]);
+                deletedCounters.get(table).increment(deleted[i]);
+            }
+            progress.getChunks().incrementAndGet();
+            if (deleted[0] < chunkSize) {
+                return;
+            }
+            // 청크 사이에 잠시 쉬어 대기 중인 다른 쓰기/복제/VACUUM 에 여유를 줌
+            Thread.sleep(chunkPause.toMillis());
+        }
+    }
+
+    private long[] deleteChunk(String sql, int columns, Long targetId) throws InterruptedException {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return chunkTimer.record(() -> writeTx.execute(status -> {
+                    // 이 트랜잭션에서만 적용 (커넥션 풀로 돌아간 뒤에는 원래 값)
+                    jdbcTemplate.execute("SET LOCAL lock_timeout = '" + lockTimeout.toMillis() + "ms'");
+                    return jdbcTemplate.queryForObject(sql, (rs, rowNum) -> {
+                        long[] counts = new long[columns];
+                        for (int i = 0; i < columns; i++) {
+                            counts[i] = rs.getLong(i + 1);
+                        }
+                        return counts;
+                    }, targetId, chunkSize);
+                }));
+            } catch (CannotAcquireLockException e) {
+                lockTimeoutCounter.increment();
+                if (attempt >= maxLockRetries) {
+                    throw e;
+                }
+                log.warn("삭제 청크 락 대기 초과 ({}회째) - {}ms 후 재시도", attempt + 1, retryBackoff.toMillis() * (attempt + 1));
+                Thread.sleep(retryBackoff.toMillis() * (attempt + 1));
+            }
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.petlog.record.scheduler;
+
+import com.petlog.record.dto.request.RecapRequest;
+import com.petlog.record.entity.BatchStatus;
+import com.petlog.record.entity.Recap;
+import com.petlog.record.entity.RecapBatchCheckpoint;
+import com.petlog.record.entity.RecapStatus;
+import com.petlog.record.repository.DiaryRepository;
+import com.petlog.record.repository.RecapBatchCheckpointRepository;
+import com.petlog.record.repository.RecapRepository;
+import com.petlog.record.repository.projection.RecapBatchTarget;
+import com.petlog.record.service.RecapGenerator;
+import com.petlog.record.service.RecapGenerator.Outcome;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 월간 리캡 배치
+ * 매월 초 지난달에 일기를 쓴 모든 (펫, 사용자)에 대해 리캡을 생성합니다.
+ * - 대상은 (petId, userId) 키셋 페이지로 읽고, 페이지를 전용 워커 풀에 나눠 병렬 생성
+ * - 페이지가 모두 끝나면 마지막 키를 체크포인트로 기록 -> 중단 후 재기동 시 이어서 처리
+ * - 같은 (펫, 사용자, 기간) 리캡이 이미 있으면 건너뛰므로 재실행해도 중복 생성되지 않음 (V12 idx_recaps_pet_period 로 확인)
+ */
+@Slf4j
+@Component
+public class MonthlyRecapBatchJob {
+
+    private static final String JOB_KEY_PREFIX = "monthly-recap:";
+
+    private final DiaryRepository diaryRepository;
+    private final RecapRepository recapRepository;
+    private final RecapBatchCheckpointRepository checkpointRepository;
+    private final RecapGenerator recapGenerator;
+    private final Executor workerExecutor;
+    private final TaskScheduler taskScheduler;
+    private final TransactionTemplate writeTx;
+
+    private final int pageSize;
+
+    // 한 노드에서 동시에 하나의 배치만 실행
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    // === 지표 (/actuator/metrics) ===
+    private final Timer petTimer;
+    private final Counter generatedCounter;
+    private final Counter skippedCounter;
+    private final Counter failedCounter;
+
+    public MonthlyRecapBatchJob(DiaryRepository diaryRepository,
+                                RecapRepository recapRepository,
+                                RecapBatchCheckpointRepository checkpointRepository,
+                                RecapGenerator recapGenerator,
+                                @Qualifier("recapBatchExecutor") Executor workerExecutor,
+                                TaskScheduler taskScheduler,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${recap.batch.page-size:1000}") int pageSize) {
+        this.diaryRepository = diaryRepository;
+        this.recapRepository = recapRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.recapGenerator = recapGenerator;
+        this.workerExecutor = workerExecutor;
+        this.taskScheduler = taskScheduler;
+        this.writeTx = new TransactionTemplate(transactionManager);
+        this.pageSize = pageSize;
+        this.petTimer = Timer.builder("recap.batch.pet")
+                .description("펫 1마리 리캡 처리 시간")
+                .register(meterRegistry);
+        this.generatedCounter = Counter.builder("recap.batch.generated")
+                .description("배치로 생성된 리캡 수")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder("recap.batch.skipped")
+                .description("이미 존재하거나 다른 실행이 가져가 건너뛴 리캡 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("recap.batch.failed")
+                .description("생성에 실패한 리캡 수")
+                .register(meterRegistry);
+    }
+
+    // 기본: 매월 1일 03:00에 지난달 리캡 생성
+    @Scheduled(cron = "${recap.batch.cron:0 0 3 1 * *}")
+    public void runForPreviousMonth() {
+        run(YearMonth.now().minusMonths(1), false);
+    }
+
+    // 재기동 시 RUNNING 상태로 남은 작업을 체크포인트부터 재개 (기동을 막지 않도록 별도 스레드)
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedJobs() {
+        for (RecapBatchCheckpoint checkpoint : checkpointRepository.findAllByStatus(BatchStatus.RUNNING)) {
+            log.info("중단된 월간 리캡 배치 재개 예약: {} (처리 {}건)", checkpoint.getJobKey(), checkpoint.getProcessedCount());
+            taskScheduler.schedule(() -> run(YearMonth.from(checkpoint.getPeriodStart()), false), Instant.now());
+        }
+    }
+
+    /**
+     * 수동 실행 (비동기). 이미 실행 중이면 false를 반환합니다.
+     * @param restart true면 완료된 기간도 처음부터 다시 확인 (이미 있는 리캡은 건너뜀)
+     */
+    public boolean trigger(YearMonth yearMonth, boolean restart) {
+        if (running.get()) {
+            return false;
+        }
+        taskScheduler.schedule(() -> run(yearMonth, restart), Instant.now());
+        return true;
+    }
+
+    public Optional<RecapBatchCheckpoint> getCheckpoint(YearMonth yearMonth) {
+        return checkpointRepository.findById(JOB_KEY_PREFIX + yearMonth);
+    }
+
+    public void run(YearMonth yearMonth, boolean restart) {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("월간 리캡 배치가 이미 실행 중이므로 건너뜀 ({})", yearMonth);
+            return;
+        }
+        try {
+            execute(yearMonth, restart);
+        } catch (RuntimeException e) {
+            log.error("월간 리캡 배치 중단 ({}): {} - 다음 실행 시 체크포인트부터 재개", yearMonth, e.getMessage(), e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void execute(YearMonth yearMonth, boolean restart) {
+        LocalDate periodStart = yearMonth.atDay(1);
+        LocalDate periodEnd = yearMonth.atEndOfMonth();
+        String jobKey = JOB_KEY_PREFIX + yearMonth;
+
+        RecapBatchCheckpoint checkpoint = checkpointRepository.findById(jobKey)
+                .orElseGet(() -> RecapBatchCheckpoint.start(jobKey, periodStart, periodEnd));
+        if (checkpoint.getStatus() == BatchStatus.COMPLETED) {
+            if (!restart) {
+                // 완료된 기간을 다시 실행하면 이전 실행에서 FAILED 로 남은 리캡만 재시도
+                log.info("월간 리캡 배치 이미 완료됨: {} - 실패 건만 재시도", jobKey);
+                retryFailed(jobKey, periodStart, periodEnd);
+                return;
+            }
+            checkpoint.restart();
+        }
+        checkpoint = checkpointRepository.save(checkpoint);
+
+        long startedAt = System.nanoTime();
+        long processedThisRun = 0;
+        log.info("월간 리캡 배치 시작: {} (재개 위치 petId={}, userId={})",
+                jobKey, checkpoint.getLastPetId(), checkpoint.getLastUserId());
+
+        while (true) {
+            List<RecapBatchTarget> page = diaryRepository.findRecapTargets(
+                    periodStart.atStartOfDay(), periodEnd.plusDays(1).atStartOfDay(),
+                    checkpoint.getLastPetId(), checkpoint.getLastUserId(), pageSize);
+            if (page.isEmpty()) {
+                break;
+            }
+
+            // 페이지 내 대상을 워커 풀에 분배하고 모두 끝날 때까지 대기 (페이지 단위 체크포인트)
+            List<CompletableFuture<Outcome>> futures = page.stream()
+                    .map(target -> CompletableFuture.supplyAsync(
+                            () -> process(target, periodStart, periodEnd), workerExecutor))
+                    .toList();
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+            long generated = 0, skipped = 0, failed = 0;
+            for (CompletableFuture<Outcome> future : futures) {
+                switch (future.join()) {
+                    case GENERATED -> generated++;
+                    case SKIPPED -> skipped++;
+                    case FAILED -> failed++;
+                }
+            }
+
+            RecapBatchTarget last = page.get(page.size() - 1);
+            checkpoint.advance(last.getPetId(), last.getUserId(), generated, skipped, failed);
+            checkpoint = checkpointRepository.save(checkpoint);
+
+            processedThisRun += page.size();
+            log.info("월간 리캡 배치 진행: {} 누적 {}건 (생성 {}, 건너뜀 {}, 실패 {}), {} pets/s",
+                    jobKey, checkpoint.getProcessedCount(), checkpoint.getGeneratedCount(),
+                    checkpoint.getSkippedCount(), checkpoint.getFailedCount(), throughput(processedThisRun, startedAt));
+
+            if (page.size() < pageSize) {
+                break;
+            }
+        }
+
+        checkpoint.complete();
+        checkpointRepository.save(checkpoint);
+        log.info("월간 리캡 배치 완료: {} 총 {}건 (생성 {}, 건너뜀 {}, 실패 {}), 이번 실행 {}건 {} pets/s",
+                jobKey, checkpoint.getProcessedCount(), checkpoint.getGeneratedCount(), checkpoint.getSkippedCount(),
+                checkpoint.getFailedCount(), processedThisRun, throughput(processedThisRun, startedAt));
+    }
+
+    // 워커 스레드: (사용자, 펫) 1쌍의 리캡을 멱등하게 생성
+    // 같은 펫을 여러 사용자가 함께 기록하면 사용자마다 따로 생성하므로 존재 확인도 (userId, petId, 기간) 기준
+    private Outcome process(RecapBatchTarget target, LocalDate periodStart, LocalDate periodEnd) {
+        return petTimer.record(() -> {
+            try {
+                Optional<Recap> existing = recapRepository.findFirstByUserIdAndPetIdAndPeriodStartAndPeriodEnd(
+                        target.getUserId(), target.getPetId(), periodStart, periodEnd);
+
+                Long recapId;
+                if (existing.isPresent()) {
+                    // 이전 실행에서 WAITING 으로 남은 건은 이어서, FAILED 로 남은 건은 대기 상태로 되돌려 다시 생성
+                    RecapStatus status = existing.get().getStatus();
+                    if (status == RecapStatus.FAILED) {
+                        resetForRetry(existing.get().getRecapId());
+                    } else if (status != RecapStatus.WAITING) {
+                        skippedCounter.increment();
+                        return Outcome.SKIPPED;
+                    }
+                    recapId = existing.get().getRecapId();
+                } else {
+                    RecapRequest.Generate request = RecapRequest.Generate.builder()
+                            .petId(target.getPetId())
+                            .userId(target.getUserId())
+                            .periodStart(periodStart)
+                            .periodEnd(periodEnd)
+                            .build();
+                    recapId = writeTx.execute(status -> recapRepository.save(request.toWaitingEntity()).getRecapId());
+                }
+
+                return generate(recapId);
+            } catch (RuntimeException e) {
+                log.warn("월간 리캡 생성 실패 (petId: {}, userId: {}): {}", target.getPetId(), target.getUserId(), e.getMessage());
+                failedCounter.increment();
+                return Outcome.FAILED;
+            }
+        });
+    }
+
+    // 완료된 기간의 FAILED 리캡을 recapId 순으로 한 번씩 재시도 (이번 실행에서 다시 실패한 건은 다음 실행 대상)
+    private void retryFailed(String jobKey, LocalDate periodStart, LocalDate periodEnd) {
+        long afterId = 0;
+        long retried = 0, generated = 0;
+        while (true) {
+            List<Long> recapIds = recapRepository.findFailedRecapIds(periodStart, periodEnd, afterId, Limit.of(pageSize));
+            if (recapIds.isEmpty()) {
+                break;
+            }
+
+            List<CompletableFuture<Outcome>> futures = recapIds.stream()
+                    .map(recapId -> CompletableFuture.supplyAsync(() -> retry(recapId), workerExecutor))
+                    .toList();
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+            for (CompletableFuture<Outcome> future : futures) {
+                if (future.join() == Outcome.GENERATED) {
+                    generated++;
+                }
+            }
+
+            retried += recapIds.size();
+            afterId = recapIds.get(recapIds.size() - 1);
+            if (recapIds.size() < pageSize) {
+                break;
+            }
+        }
+        log.info("월간 리캡 실패 건 재시도 완료: {} {}건 중 {}건 생성", jobKey, retried, generated);
+    }
+
+    private Outcome retry(Long recapId) {
+        return petTimer.record(() -> {
+            try {
+                resetForRetry(recapId);
+                return generate(recapId);
+            } catch (RuntimeException e) {
+                log.warn("월간 리캡 재시도 실패 (recapId: {}): {}", recapId, e.getMessage());
+                failedCounter.increment();
+                return Outcome.FAILED;
+            }
+        });
+    }
+
+    private void resetForRetry(Long recapId) {
+        writeTx.executeWithoutResult(status -> recapRepository.findById(recapId).ifPresent(Recap::retry));
+    }
+
+    // 워커 스레드에서 바로 집계 (동시 실행 수 = 워커 풀 크기로 제한)
+    // 동시/재시도 실행이 이미 가져간 리캡은 건너뜀으로 집계하여 실패 지표에 섞이지 않도록 함
+    private Outcome generate(Long recapId) {
+        Outcome outcome = recapGenerator.generate(recapId);
+        switch (outcome) {
+            case GENERATED -> generatedCounter.increment();
+            case SKIPPED -> skippedCounter.increment();
+            case FAILED -> failedCounter.increment();
+        }
+        return outcome;
+    }
+
+    private static long throughput(long processed, long startedAtNanos) {
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startedAtNanos) / 1_000_000);
+        return processed * 1000 / elapsedMillis;
+    }
+}
@@ -0,0 +1,101 @@
+package com.petlog.record.scheduler;
+
+import com.petlog.record.client.StorageServiceClient;
+import com.petlog.record.entity.PhotoTransferOutbox;
+import com.petlog.record.service.PhotoOutboxService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 사진 전송 아웃박스 디스패처
+ * 여러 일기에 걸친 대기 사진을 배치로 묶어 스토리지 서비스에 전송하고,
+ * 실패 시 아웃박스에 백오프 재시도를 예약합니다.
+ */
+@Slf4j
+@Component
+public class PhotoTransferDispatcher {
+
+    private final PhotoOutboxService photoOutboxService;
+    private final StorageServiceClient storageServiceClient;
+
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    // === 지표 (/actuator/metrics) ===
+    private final AtomicLong backlog;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+
+    public PhotoTransferDispatcher(PhotoOutboxService photoOutboxService,
+                                   StorageServiceClient storageServiceClient,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${diary.photo-outbox.batch-size:100}") int batchSize,
+                                   @Value("${diary.photo-outbox.max-batches-per-run:20}") int maxBatchesPerRun) {
+        this.photoOutboxService = photoOutboxService;
+        this.storageServiceClient = storageServiceClient;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.backlog = meterRegistry.gauge("diary.photo.outbox.backlog", new AtomicLong());
+        this.sentCounter = Counter.builder("diary.photo.outbox.sent")
+                .description("스토리지 서비스로 전송 완료된 사진 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("diary.photo.outbox.failed")
+                .description("스토리지 서비스 전송에 실패한 사진 수 (재시도 포함)")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${diary.photo-outbox.dispatch-interval-ms:5000}")
+    public void dispatch() {
+        // 한 주기에 가득 찬 배치가 계속 나오면 적체로 보고 최대 maxBatchesPerRun 번까지 연속 전송
+        // 전송이 한 번이라도 실패하면 스토리지 서비스 장애로 보고 이번 주기를 끝냄 (남은 배치는 다음 주기/백오프 후 재시도)
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            if (!dispatchBatch()) {
+                break;
+            }
+        }
+        backlog.set(photoOutboxService.countPending());
+    }
+
+    /**
+     * 배치 하나를 전송합니다.
+     * @return 가득 찬 배치를 전송에 성공하여 이어서 다음 배치를 보낼 만하면 true
+     */
+    private boolean dispatchBatch() {
+        List<PhotoTransferOutbox> batch = photoOutboxService.claimDueBatch(batchSize);
+        if (batch.isEmpty()) {
+            return false;
+        }
+
+        List<Long> outboxIds = batch.stream()
+                .map(PhotoTransferOutbox::getOutboxId)
+                .collect(Collectors.toList());
+        List<StorageServiceClient.PhotoRequest> photos = batch.stream()
+                .map(row -> new StorageServiceClient.PhotoRequest(row.getUserId(), row.getImageUrl()))
+                .collect(Collectors.toList());
+
+        try {
+            storageServiceClient.savePhotos(photos);
+            photoOutboxService.markSent(outboxIds);
+            sentCounter.increment(photos.size());
+            log.info("Storage Service: Transferred {} photos from outbox", photos.size());
+        } catch (Exception e) {
+            // 전송 실패 시 유실하지 않고 백오프 후 재시도
+            // 서킷 브레이커가 감싼 예외(NoFallbackAvailableException)가 아닌 실제 원인을 기록
+            String cause = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            photoOutboxService.markFailed(outboxIds, cause);
+            failedCounter.increment(photos.size());
+            log.warn("Storage Service Transfer Failed ({} photos, will retry): {}", photos.size(), cause);
+            return false;
+        }
+        return batch.size() >= batchSize;
+    }
+}
@@ -0,0 +1,63 @@
+package com.petlog.record.scheduler;
+
+import com.petlog.record.entity.BatchStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 삭제 작업 진행 상황 (메모리 보관)
+ * 삭제는 멱등(대상 컬럼 조건으로 다시 지우면 남은 행만 지워짐)이므로 재기동으로 진행 상황을 잃어도
+ * 같은 대상으로 다시 요청하면 됩니다. 그래서 체크포인트 테이블 없이 조회용 상태만 유지합니다.
+ */
+@Getter
+public class PurgeProgress {
+
+    private final String jobId;
+    private final PurgeTarget target;
+    private final Long targetId;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    // 테이블별 삭제 행 수 (키 순서 = 삭제 순서, 키 집합은 생성 후 변하지 않음)
+    private final Map<String, AtomicLong> deletedRows = new LinkedHashMap<>();
+    private final AtomicLong chunks = new AtomicLong();
+
+    private volatile BatchStatus status = BatchStatus.RUNNING;
+    private volatile String lastError;
+    private volatile LocalDateTime completedAt;
+
+    PurgeProgress(String jobId, PurgeTarget target, Long targetId, List<String> tables) {
+        this.jobId = jobId;
+        this.target = target;
+        this.targetId = targetId;
+        tables.forEach(table -> deletedRows.put(table, new AtomicLong()));
+    }
+
+    void addDeleted(String table, long rows) {
+        deletedRows.get(table).addAndGet(rows);
+    }
+
+    void complete() {
+        this.completedAt = LocalDateTime.now();
+        this.status = BatchStatus.COMPLETED;
+    }
+
+    void fail(String reason) {
+        this.lastError = reason;
+        this.completedAt = LocalDateTime.now();
+        this.status = BatchStatus.FAILED;
+    }
+
+    public boolean isRunning() {
+        return status == BatchStatus.RUNNING;
+    }
+
+    public Map<String, Long> deletedRowsSnapshot() {
+        Map<String, Long> snapshot = new LinkedHashMap<>();
+        deletedRows.forEach((table, rows) -> snapshot.put(table, rows.get()));
+        return snapshot;
+    }
+}
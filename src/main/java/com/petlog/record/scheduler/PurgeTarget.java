@@ -0,0 +1,20 @@
+package com.petlog.record.scheduler;
+
+/**
+ * 삭제 대상 종류와 각 테이블에서 대상을 찾는 컬럼
+ * (컬럼명은 SQL 에 그대로 들어가므로 이 열거형의 상수만 사용)
+ */
+public enum PurgeTarget {
+    USER("user_id"),
+    PET("pet_id");
+
+    private final String column;
+
+    PurgeTarget(String column) {
+        this.column = column;
+    }
+
+    public String column() {
+        return column;
+    }
+}
@@ -0,0 +1,59 @@
+package com.petlog.record.service;
+
+import com.petlog.record.exception.BusinessException;
+import com.petlog.record.exception.ErrorCode;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface DiaryExportService {
+
+    enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        ZIP("application/zip", "zip");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        // 쿼리 파라미터(ndjson / zip, 대소문자 무관) -> 형식
+        public static Format from(String value) {
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new BusinessException(ErrorCode.INVALID_FORMAT, "지원하지 않는 내보내기 형식입니다: " + value);
+        }
+    }
+
+    // 동시 내보내기 자리 하나 (close 시 반납, 여러 번 닫아도 한 번만 반납)
+    interface Slot extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * 동시 내보내기 자리를 확보합니다. 남은 자리가 없으면 기다리지 않고 DIARY_EXPORT_BUSY(429) 예외를 던집니다.
+     * 응답 본문을 쓰기 시작하면 상태 코드를 바꿀 수 없으므로 응답을 만들기 전에 호출하고, 내보내기가 끝나면 닫아야 합니다.
+     */
+    Slot acquireSlot();
+
+    /**
+     * 사용자의 일기(이미지 포함)를 한 줄에 한 건씩 JSON(NDJSON)으로 스트리밍합니다.
+     * @return 내보낸 일기 수
+     */
+    long export(Long userId, Format format, OutputStream out) throws IOException;
+}
@@ -0,0 +1,18 @@
+package com.petlog.record.service;
+
+import com.petlog.record.dto.response.DiaryImportResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface DiaryImportService {
+
+    /**
+     * NDJSON(한 줄에 일기 하나, 내보내기 형식과 동일)을 읽으면서 청크 단위로 검증/적재합니다.
+     * jobId 를 주면 해당 작업의 체크포인트(커밋된 줄 수) 다음 줄부터 이어서 적재합니다.
+     */
+    DiaryImportResponse importDiaries(Long jobId, InputStream ndjson) throws IOException;
+
+    // 가져오기 작업 진행 상태 조회
+    DiaryImportResponse getJob(Long jobId);
+}
@@ -0,0 +1,29 @@
+package com.petlog.record.service;
+
+import com.petlog.record.dto.request.DiaryPostRequest;
+import com.petlog.record.dto.response.CursorPageResponse;
+import com.petlog.record.dto.response.DiaryPostResponse;
+
+public interface DiaryPostService {
+
+    // 게시글 생성
+    Long createPost(DiaryPostRequest.Create request);
+
+    // 게시글 단건 조회
+    DiaryPostResponse getPost(Long postId);
+
+    // 게시글 수정
+    void updatePost(Long postId, DiaryPostRequest.Update request);
+
+    // 게시글 삭제
+    void deletePost(Long postId);
+
+    // 사용자 타임라인 (최신순 커서 기반 페이지 조회)
+    CursorPageResponse<DiaryPostResponse> getUserTimeline(Long userId, String cursor, Integer size);
+
+    // 펫 타임라인 (최신순 커서 기반 페이지 조회)
+    CursorPageResponse<DiaryPostResponse> getPetTimeline(Long petId, String cursor, Integer size);
+
+    // 특정 이미지 URL을 포함한 게시글 조회
+    CursorPageResponse<DiaryPostResponse> getPostsContainingImage(String imageUrl, String cursor, Integer size);
+}
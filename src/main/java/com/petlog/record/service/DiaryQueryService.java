@@ -1,8 +1,13 @@
 package com.petlog.record.service;
 
+import com.petlog.record.dto.request.DiaryRequest;
+import com.petlog.record.dto.response.CursorPageResponse;
+import com.petlog.record.dto.response.DiaryCalendarResponse;
 import com.petlog.record.dto.response.DiaryResponse;
+import com.petlog.record.dto.response.DiarySearchResponse;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 
 public interface DiaryQueryService {
@@ -10,6 +15,12 @@ public interface DiaryQueryService {
     // 캘린더용: 특정 날짜의 일기 조회
     List<DiaryResponse> getDiariesByDate(Long userId, LocalDate date);
 
-    // 보관함용: AI 다이어리 전체 조회
-    List<DiaryResponse> getAiDiaries(Long userId);
-}
\ No newline at end of file
+    // 캘린더용: 월간 날짜별 요약 (일기 수, 대표 이미지, 기분)
+    DiaryCalendarResponse getMonthlySummary(Long userId, YearMonth yearMonth);
+
+    // 보관함용: AI 다이어리 커서 기반 페이지 조회
+    CursorPageResponse<DiaryResponse> getAiDiaries(Long userId, String cursor, Integer size);
+
+    // 검색용: 본문 전문 검색 (관련도순 커서 기반 페이지 조회)
+    CursorPageResponse<DiarySearchResponse> searchDiaries(DiaryRequest.Search condition, String cursor, Integer size);
+}
@@ -1,13 +1,19 @@
 package com.petlog.record.service;
 
 import com.petlog.record.dto.request.DiaryRequest;
+import com.petlog.record.dto.response.DiaryBulkResponse;
 import com.petlog.record.dto.response.DiaryResponse;
 
+import java.util.List;
+
 public interface DiaryService {
 
     // 일기 생성
     Long createDiary(DiaryRequest.Create request);
 
+    // 일기 벌크 생성 (항목별 성공/실패 결과 반환)
+    DiaryBulkResponse createDiaries(List<DiaryRequest.Create> requests);
+
     // 일기 단건 조회
     DiaryResponse getDiary(Long diaryId);
 
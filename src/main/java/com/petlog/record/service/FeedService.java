@@ -0,0 +1,10 @@
+package com.petlog.record.service;
+
+import com.petlog.record.dto.response.CursorPageResponse;
+import com.petlog.record.dto.response.DiaryResponse;
+
+public interface FeedService {
+
+    // 조회자 피드: 본인 + 팔로잉 사용자의 공개(PUBLIC/FOLLOWER) 일기를 최신순 커서 기반 페이지 조회
+    CursorPageResponse<DiaryResponse> getFeed(Long viewerId, String cursor, Integer size);
+}
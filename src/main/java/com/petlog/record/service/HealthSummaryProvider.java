@@ -0,0 +1,97 @@
+package com.petlog.record.service;
+
+import com.petlog.record.client.HealthcareServiceClient;
+import com.petlog.record.config.CacheConfig;
+import com.petlog.record.dto.client.HealthSummaryResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리캡 상세용 건강 지표 조회기
+ * - 헬스케어 서비스 호출을 외부 호출 전용 스레드 풀에서 비동기로 시작하여 DB 조회와 병렬로 진행
+ * - 호출 시작 시점부터 지연 예산(budget)이 지나면 null로 완료 -> 건강 지표 없이 응답 (부분 결과)
+ * - 이미 끝난 기간의 집계는 바뀌지 않으므로 캐시 (진행 중인 기간은 매번 조회)
+ */
+@Slf4j
+@Component
+public class HealthSummaryProvider {
+
+    private final HealthcareServiceClient healthcareClient;
+    private final Executor executor;
+    private final CacheManager cacheManager;
+    private final Duration budget;
+    private final Clock clock;
+
+    @Autowired // 생성자가 둘이므로 빈 생성에 쓸 생성자를 지정 (나머지는 테스트용 시계 주입)
+    public HealthSummaryProvider(HealthcareServiceClient healthcareClient,
+                                 @Qualifier("externalCallExecutor") Executor executor,
+                                 CacheManager cacheManager,
+                                 @Value("${recap.health.timeout:800ms}") Duration budget) {
+        this(healthcareClient, executor, cacheManager, budget, Clock.systemDefaultZone());
+    }
+
+    HealthSummaryProvider(HealthcareServiceClient healthcareClient, Executor executor,
+                          CacheManager cacheManager, Duration budget, Clock clock) {
+        this.healthcareClient = healthcareClient;
+        this.executor = executor;
+        this.cacheManager = cacheManager;
+        this.budget = budget;
+        this.clock = clock;
+    }
+
+    /**
+     * 건강 지표 조회를 시작합니다. 반환된 Future는 예산 내에 응답이 없거나 실패하면 null로 완료되며
+     * 예외로 완료되지 않습니다. (예산 초과 후 도착한 응답도 지난 기간이면 캐시에 적재되어 다음 요청에 사용)
+     */
+    public CompletableFuture<HealthSummaryResponse> fetchAsync(Long petId, LocalDate periodStart, LocalDate periodEnd) {
+        if (petId == null || periodStart == null || periodEnd == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        boolean immutablePeriod = periodEnd.isBefore(LocalDate.now(clock));
+        String key = petId + ":" + periodStart + ":" + periodEnd;
+        Cache cache = immutablePeriod ? cacheManager.getCache(CacheConfig.HEALTH_SUMMARY_CACHE) : null;
+
+        if (cache != null) {
+            HealthSummaryResponse cached = cache.get(key, HealthSummaryResponse.class);
+            if (cached != null) {
+                return CompletableFuture.completedFuture(cached);
+            }
+        }
+
+        CompletableFuture<HealthSummaryResponse> call;
+        try {
+            call = CompletableFuture.supplyAsync(() -> {
+                HealthSummaryResponse summary = healthcareClient.getHealthSummary(petId, periodStart, periodEnd);
+                if (cache != null && summary != null) {
+                    cache.put(key, summary);
+                }
+                return summary;
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            // 외부 호출 실행기 포화 -> 기다리지 않고 건강 지표 없이 응답
+            log.warn("헬스케어 데이터 조회 생략 (외부 호출 실행기 포화, petId: {})", petId);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return call
+                .exceptionally(e -> {
+                    log.warn("헬스케어 데이터 조회 실패 (리캡 상세 조회는 계속 진행, petId: {}): {}", petId, e.getMessage());
+                    return null;
+                })
+                .completeOnTimeout(null, budget.toMillis(), TimeUnit.MILLISECONDS);
+    }
+}
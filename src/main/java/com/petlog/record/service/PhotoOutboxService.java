@@ -0,0 +1,27 @@
+package com.petlog.record.service;
+
+import com.petlog.record.entity.Diary;
+import com.petlog.record.entity.PhotoTransferOutbox;
+
+import java.util.List;
+
+public interface PhotoOutboxService {
+
+    // 일기의 갤러리 사진을 아웃박스에 적재 (호출한 쪽 트랜잭션에 참여)
+    void enqueue(Diary diary);
+
+    // 삭제되는 일기의 미전송 건 폐기 (호출한 쪽 트랜잭션에 참여)
+    void discard(Long diaryId);
+
+    // 전송할 대기 건을 가져오고 임대 처리
+    List<PhotoTransferOutbox> claimDueBatch(int batchSize);
+
+    // 전송 성공 처리 (아웃박스에서 삭제)
+    void markSent(List<Long> outboxIds);
+
+    // 전송 실패 처리 (백오프 후 재시도 예약)
+    void markFailed(List<Long> outboxIds, String error);
+
+    // 전송 대기 건수
+    long countPending();
+}
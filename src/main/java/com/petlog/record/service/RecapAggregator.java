@@ -0,0 +1,170 @@
+package com.petlog.record.service;
+
+import com.petlog.record.entity.Diary;
+import com.petlog.record.entity.DiaryImage;
+import com.petlog.record.entity.RecapHighlight;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 리캡 집계기 (리캡 1건 생성 동안만 사용하는 상태 객체, 스레드 안전하지 않음)
+ * 일기를 한 건씩 받아 누적하므로 기간 전체 일기를 메모리에 올리지 않고
+ * 개수/기분/날씨 통계와 상위 K개 하이라이트 후보만 유지합니다.
+ */
+public class RecapAggregator {
+
+    private static final int HIGHLIGHT_CONTENT_LENGTH = 100;
+    private static final DateTimeFormatter HIGHLIGHT_DATE = DateTimeFormatter.ofPattern("M월 d일");
+
+    // 점수가 낮은(같으면 더 최근에 작성된) 후보가 먼저 나오는 최소 힙 -> 넘치면 가장 약한 후보를 버림
+    private static final Comparator<Candidate> WEAKEST_FIRST = Comparator
+            .comparingInt(Candidate::score)
+            .thenComparing(Candidate::diaryId, Comparator.reverseOrder());
+
+    private final int highlightCount;
+    private final PriorityQueue<Candidate> candidates;
+
+    // 첫 등장 순서를 유지하여 동률일 때 먼저 기록된 값을 대표로 선택
+    private final Map<String, Integer> moodCounts = new LinkedHashMap<>();
+    private final Map<String, Integer> weatherCounts = new LinkedHashMap<>();
+
+    private int momentCount;
+    private String firstImageUrl;
+
+    public RecapAggregator(int highlightCount) {
+        this.highlightCount = highlightCount;
+        this.candidates = new PriorityQueue<>(highlightCount + 1, WEAKEST_FIRST);
+    }
+
+    public void accept(Diary diary) {
+        momentCount++;
+        count(moodCounts, diary.getMood());
+        count(weatherCounts, diary.getWeather());
+
+        String imageUrl = representativeImage(diary.getImages());
+        if (firstImageUrl == null) {
+            firstImageUrl = imageUrl;
+        }
+
+        if (highlightCount <= 0) {
+            return;
+        }
+        candidates.offer(toCandidate(diary, imageUrl));
+        if (candidates.size() > highlightCount) {
+            candidates.poll();
+        }
+    }
+
+    public Result result() {
+        String topMood = mostFrequent(moodCounts);
+        String topWeather = mostFrequent(weatherCounts);
+
+        // 표지: 가장 점수가 높은 사진 있는 하이라이트 -> 없으면 기간 내 첫 사진
+        String coverImageUrl = candidates.stream()
+                .filter(c -> c.imageUrl() != null)
+                .max(WEAKEST_FIRST)
+                .map(Candidate::imageUrl)
+                .orElse(firstImageUrl);
+
+        // 하이라이트는 순위(점수 내림차순, 같으면 먼저 작성된 일기) 순서로 노출 -> 저장 순서(highlightId)가 곧 순위
+        List<RecapHighlight> highlights = candidates.stream()
+                .sorted(WEAKEST_FIRST.reversed())
+                .map(c -> RecapHighlight.builder()
+                        .title(c.title())
+                        .content(c.content())
+                        .build())
+                .toList();
+
+        return new Result(momentCount, summarize(topMood, topWeather), coverImageUrl, topMood, topWeather, highlights);
+    }
+
+    private String summarize(String topMood, String topWeather) {
+        if (momentCount == 0) {
+            return "이 기간에는 기록된 순간이 없어요.";
+        }
+        StringBuilder summary = new StringBuilder()
+                .append("이번 기간 동안 ").append(momentCount).append("개의 순간을 기록했어요.");
+        if (topMood != null) {
+            summary.append(" 가장 많이 느낀 기분은 '").append(topMood).append("'");
+            summary.append(topWeather != null ? "," : "이었어요.");
+        }
+        if (topWeather != null) {
+            summary.append(" 주로 '").append(topWeather).append("' 날씨였어요.");
+        }
+        return summary.toString();
+    }
+
+    // 점수: 사진이 많고 내용이 충실한 일기를 우선 (사진 1장 = 10점, 본문 10자 = 1점, 최대 30점)
+    private Candidate toCandidate(Diary diary, String imageUrl) {
+        String content = diary.getContent() != null ? diary.getContent().strip() : "";
+        int imageCount = diary.getImages() != null ? diary.getImages().size() : 0;
+        int score = Math.min(imageCount, 5) * 10 + Math.min(content.length(), 300) / 10;
+
+        return new Candidate(
+                diary.getDiaryId(),
+                score,
+                highlightTitle(diary.getCreatedAt(), diary.getMood()),
+                content.length() > HIGHLIGHT_CONTENT_LENGTH
+                        ? content.substring(0, HIGHLIGHT_CONTENT_LENGTH) + "…"
+                        : content,
+                imageUrl
+        );
+    }
+
+    private static String highlightTitle(LocalDateTime createdAt, String mood) {
+        String date = createdAt != null ? createdAt.format(HIGHLIGHT_DATE) : "어느 날";
+        return mood != null ? date + "의 " + mood : date + "의 기록";
+    }
+
+    // 대표 이미지 우선, 없으면 순서가 가장 빠른 이미지
+    private static String representativeImage(List<DiaryImage> images) {
+        if (images == null || images.isEmpty()) {
+            return null;
+        }
+        return images.stream()
+                .filter(img -> Boolean.TRUE.equals(img.getMainImage()))
+                .findFirst()
+                .or(() -> images.stream()
+                        .min(Comparator.comparing(DiaryImage::getImgOrder,
+                                Comparator.nullsLast(Comparator.naturalOrder()))))
+                .map(DiaryImage::getImageUrl)
+                .orElse(null);
+    }
+
+    private static void count(Map<String, Integer> counts, String value) {
+        if (value != null && !value.isBlank()) {
+            counts.merge(value, 1, Integer::sum);
+        }
+    }
+
+    private static String mostFrequent(Map<String, Integer> counts) {
+        String top = null;
+        int topCount = 0;
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            if (entry.getValue() > topCount) {
+                top = entry.getKey();
+                topCount = entry.getValue();
+            }
+        }
+        return top;
+    }
+
+    private record Candidate(Long diaryId, int score, String title, String content, String imageUrl) {
+    }
+
+    public record Result(
+            int momentCount,
+            String summary,
+            String mainImageUrl,
+            String topMood,
+            String topWeather,
+            List<RecapHighlight> highlights
+    ) {
+    }
+}
@@ -0,0 +1,135 @@
+package com.petlog.record.service;
+
+import com.petlog.record.entity.Diary;
+import com.petlog.record.entity.Recap;
+import com.petlog.record.entity.RecapStatus;
+import com.petlog.record.event.RecapEvent;
+import com.petlog.record.event.RecapGenerationRequested;
+import com.petlog.record.repository.DiaryRepository;
+import com.petlog.record.repository.RecapRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 리캡 자동 생성 엔진
+ * WAITING 리캡이 커밋되면 전용 스레드 풀에서 리캡 소유자가 펫에 대해 쓴 기간 내 일기를 청크 단위로 읽어 집계하고,
+ * 결과(요약/표지/하이라이트)를 기록한 뒤 GENERATED로 전환합니다.
+ * - 청크마다 짧은 읽기 트랜잭션을 사용하므로 영속성 컨텍스트에는 한 청크만 머무름
+ * - 실패 시 FAILED로 전환하여 '생성 대기 중' 상태로 남지 않도록 함
+ */
+@Slf4j
+@Component
+public class RecapGenerator {
+
+    private final RecapRepository recapRepository;
+    private final DiaryRepository diaryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final TransactionTemplate writeTx;
+    private final TransactionTemplate readTx;
+
+    private final int chunkSize;
+    private final int highlightCount;
+
+    public RecapGenerator(RecapRepository recapRepository,
+                          DiaryRepository diaryRepository,
+                          ApplicationEventPublisher eventPublisher,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${recap.generation.chunk-size:100}") int chunkSize,
+                          @Value("${recap.generation.highlight-count:5}") int highlightCount) {
+        this.recapRepository = recapRepository;
+        this.diaryRepository = diaryRepository;
+        this.eventPublisher = eventPublisher;
+        this.writeTx = new TransactionTemplate(transactionManager);
+        this.readTx = new TransactionTemplate(transactionManager);
+        this.readTx.setReadOnly(true);
+        this.chunkSize = chunkSize;
+        this.highlightCount = highlightCount;
+    }
+
+    @Async("recapExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onGenerationRequested(RecapGenerationRequested event) {
+        generate(event.recapId());
+    }
+
+    // 생성 결과: 이미 다른 실행이 가져간(WAITING 이 아닌) 리캡은 실패가 아니라 건너뜀
+    public enum Outcome {
+        GENERATED, SKIPPED, FAILED
+    }
+
+    /**
+     * 리캡 1건을 생성합니다. WAITING 상태가 아니면(동시/재시도 실행이 이미 생성/실패 처리함) 아무것도 하지 않습니다.
+     * @return GENERATED(이번 호출로 생성 완료), SKIPPED(대기 상태가 아니어서 건너뜀), FAILED(집계/저장 실패 -> FAILED 전환)
+     */
+    public Outcome generate(Long recapId) {
+        Recap target = readTx.execute(status -> recapRepository.findById(recapId)
+                .filter(recap -> recap.getStatus() == RecapStatus.WAITING)
+                .orElse(null));
+        if (target == null) {
+            log.info("리캡 생성 건너뜀 (recapId: {}): 대기 상태가 아님", recapId);
+            return Outcome.SKIPPED;
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            RecapAggregator.Result result = aggregate(target);
+
+            writeTx.executeWithoutResult(status -> {
+                Recap recap = recapRepository.findById(recapId).orElseThrow();
+                recap.complete(result.summary(), result.mainImageUrl(), result.momentCount(), result.highlights());
+
+                // 생성 완료 이벤트 (커밋 이후 Kafka 전송 -> 알림 서비스가 "리캡 도착" 알림 발송)
+                eventPublisher.publishEvent(RecapEvent.generated(recap));
+            });
+
+            log.info("리캡 생성 완료 (recapId: {}, petId: {}, 일기 {}건, {}ms)",
+                    recapId, target.getPetId(), result.momentCount(), (System.nanoTime() - startedAt) / 1_000_000);
+            return Outcome.GENERATED;
+        } catch (RuntimeException e) {
+            log.error("리캡 생성 실패 (recapId: {}): {}", recapId, e.getMessage(), e);
+            writeTx.executeWithoutResult(status ->
+                    recapRepository.findById(recapId).ifPresent(Recap::fail));
+            return Outcome.FAILED;
+        }
+    }
+
+    // (createdAt, diaryId) 키셋으로 청크를 이어 읽으며 집계 (OFFSET 없이 일정한 비용)
+    private RecapAggregator.Result aggregate(Recap recap) {
+        LocalDateTime start = recap.getPeriodStart().atStartOfDay();
+        LocalDateTime end = recap.getPeriodEnd().plusDays(1).atStartOfDay(); // 종료일 포함 [start, end)
+        Limit limit = Limit.of(chunkSize);
+
+        RecapAggregator aggregator = new RecapAggregator(highlightCount);
+        Diary last = null;
+
+        while (true) {
+            Diary cursor = last;
+            // 청크마다 새 읽기 트랜잭션 -> 이전 청크의 엔티티는 영속성 컨텍스트와 함께 해제됨
+            List<Diary> chunk = readTx.execute(status -> {
+                List<Diary> rows = cursor == null
+                        ? diaryRepository.findPeriodChunk(recap.getPetId(), recap.getUserId(), start, end, limit)
+                        : diaryRepository.findPeriodChunkAfter(recap.getPetId(), recap.getUserId(), start, end,
+                                cursor.getCreatedAt(), cursor.getDiaryId(), limit);
+                rows.forEach(aggregator::accept); // images 지연 로딩은 청크 단위 IN 조회
+                return rows;
+            });
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+            last = chunk.get(chunk.size() - 1);
+        }
+        return aggregator.result();
+    }
+}
@@ -1,20 +1,29 @@
 package com.petlog.record.service;
 
 import com.petlog.record.dto.request.RecapRequest;
+import com.petlog.record.dto.response.CursorPageResponse;
 import com.petlog.record.dto.response.RecapResponse;
-
-import java.util.List;
+import com.petlog.record.util.ListVersion;
 
 public interface RecapService {
     // 리캡 생성
     Long createRecap(RecapRequest.Create request);
 
+    // 리캡 자동 생성 요청 (WAITING 상태로 저장 후 비동기 집계)
+    Long generateRecap(RecapRequest.Generate request);
+
     // 상세 조회
     RecapResponse.Detail getRecap(Long recapId);
 
-    // 사용자별 리캡 전체 목록 조회
-    List<RecapResponse.Simple> getAllRecaps(Long userId);
+    // 사용자별 리캡 목록 조회 (커서 기반 페이지)
+    CursorPageResponse<RecapResponse.Simple> getAllRecaps(Long userId, String cursor, Integer size);
+
+    // 사용자별 리캡 목록 버전 (ETag/Last-Modified 용, 목록 본문 없이 집계만 조회)
+    ListVersion getAllRecapsVersion(Long userId);
+
+    // [추가] 펫별 리캡 목록 조회 (커서 기반 페이지)
+    CursorPageResponse<RecapResponse.Simple> getRecapsByPet(Long petId, String cursor, Integer size);
 
-    // [추가] 펫별 리캡 목록 조회
-    List<RecapResponse.Simple> getRecapsByPet(Long petId);
+    // 펫별 리캡 목록 버전
+    ListVersion getRecapsByPetVersion(Long petId);
 }
\ No newline at end of file
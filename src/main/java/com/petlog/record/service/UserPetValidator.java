@@ -0,0 +1,216 @@
+package com.petlog.record.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.petlog.record.client.PetServiceClient;
+import com.petlog.record.client.UserServiceClient;
+import com.petlog.record.exception.BusinessException;
+import com.petlog.record.exception.EntityNotFoundException;
+import com.petlog.record.exception.ErrorCode;
+import feign.FeignException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.circuitbreaker.NoFallbackAvailableException;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * MSA 회원/펫 서비스 연동 검증기
+ * 회원 서비스에 'exists' API가 없으므로 'getInfo' API를 호출하여 예외 발생 여부로 존재성을 확인합니다.
+ * - 사용자/펫 조회를 동시에 보내 응답 시간이 두 호출의 합이 아닌 최댓값이 되도록 함
+ * - 존재가 확인된 ID는 짧은 TTL 동안 캐시하여 같은 사용자의 연속 작성 시 원격 호출 생략
+ */
+@Slf4j
+@Component
+public class UserPetValidator {
+
+    private final UserServiceClient userClient;
+    private final PetServiceClient petClient;
+    private final Executor executor;
+    // validateAll 한 번이 동시에 보내는 원격 호출 수 상한 (의존성별 벌크헤드보다 작게 유지)
+    private final int maxFanout;
+
+    // 존재 확인에 성공한 결과(positive)만 캐시 -> 삭제된 사용자/펫도 TTL 이후에는 다시 검증됨
+    private final Cache<Long, Boolean> existingUsers;
+    private final Cache<Long, Boolean> existingPets;
+
+    public UserPetValidator(UserServiceClient userClient,
+                            PetServiceClient petClient,
+                            @Qualifier("externalCallExecutor") Executor executor,
+                            @Value("${diary.validation.cache.ttl:30s}") Duration cacheTtl,
+                            @Value("${diary.validation.cache.max-size:10000}") long cacheMaxSize,
+                            @Value("${diary.validation.max-fanout:8}") int maxFanout) {
+        this.userClient = userClient;
+        this.petClient = petClient;
+        this.executor = executor;
+        this.maxFanout = maxFanout;
+        this.existingUsers = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(cacheTtl)
+                .build();
+        this.existingPets = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(cacheTtl)
+                .build();
+    }
+
+    /**
+     * 사용자와 펫 존재 여부를 병렬로 확인합니다.
+     * 둘 다 실패한 경우 기존과 동일하게 사용자 검증 실패(USER_NOT_FOUND)를 우선 반환합니다.
+     */
+    public void validate(Long userId, Long petId) {
+        CompletableFuture<Void> userCheck = checkUser(userId);
+        CompletableFuture<Void> petCheck = checkPet(petId);
+
+        await(userCheck);
+        await(petCheck);
+    }
+
+    /**
+     * 사용자 존재 여부만 확인합니다. (펫이 선택 항목인 게시글 등)
+     */
+    public void validateUser(Long userId) {
+        await(checkUser(userId));
+    }
+
+    /**
+     * 벌크 생성용: 중복을 제거한 사용자/펫 ID를 병렬 확인하고 존재하지 않는 ID 목록을 반환합니다.
+     * 항목별 성공/실패를 응답해야 하므로 예외를 던지지 않고 결과로 모아 돌려줍니다.
+     * ID가 수백 개여도 동시에 진행 중인 원격 호출은 maxFanout 개까지만 두어
+     * 벌크헤드(resilience4j.bulkhead)를 혼자 채워 즉시 거절(BulkheadFullException)되지 않도록 합니다.
+     */
+    public Missing validateAll(Collection<Long> userIds, Collection<Long> petIds) {
+        Map<Long, CompletableFuture<Void>> userChecks = startBounded(new HashSet<>(userIds), this::checkUser);
+        Map<Long, CompletableFuture<Void>> petChecks = startBounded(new HashSet<>(petIds), this::checkPet);
+
+        return new Missing(collectMissing(userChecks), collectMissing(petChecks));
+    }
+
+    // 진행 중인 호출이 maxFanout 개면 하나가 끝날 때까지 호출 스레드에서 대기 후 다음 호출 시작 (캐시 적중은 바로 반환)
+    private Map<Long, CompletableFuture<Void>> startBounded(Collection<Long> ids,
+                                                            Function<Long, CompletableFuture<Void>> check) {
+        Semaphore inFlight = new Semaphore(maxFanout);
+        Map<Long, CompletableFuture<Void>> checks = new LinkedHashMap<>();
+        for (Long id : ids) {
+            inFlight.acquireUninterruptibly();
+            checks.put(id, check.apply(id).whenComplete((ignored, e) -> inFlight.release()));
+        }
+        return checks;
+    }
+
+    /**
+     * 삭제 통지를 받은 사용자/펫의 존재 확인 캐시를 비웁니다. (TTL 동안 삭제된 대상으로 기록이 생성되지 않도록)
+     */
+    public void evictUser(Long userId) {
+        existingUsers.invalidate(userId);
+    }
+
+    public void evictPet(Long petId) {
+        existingPets.invalidate(petId);
+    }
+
+    // 존재하지 않는 것으로 확인된 사용자/펫 ID
+    public record Missing(Set<Long> userIds, Set<Long> petIds) {
+    }
+
+    private Set<Long> collectMissing(Map<Long, CompletableFuture<Void>> checks) {
+        Set<Long> missing = new HashSet<>();
+        checks.forEach((id, future) -> {
+            try {
+                await(future);
+            } catch (EntityNotFoundException e) {
+                missing.add(id);
+            }
+        });
+        return missing;
+    }
+
+    private CompletableFuture<Void> checkUser(Long userId) {
+        if (existingUsers.getIfPresent(userId) != null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return submit(() -> {
+            try {
+                // 상세 정보를 조회해보고, 성공하면 유저가 존재하는 것으로 간주
+                userClient.getUserInfo(userId);
+                existingUsers.put(userId, Boolean.TRUE);
+                log.info("회원 서비스 연동 성공: 유저 확인됨 (userId: {})", userId);
+            } catch (RuntimeException e) {
+                log.warn("User validation failed for userId: {}. Cause: {}", userId, rootCause(e).getMessage());
+                throw translate(e, ErrorCode.USER_NOT_FOUND);
+            }
+        });
+    }
+
+    private CompletableFuture<Void> checkPet(Long petId) {
+        if (existingPets.getIfPresent(petId) != null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return submit(() -> {
+            try {
+                petClient.getPetInfo(petId);
+                existingPets.put(petId, Boolean.TRUE);
+                log.info("회원 서비스 연동 성공: 펫 확인됨 (petId: {})", petId);
+            } catch (RuntimeException e) {
+                log.warn("Pet validation failed for petId: {}. Cause: {}", petId, rootCause(e).getMessage());
+                throw translate(e, ErrorCode.PET_NOT_FOUND);
+            }
+        });
+    }
+
+    // 외부 호출 실행기가 가득 차 거절되면 의존 서비스 과부하로 보고 EXTERNAL_API_ERROR (존재하지 않는 것으로 오판하지 않음)
+    private CompletableFuture<Void> submit(Runnable call) {
+        try {
+            return CompletableFuture.runAsync(call, executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("외부 호출 실행기 포화로 검증 요청 거절: {}", e.getMessage());
+            return CompletableFuture.failedFuture(
+                    new BusinessException(ErrorCode.EXTERNAL_API_ERROR, "외부 호출 대기열이 가득 찼습니다.", e));
+        }
+    }
+
+    /**
+     * 원격 호출 실패를 비즈니스 예외로 변환합니다.
+     * - 4xx 응답: 대상이 없거나 조회할 수 없는 상태 -> NOT_FOUND
+     * - 5xx / 타임아웃 / 서킷 오픈 / 벌크헤드 초과: 의존 서비스 장애 -> EXTERNAL_API_ERROR (존재하지 않는 것으로 오판하지 않음)
+     * 서킷 브레이커가 켜져 있으면 Feign 예외가 NoFallbackAvailableException 안에 감싸져 전달되므로 풀어서 판단합니다.
+     */
+    private RuntimeException translate(RuntimeException e, ErrorCode notFound) {
+        Throwable cause = e instanceof NoFallbackAvailableException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof FeignException feignException
+                && feignException.status() >= 400 && feignException.status() < 500) {
+            return new EntityNotFoundException(notFound);
+        }
+        return new BusinessException(ErrorCode.EXTERNAL_API_ERROR, rootCause(e).getMessage(), e);
+    }
+
+    private static Throwable rootCause(Throwable e) {
+        return NestedExceptionUtils.getMostSpecificCause(e);
+    }
+
+    // CompletionException으로 감싸진 비즈니스 예외를 풀어서 그대로 던짐
+    private void await(CompletableFuture<Void> future) {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
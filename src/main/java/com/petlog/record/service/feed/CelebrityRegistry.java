@@ -0,0 +1,60 @@
+package com.petlog.record.service.feed;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.petlog.record.repository.FeedCelebrityRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 셀럽 계정 표시 (feed_celebrities 테이블)
+ * - 팬아웃 시 팔로워 수로 다시 판정하여 표시/해제 (FeedFanout)
+ * - 피드 읽기마다 조회하므로 전체 목록을 짧은 TTL 로 캐시 (다른 노드의 변경은 TTL 이내에 반영)
+ */
+@Component
+public class CelebrityRegistry {
+
+    private static final String ALL = "all";
+
+    private final FeedCelebrityRepository repository;
+    private final Cache<String, Set<Long>> cache;
+
+    public CelebrityRegistry(FeedCelebrityRepository repository,
+                             @Value("${feed.celebrity-cache.ttl:60s}") Duration ttl) {
+        this.repository = repository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public Set<Long> celebrities() {
+        // cache.get(key, loader) 대신 조회 후 put: DB 조회 동안 캐시 내부 잠금을 잡지 않음 (가상 스레드 고정 방지)
+        Set<Long> cached = cache.getIfPresent(ALL);
+        if (cached != null) {
+            return cached;
+        }
+        Set<Long> loaded = Set.copyOf(repository.findAllUserIds());
+        cache.put(ALL, loaded);
+        return loaded;
+    }
+
+    public boolean isCelebrity(Long userId) {
+        return celebrities().contains(userId);
+    }
+
+    public void mark(Long userId) {
+        if (!isCelebrity(userId) && repository.insertIfAbsent(userId) > 0) {
+            cache.invalidate(ALL);
+        }
+    }
+
+    public void unmark(Long userId) {
+        if (repository.deleteByUserId(userId) > 0) {
+            cache.invalidate(ALL);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.petlog.record.service.feed;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * 타임라인에 쌓이는 피드 항목 (일기 키만 보관, 본문은 읽을 때 조회)
+ * 정렬: 최신순 (createdAt desc, diaryId desc) - 일기 키셋 커서와 같은 순서
+ */
+public record FeedEntry(Long diaryId, Long authorId, LocalDateTime createdAt) {
+
+    public static final Comparator<FeedEntry> NEWEST_FIRST = Comparator
+            .comparing(FeedEntry::createdAt, Comparator.reverseOrder())
+            .thenComparing(FeedEntry::diaryId, Comparator.reverseOrder());
+
+    // 커서(createdAt, diaryId)보다 오래된 항목인지 여부
+    public boolean isBefore(LocalDateTime cursorCreatedAt, Long cursorDiaryId) {
+        int byTime = createdAt.compareTo(cursorCreatedAt);
+        return byTime < 0 || (byTime == 0 && diaryId < cursorDiaryId);
+    }
+}
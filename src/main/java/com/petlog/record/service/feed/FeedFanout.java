@@ -0,0 +1,127 @@
+package com.petlog.record.service.feed;
+
+import com.petlog.record.entity.Visibility;
+import com.petlog.record.event.DiaryEvent;
+import com.petlog.record.repository.DiaryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 쓰기 시 팬아웃: 일기가 작성되거나 공개 범위가 바뀌어 보이게 되면 팔로워 타임라인에 항목을 넣습니다.
+ * - PRIVATE 일기는 팬아웃하지 않음
+ * - 셀럽 계정(팔로워 수 > feed.celebrity-threshold)은 팬아웃을 생략하고 읽기 시 직접 조회 (FeedServiceImpl)
+ * - 셀럽에서 해제되면 그동안 팬아웃하지 않은 최근 일기를 팔로워 타임라인에 채운 뒤 해제 (해제 전까지는 직접 조회로 보임)
+ * - 삭제/비공개 전환은 타임라인에서 지우지 않고 읽기 시 일기를 다시 확인하여 걸러냄
+ * 커밋 이후 별도 스레드에서 실행하므로 팬아웃 실패가 일기 작성 응답에 영향을 주지 않습니다.
+ */
+@Slf4j
+@Component
+public class FeedFanout {
+
+    private final FeedStore feedStore;
+    private final FollowGraph followGraph;
+    private final CelebrityRegistry celebrityRegistry;
+    private final DiaryRepository diaryRepository;
+    private final int timelineMaxSize;
+
+    private final Counter pushedCounter;
+    private final Counter celebrityCounter;
+    private final Counter failedCounter;
+    private final Counter demotedCounter;
+    private final DistributionSummary recipients;
+
+    public FeedFanout(FeedStore feedStore,
+                      FollowGraph followGraph,
+                      CelebrityRegistry celebrityRegistry,
+                      DiaryRepository diaryRepository,
+                      MeterRegistry meterRegistry,
+                      @Value("${feed.timeline.max-size:500}") int timelineMaxSize) {
+        this.feedStore = feedStore;
+        this.followGraph = followGraph;
+        this.celebrityRegistry = celebrityRegistry;
+        this.diaryRepository = diaryRepository;
+        this.timelineMaxSize = timelineMaxSize;
+        this.pushedCounter = Counter.builder("feed.fanout")
+                .tag("result", "pushed")
+                .description("팔로워 타임라인에 팬아웃한 일기 수")
+                .register(meterRegistry);
+        this.celebrityCounter = Counter.builder("feed.fanout")
+                .tag("result", "celebrity")
+                .description("셀럽 계정이라 팬아웃을 생략한 일기 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("feed.fanout")
+                .tag("result", "failed")
+                .description("팔로워 조회 실패로 팬아웃하지 못한 일기 수")
+                .register(meterRegistry);
+        this.demotedCounter = Counter.builder("feed.fanout.demoted")
+                .description("셀럽에서 해제되어 최근 일기를 팔로워 타임라인에 채운 계정 수")
+                .register(meterRegistry);
+        this.recipients = DistributionSummary.builder("feed.fanout.recipients")
+                .description("일기 1건당 팬아웃 대상 타임라인 수")
+                .register(meterRegistry);
+    }
+
+    @Async("feedFanoutExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDiaryEvent(DiaryEvent event) {
+        if (event.type() == DiaryEvent.Type.DELETED || event.visibility() == Visibility.PRIVATE) {
+            return;
+        }
+        fanOut(new FeedEntry(event.diaryId(), event.userId(), event.createdAt()));
+    }
+
+    void fanOut(FeedEntry entry) {
+        Long authorId = entry.authorId();
+        List<Long> followers;
+        try {
+            followers = followGraph.followersForFanout(authorId);
+        } catch (RuntimeException e) {
+            // 작성자 본인 타임라인에는 넣어두고, 팔로워 타임라인은 이번 항목만 빠짐
+            feedStore.push(List.of(authorId), entry);
+            failedCounter.increment();
+            log.warn("피드 팬아웃 실패 (diaryId: {}, authorId: {}): {}",
+                    entry.diaryId(), authorId, NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+            return;
+        }
+
+        if (followers == null) {
+            celebrityRegistry.mark(authorId);
+            feedStore.push(List.of(authorId), entry);
+            celebrityCounter.increment();
+            return;
+        }
+
+        List<Long> viewers = new ArrayList<>(followers.size() + 1);
+        viewers.add(authorId);
+        viewers.addAll(followers);
+        if (celebrityRegistry.isCelebrity(authorId)) {
+            backfill(authorId, viewers);
+            celebrityRegistry.unmark(authorId);
+            demotedCounter.increment();
+        }
+        feedStore.push(viewers, entry);
+        pushedCounter.increment();
+        recipients.record(viewers.size());
+    }
+
+    // 셀럽이던 동안 팬아웃하지 않은 최근 일기(타임라인 최대 길이만큼)를 팔로워 타임라인에 채움
+    private void backfill(Long authorId, List<Long> viewers) {
+        diaryRepository.findFeedKeys(authorId, Limit.of(timelineMaxSize))
+                .forEach(key -> feedStore.push(viewers,
+                        new FeedEntry(key.getDiaryId(), key.getUserId(), key.getCreatedAt())));
+        log.info("셀럽 해제: 최근 일기를 팔로워 타임라인에 채움 (authorId: {}, followers: {})",
+                authorId, viewers.size() - 1);
+    }
+}
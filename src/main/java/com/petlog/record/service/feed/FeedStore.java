@@ -0,0 +1,33 @@
+package com.petlog.record.service.feed;
+
+import com.petlog.record.util.KeysetCursor;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 사용자(조회자)별 타임라인 저장소
+ * 기본 구현은 단일 노드용 InMemoryFeedStore (feed.store=memory)
+ * 다중 노드 배포 시 Redis Sorted Set 등 분산 저장소 구현을 feed.store 값으로 골라 교체 (서비스 코드 수정 불필요)
+ */
+public interface FeedStore {
+
+    /**
+     * 여러 조회자의 타임라인에 항목을 추가합니다. (같은 diaryId 는 한 번만 저장)
+     * 타임라인마다 최대 길이를 넘는 오래된 항목은 버립니다.
+     * 타임라인이 없는 조회자는 건너뜁니다. (다음 읽기 시 open 후 일기 테이블에서 다시 채움)
+     */
+    void push(Collection<Long> viewerIds, FeedEntry entry);
+
+    /**
+     * 조회자의 타임라인이 없으면(처음 읽기, 재시작, 장기 미접속으로 제거) 빈 타임라인을 만듭니다.
+     * @return 새로 만든 경우 true - 호출자가 일기 테이블에서 최근 항목을 채워야 함
+     */
+    boolean open(Long viewerId);
+
+    /**
+     * 조회자의 타임라인을 최신순으로 읽습니다.
+     * @param before 이 커서보다 오래된 항목만 (null 이면 처음부터)
+     */
+    List<FeedEntry> read(Long viewerId, KeysetCursor before, int limit);
+}
@@ -0,0 +1,65 @@
+package com.petlog.record.service.feed;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.petlog.record.client.UserServiceClient;
+import com.petlog.record.exception.BusinessException;
+import com.petlog.record.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 회원 서비스의 팔로우 관계 조회
+ * - 팔로잉 목록(피드 읽기)은 짧은 TTL 로 캐시하여 피드 새로고침마다 원격 호출하지 않음
+ * - 팔로워 목록(팬아웃)은 셀럽 기준치 + 1 명까지만 받아, 기준치를 넘으면 전체 목록을 가져오지 않음
+ */
+@Component
+public class FollowGraph {
+
+    private final UserServiceClient userClient;
+    private final int celebrityThreshold;
+    private final Cache<Long, Set<Long>> followings;
+
+    public FollowGraph(UserServiceClient userClient,
+                       @Value("${feed.celebrity-threshold:10000}") int celebrityThreshold,
+                       @Value("${feed.followings-cache.ttl:30s}") Duration followingsTtl,
+                       @Value("${feed.followings-cache.max-size:10000}") long followingsMaxSize) {
+        this.userClient = userClient;
+        this.celebrityThreshold = celebrityThreshold;
+        this.followings = Caffeine.newBuilder()
+                .maximumSize(followingsMaxSize)
+                .expireAfterWrite(followingsTtl)
+                .build();
+    }
+
+    // 조회자가 팔로우하는 사용자 ID (조회 실패 시 EXTERNAL_API_ERROR)
+    public Set<Long> followingsOf(Long viewerId) {
+        // cache.get(key, loader) 대신 조회 후 put: 원격 호출 동안 캐시 내부 잠금을 잡지 않음 (가상 스레드 고정 방지)
+        Set<Long> cached = followings.getIfPresent(viewerId);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            Set<Long> loaded = Set.copyOf(userClient.getFollowingIds(viewerId));
+            followings.put(viewerId, loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR,
+                    NestedExceptionUtils.getMostSpecificCause(e).getMessage(), e);
+        }
+    }
+
+    /**
+     * 팬아웃 대상 팔로워 목록을 조회합니다.
+     * @return 셀럽 계정(팔로워 수가 기준치 초과)이면 null
+     */
+    public List<Long> followersForFanout(Long authorId) {
+        List<Long> followers = userClient.getFollowerIds(authorId, celebrityThreshold + 1);
+        return followers.size() > celebrityThreshold ? null : followers;
+    }
+}
@@ -0,0 +1,93 @@
+package com.petlog.record.service.feed;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.petlog.record.util.KeysetCursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 단일 노드용 메모리 타임라인 저장소
+ * - 조회자별 타임라인: 최신순 정렬 집합(ConcurrentSkipListSet), 최대 길이 초과분은 가장 오래된 항목부터 제거
+ * - 타임라인 수 자체도 Caffeine 으로 제한 (오래 접속하지 않은 조회자의 타임라인은 버리고, 다음 읽기 시 일기 테이블에서 다시 채움)
+ */
+@Component
+@ConditionalOnProperty(name = "feed.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryFeedStore implements FeedStore {
+
+    private final int maxEntriesPerTimeline;
+    private final Cache<Long, Timeline> timelines;
+
+    public InMemoryFeedStore(@Value("${feed.timeline.max-size:500}") int maxEntriesPerTimeline,
+                             @Value("${feed.timeline.max-viewers:100000}") long maxViewers,
+                             @Value("${feed.timeline.idle-ttl:7d}") Duration idleTtl) {
+        this.maxEntriesPerTimeline = maxEntriesPerTimeline;
+        this.timelines = Caffeine.newBuilder()
+                .maximumSize(maxViewers)
+                .expireAfterAccess(idleTtl)
+                .build();
+    }
+
+    @Override
+    public void push(Collection<Long> viewerIds, FeedEntry entry) {
+        for (Long viewerId : viewerIds) {
+            Timeline timeline = timelines.getIfPresent(viewerId);
+            if (timeline != null) {
+                timeline.add(entry);
+            }
+        }
+    }
+
+    @Override
+    public boolean open(Long viewerId) {
+        if (timelines.getIfPresent(viewerId) != null) {
+            return false;
+        }
+        return timelines.asMap().putIfAbsent(viewerId, new Timeline()) == null;
+    }
+
+    @Override
+    public List<FeedEntry> read(Long viewerId, KeysetCursor before, int limit) {
+        Timeline timeline = timelines.getIfPresent(viewerId);
+        if (timeline == null) {
+            return List.of();
+        }
+        return timeline.read(before, limit);
+    }
+
+    private final class Timeline {
+
+        private final ConcurrentSkipListSet<FeedEntry> entries = new ConcurrentSkipListSet<>(FeedEntry.NEWEST_FIRST);
+        // ConcurrentSkipListSet.size()는 O(n) 이므로 길이를 따로 셈
+        private final AtomicInteger size = new AtomicInteger();
+
+        private void add(FeedEntry entry) {
+            if (!entries.add(entry)) {
+                return; // 수정 이벤트 등으로 같은 항목이 다시 들어온 경우
+            }
+            if (size.incrementAndGet() > maxEntriesPerTimeline && entries.pollLast() != null) {
+                size.decrementAndGet();
+            }
+        }
+
+        private List<FeedEntry> read(KeysetCursor before, int limit) {
+            Iterator<FeedEntry> iterator = before == null
+                    ? entries.iterator()
+                    : entries.tailSet(new FeedEntry(before.id(), null, before.createdAt()), false).iterator();
+            List<FeedEntry> page = new ArrayList<>(limit);
+            while (iterator.hasNext() && page.size() < limit) {
+                page.add(iterator.next());
+            }
+            return page;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.petlog.record.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petlog.record.exception.BusinessException;
+import com.petlog.record.exception.ErrorCode;
+import com.petlog.record.service.DiaryExportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 일기 내보내기 (메모리 사용량이 일기 수와 무관한 스트리밍 방식)
+ * - JPA 엔티티 목록 대신 JDBC 서버 측 커서로 읽음: PostgreSQL 드라이버는 트랜잭션 안(autocommit off) + fetchSize 지정 시
+ *   결과를 fetchSize 행씩 나눠 받으므로 힙에는 한 번에 fetchSize 행만 존재
+ * - 일기 + 이미지를 LEFT JOIN 하여 일기 순으로 정렬해 읽고, 같은 일기의 행을 모아 한 줄(JSON)로 바로 씀
+ * - 배압: 응답 스트림 쓰기가 느린 클라이언트 때문에 막히면 다음 행을 읽지 않으므로 DB 커서도 그만큼 천천히 진행
+ * - 내보내기 하나가 커넥션과 트랜잭션을 끝까지 잡고 있으므로 동시 실행 수(max-concurrent)와 실행 시간(max-duration)을 제한
+ *   (느린 클라이언트 여럿이 커넥션 풀을 모두 차지하거나 커서를 무기한 열어두지 않도록 함)
+ */
+@Slf4j
+@Service
+public class DiaryExportServiceImpl implements DiaryExportService {
+
+    private static final String EXPORT_SQL = """
+            SELECT d.diary_id, d.user_id, d.pet_id, d.content, d.visibility, d.is_ai_gen, d.weather, d.mood,
+                   d.created_at, d.updated_at,
+                   i.image_id, i.image_url, i.img_order, i.main_image, i.source
+            FROM diaries d
+            LEFT JOIN diary_images i ON i.diary_id = d.diary_id
+            WHERE d.user_id = ?
+            ORDER BY d.created_at, d.diary_id, i.img_order
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readTx;
+    private final ObjectMapper objectMapper;
+    private final int flushEvery;
+    private final Semaphore slots;
+    private final Duration maxDuration;
+
+    public DiaryExportServiceImpl(DataSource dataSource,
+                                  PlatformTransactionManager transactionManager,
+                                  ObjectMapper objectMapper,
+                                  @Value("${diary.export.fetch-size:500}") int fetchSize,
+                                  @Value("${diary.export.flush-every:100}") int flushEvery,
+                                  @Value("${diary.export.max-concurrent:4}") int maxConcurrent,
+                                  @Value("${diary.export.max-duration:10m}") Duration maxDuration) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.readTx = new TransactionTemplate(transactionManager);
+        this.readTx.setReadOnly(true); // 서버 측 커서는 autocommit off(트랜잭션 안)에서만 동작
+        // 트랜잭션 타임아웃은 쿼리 타임아웃으로도 적용되어 첫 결과가 늦게 나오는 경우까지 상한을 둠
+        this.readTx.setTimeout((int) Math.max(1, maxDuration.toSeconds()));
+        this.objectMapper = objectMapper;
+        this.flushEvery = flushEvery;
+        this.slots = new Semaphore(maxConcurrent);
+        this.maxDuration = maxDuration;
+    }
+
+    @Override
+    public Slot acquireSlot() {
+        if (!slots.tryAcquire()) {
+            throw new BusinessException(ErrorCode.DIARY_EXPORT_BUSY);
+        }
+        AtomicBoolean released = new AtomicBoolean();
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                slots.release();
+            }
+        };
+    }
+
+    @Override
+    public long export(Long userId, Format format, OutputStream out) throws IOException {
+        long startedAt = System.nanoTime();
+        long count;
+        if (format == Format.ZIP) {
+            ZipOutputStream zip = new ZipOutputStream(out);
+            zip.putNextEntry(new ZipEntry("diaries-" + userId + ".ndjson"));
+            count = writeNdjson(userId, zip);
+            zip.closeEntry();
+            zip.finish(); // 응답 스트림은 컨테이너가 닫음
+        } else {
+            count = writeNdjson(userId, out);
+        }
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        log.info("일기 내보내기 완료 (userId: {}, format: {}, {}건, {}ms, {} rows/s)",
+                userId, format, count, elapsedMillis, count * 1000 / elapsedMillis);
+        return count;
+    }
+
+    private long writeNdjson(Long userId, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .setRootValueSeparator(null)) { // 최상위 값 사이 기본 구분자(공백) 대신 줄바꿈을 직접 씀
+            NdjsonWriter writer = new NdjsonWriter(generator, System.nanoTime() + maxDuration.toNanos());
+            try {
+                readTx.executeWithoutResult(status -> jdbcTemplate.query(EXPORT_SQL, writer, userId));
+                writer.finish();
+            } catch (UncheckedIOException e) {
+                throw e.getCause(); // 클라이언트 연결 끊김 등 -> 커서를 닫고 중단
+            }
+            return writer.count;
+        }
+    }
+
+    // (일기, 이미지) 행을 일기 단위 JSON 한 줄로 모아 씀 - 이전 일기 한 건 외에는 상태를 들고 있지 않음
+    private final class NdjsonWriter implements RowCallbackHandler {
+
+        private final JsonGenerator generator;
+        private final long deadlineNanos;
+        private Long currentDiaryId;
+        private long count;
+
+        private NdjsonWriter(JsonGenerator generator, long deadlineNanos) {
+            this.generator = generator;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            try {
+                // 느린 클라이언트가 커서(커넥션)를 무기한 잡지 않도록 상한 시간이 지나면 중단
+                if (System.nanoTime() - deadlineNanos > 0) {
+                    throw new IOException("내보내기 최대 시간(" + maxDuration + ")을 초과했습니다. (" + count + "건 전송 후 중단)");
+                }
+                long diaryId = rs.getLong("diary_id");
+                if (currentDiaryId == null || currentDiaryId != diaryId) {
+                    endDiary();
+                    startDiary(rs);
+                    currentDiaryId = diaryId;
+                }
+                if (rs.getObject("image_id") != null) {
+                    generator.writeStartObject();
+                    generator.writeStringField("imageUrl", rs.getString("image_url"));
+                    generator.writeNumberField("imgOrder", rs.getInt("img_order"));
+                    generator.writeBooleanField("mainImage", rs.getBoolean("main_image"));
+                    generator.writeStringField("source", rs.getString("source"));
+                    generator.writeEndObject();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void startDiary(ResultSet rs) throws SQLException, IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("diaryId", rs.getLong("diary_id"));
+            generator.writeNumberField("userId", rs.getLong("user_id"));
+            generator.writeNumberField("petId", rs.getLong("pet_id"));
+            generator.writeStringField("content", rs.getString("content"));
+            generator.writeStringField("visibility", rs.getString("visibility"));
+            generator.writeBooleanField("isAiGen", rs.getBoolean("is_ai_gen"));
+            generator.writeStringField("weather", rs.getString("weather"));
+            generator.writeStringField("mood", rs.getString("mood"));
+            writeTimestamp("createdAt", rs.getTimestamp("created_at"));
+            writeTimestamp("updatedAt", rs.getTimestamp("updated_at"));
+            generator.writeArrayFieldStart("images");
+        }
+
+        private void endDiary() throws IOException {
+            if (currentDiaryId == null) {
+                return;
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            if (++count % flushEvery == 0) {
+                generator.flush(); // 버퍼를 주기적으로 비워 클라이언트가 바로 받기 시작하도록 함
+            }
+        }
+
+        private void writeTimestamp(String field, Timestamp value) throws IOException {
+            if (value == null) {
+                generator.writeNullField(field);
+            } else {
+                generator.writeStringField(field, value.toLocalDateTime().toString());
+            }
+        }
+
+        private void finish() throws IOException {
+            endDiary();
+            generator.flush();
+        }
+    }
+}
@@ -0,0 +1,424 @@
+package com.petlog.record.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.petlog.record.dto.request.DiaryImportRequest;
+import com.petlog.record.dto.response.DiaryImportResponse;
+import com.petlog.record.entity.BatchStatus;
+import com.petlog.record.entity.DiaryImportJob;
+import com.petlog.record.entity.ImageSource;
+import com.petlog.record.exception.BusinessException;
+import com.petlog.record.exception.EntityNotFoundException;
+import com.petlog.record.exception.ErrorCode;
+import com.petlog.record.repository.DiaryImportJobRepository;
+import com.petlog.record.service.DiaryImportService;
+import com.petlog.record.service.UserPetValidator;
+import com.petlog.record.util.CopyCsv;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 일기 대량 가져오기 (NDJSON -> PostgreSQL COPY)
+ * - 요청 본문을 MappingIterator 로 한 줄씩 읽으므로 파일 전체를 메모리에 올리지 않음 (힙에는 청크 하나만 존재)
+ * - 청크마다: 형식 검증 -> 중복 제거한 사용자/펫 ID 원격 검증(트랜잭션 밖) -> 한 트랜잭션에서 COPY 적재 + 체크포인트 전진
+ * - ID 매핑: diaries_seq / diary_images_seq 에서 50개 단위 블록을 미리 받아 Java 에서 일기-이미지 FK 를 연결
+ *   (엔티티의 pooled 생성기와 같은 규칙이라 앱의 일반 INSERT 와 키가 겹치지 않음)
+ * - 형식 검증으로 거르지 못한 값 오류(SQLSTATE 22/23)로 청크 COPY 가 실패하면 그 청크만 한 줄씩 다시 적재하여 문제 줄만 건너뜀
+ * - 실패 시 작업은 FAILED 로 남고, 같은 파일을 jobId 와 함께 다시 보내면 마지막 커밋 줄 다음부터 이어서 적재
+ * - 체크포인트(linesProcessed)는 읽은 JSON 값 개수, 오류 메시지의 "line N" 은 값이 시작하는 실제 줄 번호
+ */
+@Slf4j
+@Service
+public class DiaryImportServiceImpl implements DiaryImportService {
+
+    private static final String COPY_DIARIES = """
+            COPY diaries (diary_id, user_id, pet_id, content, visibility, is_ai_gen, weather, mood, created_at, updated_at)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+    private static final String COPY_IMAGES = """
+            COPY diary_images (image_id, diary_id, user_id, image_url, img_order, main_image, source, created_at, updated_at)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+    // V5 의 INCREMENT BY 50 = 엔티티 allocationSize (nextval 값 v 가 블록 [v-49, v] 를 의미)
+    private static final int ID_BLOCK_SIZE = 50;
+    private static final int MAX_ERROR_SAMPLES = 20;
+
+    private final DataSource dataSource;
+    private final TransactionTemplate writeTx;
+    private final DiaryImportJobRepository jobRepository;
+    private final UserPetValidator userPetValidator;
+    private final ObjectReader lineReader;
+    private final int chunkSize;
+
+    private final Counter importedRows;
+    private final Counter importedImages;
+    private final Counter rejectedRows;
+
+    // 같은 작업이 동시에 두 번 재개되어 체크포인트가 꼬이는 것을 방지 (단일 인스턴스 기준)
+    private final Set<Long> runningJobs = ConcurrentHashMap.newKeySet();
+
+    public DiaryImportServiceImpl(DataSource dataSource,
+                                  PlatformTransactionManager transactionManager,
+                                  DiaryImportJobRepository jobRepository,
+                                  UserPetValidator userPetValidator,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${diary.import.chunk-size:5000}") int chunkSize) {
+        this.dataSource = dataSource;
+        this.writeTx = new TransactionTemplate(transactionManager);
+        this.jobRepository = jobRepository;
+        this.userPetValidator = userPetValidator;
+        this.lineReader = objectMapper.readerFor(DiaryImportRequest.Line.class);
+        this.chunkSize = chunkSize;
+        this.importedRows = Counter.builder("diary.import.rows").tag("result", "imported").register(meterRegistry);
+        this.rejectedRows = Counter.builder("diary.import.rows").tag("result", "rejected").register(meterRegistry);
+        this.importedImages = Counter.builder("diary.import.images").register(meterRegistry);
+    }
+
+    @Override
+    public DiaryImportResponse importDiaries(Long jobId, InputStream ndjson) throws IOException {
+        DiaryImportJob job = (jobId == null)
+                ? writeTx.execute(status -> jobRepository.save(DiaryImportJob.start()))
+                : resume(jobId);
+        if (job.getStatus() == BatchStatus.COMPLETED) {
+            return DiaryImportResponse.of(job, 0, 0);
+        }
+        if (!runningJobs.add(job.getJobId())) {
+            throw new BusinessException(ErrorCode.OPERATION_NOT_ALLOWED, "이미 진행 중인 가져오기 작업입니다. (jobId: " + job.getJobId() + ")");
+        }
+
+        long startedAt = System.nanoTime();
+        ImportProgress progress = new ImportProgress(job.getJobId(), job.getLinesProcessed());
+        try {
+            readAndLoad(ndjson, progress);
+            job = writeTx.execute(status -> {
+                DiaryImportJob current = findJob(progress.jobId);
+                current.complete();
+                return current;
+            });
+        } catch (IOException | RuntimeException e) {
+            // 파싱 오류는 파서가 알려준 줄, 적재/입력 오류는 커밋되지 않은 청크의 줄 범위를 원인과 함께 기록
+            String position = (e instanceof JsonProcessingException parseError && parseError.getLocation() != null)
+                    ? "line " + parseError.getLocation().getLineNr()
+                    : progress.chunkFirstLine <= progress.lineNo
+                    ? "lines " + progress.chunkFirstLine + "~" + progress.lineNo
+                    : "after line " + progress.lineNo;
+            String reason = position + ": " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            writeTx.executeWithoutResult(status -> findJob(progress.jobId).fail(reason));
+            log.warn("일기 가져오기 중단 (jobId: {}, 커밋된 줄: {}, 원인: {})", progress.jobId, progress.committedLine, reason);
+            if (e instanceof JsonProcessingException) {
+                throw new BusinessException(ErrorCode.INVALID_FORMAT,
+                        "NDJSON 형식 오류로 중단되었습니다. 수정 후 jobId=" + progress.jobId + " 로 다시 보내면 이어서 적재합니다. (" + reason + ")");
+            }
+            throw e;
+        } finally {
+            runningJobs.remove(progress.jobId);
+        }
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        log.info("일기 가져오기 완료 (jobId: {}, 일기 {}건, 이미지 {}건, 건너뜀 {}건, {}ms, {} rows/s)",
+                job.getJobId(), progress.imported, progress.images, progress.rejected,
+                elapsedMillis, progress.imported * 1000 / elapsedMillis);
+        return DiaryImportResponse.of(job, progress.imported, elapsedMillis);
+    }
+
+    @Override
+    public DiaryImportResponse getJob(Long jobId) {
+        return DiaryImportResponse.of(findJob(jobId), 0, 0);
+    }
+
+    private DiaryImportJob resume(Long jobId) {
+        return writeTx.execute(status -> {
+            DiaryImportJob job = findJob(jobId);
+            if (job.getStatus() != BatchStatus.COMPLETED && !runningJobs.contains(jobId)) {
+                job.resume();
+            }
+            return job;
+        });
+    }
+
+    private DiaryImportJob findJob(Long jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.DIARY_IMPORT_JOB_NOT_FOUND));
+    }
+
+    // 체크포인트까지는 파싱만 하고 건너뜀 -> 이후 chunkSize 줄씩 모아 적재
+    private void readAndLoad(InputStream ndjson, ImportProgress progress) throws IOException {
+        List<ParsedLine> chunk = new ArrayList<>(chunkSize);
+        long index = 0;
+        try (MappingIterator<DiaryImportRequest.Line> lines = lineReader.readValues(ndjson)) {
+            while (lines.hasNextValue()) {
+                // 값이 시작하는 실제 줄 번호 (빈 줄이나 여러 줄에 걸친 값이 있어도 파일의 줄과 일치)
+                long lineNo = lines.getParser().currentTokenLocation().getLineNr();
+                DiaryImportRequest.Line line = null;
+                String error = null;
+                try {
+                    line = lines.nextValue();
+                } catch (JsonMappingException e) {
+                    // 값 타입 오류(예: 날짜 형식)는 해당 줄만 건너뜀. 문법 오류(JsonParseException)는 이후 줄 경계를 알 수 없어 중단
+                    error = e.getOriginalMessage();
+                }
+                progress.lineNo = lineNo;
+                if (++index <= progress.committedLine) {
+                    continue;
+                }
+                if (chunk.isEmpty()) {
+                    progress.chunkFirstLine = lineNo;
+                }
+                chunk.add(new ParsedLine(index, lineNo, line, error));
+                if (chunk.size() == chunkSize) {
+                    loadChunk(chunk, progress);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            loadChunk(chunk, progress);
+        }
+    }
+
+    private void loadChunk(List<ParsedLine> chunk, ImportProgress progress) {
+        long chunkStartedAt = System.nanoTime();
+        List<String> errors = new ArrayList<>();
+
+        // 1. 형식 검증
+        List<ParsedLine> wellFormed = new ArrayList<>(chunk.size());
+        for (ParsedLine parsed : chunk) {
+            String error = parsed.error() != null ? parsed.error() : parsed.line().validate();
+            if (error != null) {
+                errors.add("line " + parsed.lineNo() + ": " + error);
+            } else {
+                wellFormed.add(parsed);
+            }
+        }
+
+        // 2. 존재 검증: 청크 안의 사용자/펫 ID 를 중복 제거해 한 번씩만 확인 (원격 호출 중 DB 커넥션을 잡지 않도록 트랜잭션 밖)
+        Set<Long> userIds = new HashSet<>();
+        Set<Long> petIds = new HashSet<>();
+        wellFormed.forEach(parsed -> {
+            userIds.add(parsed.line().getUserId());
+            petIds.add(parsed.line().getPetId());
+        });
+        UserPetValidator.Missing missing = userPetValidator.validateAll(userIds, petIds);
+        List<ParsedLine> valid = new ArrayList<>(wellFormed.size());
+        for (ParsedLine parsed : wellFormed) {
+            if (missing.userIds().contains(parsed.line().getUserId())) {
+                errors.add("line " + parsed.lineNo() + ": " + ErrorCode.USER_NOT_FOUND.getMessage());
+            } else if (missing.petIds().contains(parsed.line().getPetId())) {
+                errors.add("line " + parsed.lineNo() + ": " + ErrorCode.PET_NOT_FOUND.getMessage());
+            } else {
+                valid.add(parsed);
+            }
+        }
+        long lastIndex = chunk.get(chunk.size() - 1).index();
+
+        // 3. 적재 + 체크포인트 전진을 한 트랜잭션으로 -> 중간에 죽어도 청크 단위로 정확히 한 번 적재
+        ChunkResult result;
+        try {
+            int imageCount = countImages(valid);
+            String errorSample = sample(errors);
+            writeTx.executeWithoutResult(status -> {
+                if (!valid.isEmpty()) {
+                    copy(valid, imageCount);
+                }
+                findJob(progress.jobId).advance(lastIndex, valid.size(), imageCount, errors.size(), errorSample);
+            });
+            result = new ChunkResult(valid.size(), imageCount, errors.size());
+        } catch (RuntimeException e) {
+            if (!isDataError(e)) {
+                throw e;
+            }
+            log.warn("가져오기 청크 COPY 실패, 한 줄씩 다시 적재 (jobId: {}, lines {}~{}): {}", progress.jobId,
+                    chunk.get(0).lineNo(), chunk.get(chunk.size() - 1).lineNo(),
+                    NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+            result = loadRowByRow(valid, errors, lastIndex, progress);
+        }
+
+        progress.committedLine = lastIndex;
+        progress.chunkFirstLine = progress.lineNo + 1;
+        progress.imported += result.imported();
+        progress.images += result.images();
+        progress.rejected += result.rejected();
+        importedRows.increment(result.imported());
+        importedImages.increment(result.images());
+        rejectedRows.increment(result.rejected());
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - chunkStartedAt) / 1_000_000);
+        log.debug("가져오기 청크 적재 (jobId: {}, ~line {}, 일기 {}건, 이미지 {}건, 건너뜀 {}건, {} rows/s)",
+                progress.jobId, progress.lineNo, result.imported(), result.images(), result.rejected(),
+                result.imported() * 1000L / elapsedMillis);
+    }
+
+    /**
+     * 청크 COPY 가 값 오류로 실패했을 때: 한 줄씩 각자의 트랜잭션에서 적재하고 실패한 줄만 오류로 남김
+     * 줄마다 체크포인트를 함께 전진시키므로 이 도중에 중단되어도 재개 시 중복 적재되지 않음
+     * (줄마다 ID 블록을 새로 받아 시퀀스 값이 비지만, 드문 경로이므로 허용)
+     */
+    private ChunkResult loadRowByRow(List<ParsedLine> valid, List<String> errors, long lastIndex, ImportProgress progress) {
+        int imported = 0;
+        int images = 0;
+        for (ParsedLine parsed : valid) {
+            int lineImages = parsed.line().imagesOrEmpty().size();
+            try {
+                writeTx.executeWithoutResult(status -> {
+                    copy(List.of(parsed), lineImages);
+                    findJob(progress.jobId).advance(parsed.index(), 1, lineImages, 0, null);
+                });
+                imported++;
+                images += lineImages;
+            } catch (RuntimeException e) {
+                if (!isDataError(e)) {
+                    throw e;
+                }
+                errors.add("line " + parsed.lineNo() + ": " + NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+            }
+        }
+        // 검증/적재 실패 건수와 청크 끝 체크포인트 기록
+        String errorSample = sample(errors);
+        writeTx.executeWithoutResult(status ->
+                findJob(progress.jobId).advance(lastIndex, 0, 0, errors.size(), errorSample));
+        return new ChunkResult(imported, images, errors.size());
+    }
+
+    // SQLSTATE 22xxx(값 오류), 23xxx(제약 위반)만 특정 줄의 데이터 문제로 봄. 연결 끊김 등은 작업을 중단하고 재개에 맡김
+    private static boolean isDataError(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && sqlException.getSQLState() != null) {
+                String state = sqlException.getSQLState();
+                return state.startsWith("22") || state.startsWith("23");
+            }
+        }
+        return false;
+    }
+
+    private static int countImages(List<ParsedLine> lines) {
+        return lines.stream().mapToInt(parsed -> parsed.line().imagesOrEmpty().size()).sum();
+    }
+
+    // JPA 트랜잭션이 잡고 있는 커넥션에서 그대로 COPY 실행 (체크포인트 갱신과 같은 트랜잭션)
+    private void copy(List<ParsedLine> lines, int imageCount) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            long[] diaryIds = allocateIds(connection, "diaries_seq", lines.size());
+            long[] imageIds = allocateIds(connection, "diary_images_seq", imageCount);
+            LocalDateTime now = LocalDateTime.now();
+
+            StringBuilder diaryRows = new StringBuilder(lines.size() * 128);
+            StringBuilder imageRows = new StringBuilder(Math.max(imageCount, 1) * 128);
+            int imageIndex = 0;
+            for (int i = 0; i < lines.size(); i++) {
+                DiaryImportRequest.Line line = lines.get(i).line();
+                LocalDateTime createdAt = line.getCreatedAt() != null ? line.getCreatedAt() : now;
+                LocalDateTime updatedAt = line.getUpdatedAt() != null ? line.getUpdatedAt() : createdAt;
+                CopyCsv.appendRow(diaryRows, diaryIds[i], line.getUserId(), line.getPetId(), line.getContent(),
+                        line.resolveVisibility().name(), Boolean.TRUE.equals(line.getIsAiGen()),
+                        line.getWeather(), line.getMood(), createdAt, updatedAt);
+
+                List<DiaryImportRequest.Image> images = line.imagesOrEmpty();
+                for (int order = 0; order < images.size(); order++) {
+                    DiaryImportRequest.Image image = images.get(order);
+                    CopyCsv.appendRow(imageRows, imageIds[imageIndex++], diaryIds[i], line.getUserId(), image.getImageUrl(),
+                            image.getImgOrder() != null ? image.getImgOrder() : order + 1,
+                            image.getMainImage() != null ? image.getMainImage() : order == 0,
+                            image.getSource() != null ? image.getSource() : ImageSource.GALLERY.name(),
+                            createdAt, updatedAt);
+                }
+            }
+
+            var copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            copyManager.copyIn(COPY_DIARIES, new StringReader(diaryRows.toString()));
+            if (imageCount > 0) {
+                copyManager.copyIn(COPY_IMAGES, new StringReader(imageRows.toString()));
+            }
+        } catch (SQLException | IOException e) {
+            throw new BusinessException(ErrorCode.DATABASE_ERROR, NestedExceptionUtils.getMostSpecificCause(e).getMessage(), e);
+        }
+    }
+
+    // 필요한 개수만큼 50개 단위 ID 블록을 한 번의 쿼리로 받음
+    private long[] allocateIds(Connection connection, String sequence, int count) throws SQLException {
+        long[] ids = new long[count];
+        if (count == 0) {
+            return ids;
+        }
+        int blocks = (count + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE;
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT nextval('" + sequence + "') FROM generate_series(1, ?)")) {
+            statement.setInt(1, blocks);
+            try (ResultSet rs = statement.executeQuery()) {
+                int index = 0;
+                while (rs.next() && index < count) {
+                    long blockEnd = rs.getLong(1);
+                    for (long id = blockEnd - ID_BLOCK_SIZE + 1; id <= blockEnd && index < count; id++) {
+                        ids[index++] = id;
+                    }
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static String sample(List<String> errors) {
+        if (errors.isEmpty()) {
+            return null;
+        }
+        StringJoiner joiner = new StringJoiner("\n");
+        errors.stream().limit(MAX_ERROR_SAMPLES).forEach(joiner::add);
+        if (errors.size() > MAX_ERROR_SAMPLES) {
+            joiner.add("... 외 " + (errors.size() - MAX_ERROR_SAMPLES) + "건");
+        }
+        return joiner.toString();
+    }
+
+    // index: 파일에서 몇 번째 값인지 (체크포인트), lineNo: 값이 시작하는 줄 번호 (오류 메시지)
+    private record ParsedLine(long index, long lineNo, DiaryImportRequest.Line line, String error) {
+    }
+
+    private record ChunkResult(int imported, int images, int rejected) {
+    }
+
+    // 요청 한 번 동안의 진행 상황 (단일 스레드에서만 접근)
+    private static final class ImportProgress {
+        private final Long jobId;
+        // 커밋된 값 개수 (체크포인트)
+        private long committedLine;
+        // 마지막으로 읽은 값의 줄 번호 / 아직 커밋되지 않은 청크의 첫 줄 번호
+        private long lineNo;
+        private long chunkFirstLine = 1;
+        private long imported;
+        private long images;
+        private long rejected;
+
+        private ImportProgress(Long jobId, long committedLine) {
+            this.jobId = jobId;
+            this.committedLine = committedLine;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.petlog.record.service.impl;
+
+import com.petlog.record.dto.request.DiaryPostRequest;
+import com.petlog.record.dto.response.CursorPageResponse;
+import com.petlog.record.dto.response.DiaryPostResponse;
+import com.petlog.record.entity.DiaryPost;
+import com.petlog.record.exception.EntityNotFoundException;
+import com.petlog.record.exception.ErrorCode;
+import com.petlog.record.repository.DiaryPostRepository;
+import com.petlog.record.service.DiaryPostService;
+import com.petlog.record.service.UserPetValidator;
+import com.petlog.record.util.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DiaryPostServiceImpl implements DiaryPostService {
+
+    private final DiaryPostRepository diaryPostRepository;
+
+    private final UserPetValidator userPetValidator;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 원격 검증 중에는 DB 커넥션/트랜잭션을 잡지 않음
+    public Long createPost(DiaryPostRequest.Create request) {
+        // 펫은 선택 항목이므로 지정된 경우에만 함께 확인
+        if (request.getPetId() != null) {
+            userPetValidator.validate(request.getUserId(), request.getPetId());
+        } else {
+            userPetValidator.validateUser(request.getUserId());
+        }
+
+        return transactionTemplate.execute(status -> diaryPostRepository.save(request.toEntity()).getId());
+    }
+
+    @Override
+    public DiaryPostResponse getPost(Long postId) {
+        return DiaryPostResponse.fromEntity(findPost(postId));
+    }
+
+    @Override
+    @Transactional
+    public void updatePost(Long postId, DiaryPostRequest.Update request) {
+        DiaryPost post = findPost(postId);
+
+        // Dirty Checking을 이용한 업데이트 (JSONB 이미지 목록도 변경 감지 대상)
+        post.update(
+                request.getContent() != null ? request.getContent() : post.getContent(),
+                request.getImageUrls() != null ? request.getImageUrls() : post.getImageUrls(),
+                request.getLocation() != null ? request.getLocation() : post.getLocation()
+        );
+    }
+
+    @Override
+    @Transactional
+    public void deletePost(Long postId) {
+        diaryPostRepository.delete(findPost(postId));
+    }
+
+    @Override
+    public CursorPageResponse<DiaryPostResponse> getUserTimeline(Long userId, String cursor, Integer size) {
+        int pageSize = CursorPageResponse.normalizeSize(size);
+        // 다음 페이지 존재 여부 판단을 위해 1건 더 조회
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<DiaryPost> posts;
+        if (cursor == null || cursor.isBlank()) {
+            posts = diaryPostRepository.findUserTimeline(userId, limit);
+        } else {
+            KeysetCursor keyset = KeysetCursor.decode(cursor);
+            posts = diaryPostRepository.findUserTimelineBefore(userId, keyset.createdAt(), keyset.id(), limit);
+        }
+        return toPage(posts, pageSize);
+    }
+
+    @Override
+    public CursorPageResponse<DiaryPostResponse> getPetTimeline(Long petId, String cursor, Integer size) {
+        int pageSize = CursorPageResponse.normalizeSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<DiaryPost> posts;
+        if (cursor == null || cursor.isBlank()) {
+            posts = diaryPostRepository.findPetTimeline(petId, limit);
+        } else {
+            KeysetCursor keyset = KeysetCursor.decode(cursor);
+            posts = diaryPostRepository.findPetTimelineBefore(petId, keyset.createdAt(), keyset.id(), limit);
+        }
+        return toPage(posts, pageSize);
+    }
+
+    @Override
+    public CursorPageResponse<DiaryPostResponse> getPostsContainingImage(String imageUrl, String cursor, Integer size) {
+        int pageSize = CursorPageResponse.normalizeSize(size);
+
+        List<DiaryPost> posts;
+        if (cursor == null || cursor.isBlank()) {
+            posts = diaryPostRepository.findPostsContainingImage(imageUrl, pageSize + 1);
+        } else {
+            KeysetCursor keyset = KeysetCursor.decode(cursor);
+            posts = diaryPostRepository.findPostsContainingImageBefore(imageUrl, keyset.createdAt(), keyset.id(), pageSize + 1);
+        }
+        return toPage(posts, pageSize);
+    }
+
+    private DiaryPost findPost(Long postId) {
+        return diaryPostRepository.findById(postId)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.DIARY_POST_NOT_FOUND));
+    }
+
+    private CursorPageResponse<DiaryPostResponse> toPage(List<DiaryPost> posts, int pageSize) {
+        return CursorPageResponse.of(posts, pageSize,
+                DiaryPostResponse::fromEntity,
+                post -> new KeysetCursor(post.getCreatedAt(), post.getId()).encode());
+    }
+}
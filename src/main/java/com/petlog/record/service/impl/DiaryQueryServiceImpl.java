@@ -1,16 +1,28 @@
 package com.petlog.record.service.impl;
 
+import com.petlog.record.dto.request.DiaryRequest;
+import com.petlog.record.dto.response.CursorPageResponse;
+import com.petlog.record.dto.response.DiaryCalendarResponse;
 import com.petlog.record.dto.response.DiaryResponse;
+import com.petlog.record.dto.response.DiarySearchResponse;
 import com.petlog.record.entity.Diary;
+import com.petlog.record.exception.BusinessException;
+import com.petlog.record.exception.ErrorCode;
 import com.petlog.record.repository.DiaryQueryRepository;
+import com.petlog.record.repository.projection.DiarySearchHit;
 import com.petlog.record.service.DiaryQueryService;
+import com.petlog.record.util.KeysetCursor;
+import com.petlog.record.util.RankCursor;
+import com.petlog.record.util.SearchKeyword;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -34,12 +46,59 @@ public class DiaryQueryServiceImpl implements DiaryQueryService {
     }
 
     @Override
-    public List<DiaryResponse> getAiDiaries(Long userId) {
-        // isAiGen = true 인 데이터만 조회하도록 호출
-        List<Diary> aiDiaries = diaryQueryRepository.findAllByUserIdAndIsAiGenOrderByCreatedAtDesc(userId, true);
+    public DiaryCalendarResponse getMonthlySummary(Long userId, YearMonth yearMonth) {
+        // [start, end) 반개구간으로 조회하여 말일 23:59:59.999999 경계 누락 방지
+        LocalDateTime start = yearMonth.atDay(1).atStartOfDay();
+        LocalDateTime end = yearMonth.plusMonths(1).atDay(1).atStartOfDay();
 
-        return aiDiaries.stream()
-                .map(DiaryResponse::fromEntity)
-                .collect(Collectors.toList());
+        return DiaryCalendarResponse.of(yearMonth, diaryQueryRepository.summarizeByDay(userId, start, end));
+    }
+
+    @Override
+    public CursorPageResponse<DiaryResponse> getAiDiaries(Long userId, String cursor, Integer size) {
+        int pageSize = CursorPageResponse.normalizeSize(size);
+        // 다음 페이지 존재 여부 판단을 위해 1건 더 조회
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Diary> aiDiaries;
+        if (cursor == null || cursor.isBlank()) {
+            aiDiaries = diaryQueryRepository.findAiDiaries(userId, limit);
+        } else {
+            KeysetCursor keyset = KeysetCursor.decode(cursor);
+            aiDiaries = diaryQueryRepository.findAiDiariesBefore(userId, keyset.createdAt(), keyset.id(), limit);
+        }
+
+        return CursorPageResponse.of(aiDiaries, pageSize,
+                DiaryResponse::fromEntity,
+                diary -> new KeysetCursor(diary.getCreatedAt(), diary.getDiaryId()).encode());
+    }
+
+    @Override
+    public CursorPageResponse<DiarySearchResponse> searchDiaries(DiaryRequest.Search condition, String cursor, Integer size) {
+        if (condition.getFrom() != null && condition.getTo() != null && condition.getTo().isBefore(condition.getFrom())) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "검색 종료일은 시작일보다 빠를 수 없습니다.");
+        }
+        SearchKeyword keyword = SearchKeyword.parse(condition.getKeyword());
+        int pageSize = CursorPageResponse.normalizeSize(size);
+        RankCursor after = (cursor == null || cursor.isBlank()) ? null : RankCursor.decode(cursor);
+
+        // 종료일은 포함 -> [from, to + 1일) 반개구간으로 조회
+        List<DiarySearchHit> hits = diaryQueryRepository.searchDiaries(
+                condition.getUserId(),
+                keyword.text(),
+                keyword.tsQuery(),
+                keyword.likePattern(),
+                condition.getPetId(),
+                condition.getMood(),
+                condition.getWeather(),
+                condition.getFrom() != null ? condition.getFrom().atStartOfDay() : null,
+                condition.getTo() != null ? condition.getTo().plusDays(1).atStartOfDay() : null,
+                after != null ? after.score() : null,
+                after != null ? after.id() : null,
+                pageSize + 1);
+
+        return CursorPageResponse.of(hits, pageSize,
+                DiarySearchResponse::fromHit,
+                hit -> new RankCursor(hit.getScore(), hit.getDiaryId()).encode());
     }
-}
\ No newline at end of file
+}
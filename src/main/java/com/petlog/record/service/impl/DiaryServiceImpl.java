@@ -1,26 +1,31 @@
 package com.petlog.record.service.impl;
 
-import com.petlog.record.client.PetServiceClient;
-import com.petlog.record.client.StorageServiceClient;
-import com.petlog.record.client.UserServiceClient;
 import com.petlog.record.dto.request.DiaryRequest;
+import com.petlog.record.dto.response.DiaryBulkResponse;
 import com.petlog.record.dto.response.DiaryResponse;
 import com.petlog.record.entity.Diary;
-import com.petlog.record.entity.DiaryImage;
-import com.petlog.record.entity.ImageSource;
+import com.petlog.record.event.DiaryEvent;
+import com.petlog.record.exception.BusinessException;
 import com.petlog.record.exception.EntityNotFoundException;
 import com.petlog.record.exception.ErrorCode;
 import com.petlog.record.repository.DiaryRepository;
 import com.petlog.record.service.DiaryService;
-import feign.FeignException; // [추가] Feign 예외 처리
+import com.petlog.record.service.PhotoOutboxService;
+import com.petlog.record.service.UserPetValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -30,81 +35,106 @@ public class DiaryServiceImpl implements DiaryService {
 
     private final DiaryRepository diaryRepository;
 
-    private final UserServiceClient userClient;
-    private final PetServiceClient petClient;
+    private final UserPetValidator userPetValidator;
+    private final TransactionTemplate transactionTemplate;
 
-    @Qualifier("mockStorageServiceClient")
-    private final StorageServiceClient storageServiceClient;
+    private final PhotoOutboxService photoOutboxService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 한 트랜잭션에서 저장하는 일기 수 (hibernate.jdbc.batch_size와 동일하게 유지)
+    @Value("${diary.bulk.chunk-size:50}")
+    private int bulkChunkSize;
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 원격 검증 중에는 DB 커넥션/트랜잭션을 잡지 않음
     public Long createDiary(DiaryRequest.Create request) {
 
-        // 1. [검증] MSA 회원 서비스 연동 (우회 방식 적용)
-        // 회원 서비스에 'exists' API가 없으므로, 'getInfo' API를 호출하여 예외 발생 여부로 존재성을 확인합니다.
+        // 1. [검증] MSA 회원 서비스 연동 - 사용자/펫 존재 여부를 트랜잭션 시작 전에 병렬로 확인
+        userPetValidator.validate(request.getUserId(), request.getPetId());
 
-        // [1-1] 사용자 존재 여부 확인
-        try {
-            // 상세 정보를 조회해보고, 성공하면 유저가 존재하는 것으로 간주
-            userClient.getUserInfo(request.getUserId());
-            log.info("회원 서비스 연동 성공: 유저 확인됨 (userId: {})", request.getUserId()); // [로그 추가]
-        } catch (FeignException e) {
-            // 404(Not Found)나 500 등의 에러가 발생하면 유저가 없거나 조회 불가능한 상태로 판단
-            log.warn("User validation failed for userId: {}. Cause: {}", request.getUserId(), e.getMessage());
-            throw new EntityNotFoundException(ErrorCode.USER_NOT_FOUND);
+        // 검증을 통과한 뒤에만 짧은 쓰기 트랜잭션을 열어 저장
+        // 2. 저장 + 사진 아웃박스 적재 + 생성 이벤트 발행
+        return transactionTemplate.execute(status -> saveDiary(request));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 원격 검증 중에는 DB 커넥션/트랜잭션을 잡지 않음
+    public DiaryBulkResponse createDiaries(List<DiaryRequest.Create> requests) {
+        long startedAt = System.nanoTime();
+        DiaryBulkResponse.Item[] results = new DiaryBulkResponse.Item[requests.size()];
+
+        // 1. [검증] 중복 제거한 사용자/펫 ID를 한 번씩만 병렬로 확인
+        UserPetValidator.Missing missing = userPetValidator.validateAll(
+                requests.stream().map(DiaryRequest.Create::getUserId).toList(),
+                requests.stream().map(DiaryRequest.Create::getPetId).toList());
+
+        List<Integer> validIndexes = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            DiaryRequest.Create request = requests.get(i);
+            if (missing.userIds().contains(request.getUserId())) {
+                results[i] = DiaryBulkResponse.Item.failure(i, ErrorCode.USER_NOT_FOUND);
+            } else if (missing.petIds().contains(request.getPetId())) {
+                results[i] = DiaryBulkResponse.Item.failure(i, ErrorCode.PET_NOT_FOUND);
+            } else {
+                validIndexes.add(i);
+            }
         }
 
-        // [1-2] 펫 존재 여부 확인
-        try {
-            petClient.getPetInfo(request.getPetId());
-            log.info("회원 서비스 연동 성공: 펫 확인됨 (petId: {})", request.getPetId()); // [로그 추가]
-        } catch (FeignException e) {
-            log.warn("Pet validation failed for petId: {}. Cause: {}", request.getPetId(), e.getMessage());
-            throw new EntityNotFoundException(ErrorCode.PET_NOT_FOUND);
+        // 2. 검증을 통과한 항목만 청크 단위 트랜잭션으로 저장 (청크 하나 = JDBC 배치 INSERT 한 번)
+        for (int from = 0; from < validIndexes.size(); from += bulkChunkSize) {
+            List<Integer> chunk = validIndexes.subList(from, Math.min(from + bulkChunkSize, validIndexes.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        chunk.forEach(i -> results[i] = DiaryBulkResponse.Item.success(i, saveDiary(requests.get(i)))));
+            } catch (RuntimeException e) {
+                // 청크 전체가 롤백되었으므로 항목별로 다시 저장하여 문제 있는 건만 실패 처리
+                // (DB 오류뿐 아니라 변환/아웃박스 적재 중 예외도 한 항목 때문에 요청 전체가 실패하지 않도록 함)
+                log.warn("벌크 일기 저장 청크 실패, 단건 재시도: {}건. Cause: {}", chunk.size(), e.getMessage());
+                chunk.forEach(i -> results[i] = saveDiaryIsolated(i, requests.get(i)));
+            }
         }
 
-        // 2. DTO -> Entity 변환
-        Diary diary = request.toEntity();
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        DiaryBulkResponse response = DiaryBulkResponse.of(Arrays.asList(results), elapsedMillis);
+        log.info("벌크 일기 생성 완료: 요청 {}건, 성공 {}건, 실패 {}건, {}ms ({} rows/s)",
+                response.getRequestedCount(), response.getSuccessCount(), response.getFailureCount(),
+                elapsedMillis, elapsedMillis > 0 ? response.getSuccessCount() * 1000L / elapsedMillis : response.getSuccessCount());
+        return response;
+    }
+
+    // 단건/벌크 공통 저장 로직 (반드시 쓰기 트랜잭션 안에서 호출)
+    private Long saveDiary(DiaryRequest.Create request) {
+        Diary savedDiary = diaryRepository.save(request.toEntity());
 
-        // 3. 일기 저장
-        Diary savedDiary = diaryRepository.save(diary);
+        // 사진 보관함 처리 - 갤러리 사진을 같은 트랜잭션에서 아웃박스에 적재
+        // (실제 전송은 커밋 이후 PhotoTransferDispatcher가 비동기로 수행)
+        photoOutboxService.enqueue(savedDiary);
 
-        // 4. 사진 보관함 처리 로직
-        processDiaryImages(diary);
+        // 생성 이벤트 발행 (커밋 이후 Kafka 전송)
+        eventPublisher.publishEvent(DiaryEvent.created(savedDiary));
 
         return savedDiary.getDiaryId();
     }
 
-    /**
-     * 다이어리에 포함된 이미지 중 '갤러리'에서 가져온 사진을 선별하여
-     * 외부 스토리지 서비스(보관함)에 저장 요청을 보냅니다.
-     */
-    private void processDiaryImages(Diary diary) {
-        List<DiaryImage> images = diary.getImages();
-
-        if (images == null || images.isEmpty()) {
-            return;
+    private DiaryBulkResponse.Item saveDiaryIsolated(int index, DiaryRequest.Create request) {
+        try {
+            Long diaryId = transactionTemplate.execute(status -> saveDiary(request));
+            return DiaryBulkResponse.Item.success(index, diaryId);
+        } catch (RuntimeException e) {
+            log.warn("벌크 일기 저장 실패 (index: {}). Cause: {}", index, e.getMessage());
+            return DiaryBulkResponse.Item.failure(index, failureCode(e));
         }
+    }
 
-        // 4-1. 전송할 사진 선별 (GALLERY 출처만)
-        List<StorageServiceClient.PhotoRequest> newPhotos = images.stream()
-                .filter(img -> img.getSource() == ImageSource.GALLERY)
-                .map(img -> new StorageServiceClient.PhotoRequest(
-                        img.getUserId(),
-                        img.getImageUrl()
-                ))
-                .collect(Collectors.toList());
-
-        // 4-2. 외부 서비스 전송
-        if (!newPhotos.isEmpty()) {
-            try {
-                storageServiceClient.savePhotos(newPhotos);
-                log.info("Storage Service: Transferred {} photos for Diary ID {}", newPhotos.size(), diary.getDiaryId());
-            } catch (Exception e) {
-                // 핵심 비즈니스(일기 저장)가 아니므로, 보관함 전송 실패 시 로그만 남기고 진행
-                log.warn("Storage Service Transfer Failed: {}", e.getMessage());
-            }
+    // 항목 실패 사유: DB 오류는 DATABASE_ERROR, 비즈니스 예외는 그 코드, 그 외는 INTERNAL_SERVER_ERROR
+    private static ErrorCode failureCode(RuntimeException e) {
+        if (e instanceof BusinessException businessException) {
+            return businessException.getErrorCode();
+        }
+        if (e instanceof DataAccessException || e instanceof TransactionException) {
+            return ErrorCode.DATABASE_ERROR;
         }
+        return ErrorCode.INTERNAL_SERVER_ERROR;
     }
 
     @Override
@@ -128,6 +158,8 @@ public class DiaryServiceImpl implements DiaryService {
                 request.getWeather() != null ? request.getWeather() : diary.getWeather(),
                 request.getMood() != null ? request.getMood() : diary.getMood()
         );
+
+        eventPublisher.publishEvent(DiaryEvent.updated(diary));
     }
 
     @Override
@@ -136,6 +168,11 @@ public class DiaryServiceImpl implements DiaryService {
         Diary diary = diaryRepository.findById(diaryId)
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.DIARY_NOT_FOUND));
 
-        diaryRepository.delete(diary);
+        // 미전송 사진 아웃박스 -> 이미지 -> 일기 순으로 집합 DELETE (이미지 수와 무관하게 문장 수 고정)
+        photoOutboxService.discard(diaryId);
+        diaryRepository.deleteImagesByDiaryId(diaryId);
+        diaryRepository.deleteByDiaryId(diaryId);
+
+        eventPublisher.publishEvent(DiaryEvent.deleted(diary));
     }
 }
\ No newline at end of file
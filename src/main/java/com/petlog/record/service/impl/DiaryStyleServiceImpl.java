@@ -1,5 +1,6 @@
 package com.petlog.record.service.impl;
 
+import com.petlog.record.config.CacheConfig;
 import com.petlog.record.dto.request.DiaryStyleRequest;
 import com.petlog.record.dto.response.DiaryStyleResponse;
 import com.petlog.record.entity.DiaryStyle;
@@ -9,53 +10,39 @@ import com.petlog.record.exception.UnauthorizedException;
 import com.petlog.record.repository.DiaryStyleRepository;
 import com.petlog.record.service.DiaryStyleService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
-
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true) // 클래스 레벨: 기본은 읽기 전용
 public class DiaryStyleServiceImpl implements DiaryStyleService {
 
     private final DiaryStyleRepository diaryStyleRepository;
-
-    @Transactional // [수정] 쓰기 트랜잭션 부여
-    public DiaryStyle createDefaultStyle(Long userId, Long petId) {
-        DiaryStyle defaultStyle = DiaryStyle.builder()
-                .userId(userId)
-                .petId(petId)
-                .galleryType("grid")
-                .textAlignment("left")
-                .fontSize(16)
-                .sizeOption("medium")
-                .backgroundColor("#FFFFFF")
-                .preset("default")
-                .themeStyle("basic")
-                .build();
-
-        // save 호출
-        return diaryStyleRepository.save(defaultStyle);
-    }
-
+    private final CacheManager cacheManager;
 
     @Override
     @Transactional // 쓰기 트랜잭션 (데이터 생성/수정 가능)
     public DiaryStyleResponse createOrUpdateStyle(Long userId, DiaryStyleRequest request) {
-        // [Upsert 로직] 기존 스타일이 (UserId, PetId) 조합으로 있는지 확인
-        Optional<DiaryStyle> existingStyle = diaryStyleRepository
-                .findByUserIdAndPetId(userId, request.getPetId());
-
-        if (existingStyle.isPresent()) {
-            // 있으면 업데이트
-            return updateStyle(existingStyle.get().getId(), request, userId);
-        }
-
-        // 없으면 새로 생성 (CREATE) - DTO의 toEntity 메서드 사용
-        DiaryStyle style = request.toEntity(userId);
-
-        DiaryStyle saved = diaryStyleRepository.save(style);
+        // [Upsert 로직] (UserId, PetId) 조합으로 INSERT ... ON CONFLICT DO UPDATE 한 번에 처리
+        // 조회 후 저장하던 방식과 달리 동시 요청에도 중복 행이 생기지 않음
+        DiaryStyle saved = diaryStyleRepository.upsertStyle(
+                userId,
+                request.getPetId(),
+                request.getGalleryType(),
+                request.getTextAlignment(),
+                request.getFontSize(),
+                request.getSizeOption(),
+                request.getBackgroundColor(),
+                request.getPreset(),
+                request.getThemeStyle()
+        );
+
+        evictStyleCache(userId, request.getPetId());
         return DiaryStyleResponse.fromEntity(saved);
     }
 
@@ -94,25 +81,47 @@ public class DiaryStyleServiceImpl implements DiaryStyleService {
             style.setThemeStyle(request.getThemeStyle());
         }
 
-        // Dirty Checking으로 트랜잭션 종료 시 반영됨
+        // Dirty Checking으로 트랜잭션 종료 시 반영됨 (캐시도 커밋 이후 무효화)
+        evictStyleCache(style.getUserId(), style.getPetId());
         return DiaryStyleResponse.fromEntity(style);
     }
 
-    // [수정] READ-ONLY 트랜잭션 유지 (INSERT는 createDefaultStyle의 새 트랜잭션에 위임)
-    // orElseGet에서 createDefaultStyle(public + @Transactional)을 호출
+    // 트랜잭션을 미리 열지 않음 (캐시 적중 시 DB 커넥션 사용 X)
+    // 조회는 Repository의 읽기 전용 트랜잭션, 기본 스타일 생성은 Upsert 쿼리의 쓰기 트랜잭션에서 각각 수행
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public DiaryStyleResponse getUserStyle(Long userId, Long petId) {
-        DiaryStyle style = diaryStyleRepository
-                .findByUserIdAndPetId(userId, petId)
-                .orElseGet(() -> createDefaultStyle(userId, petId)); // 새로운 트랜잭션으로 분리되어 호출
-
-        return DiaryStyleResponse.fromEntity(style);
+        // 캐시에 없을 때만 DB 조회 (같은 키 동시 요청은 한 번만 로딩)
+        return styleCache().get(styleCacheKey(userId, petId), () -> {
+            // 대부분은 이미 스타일이 있으므로 SELECT 1회로 끝나고,
+            // 없을 때만 INSERT ... ON CONFLICT 1회로 기본 스타일 생성 (동시 첫 조회도 1행만 생성)
+            DiaryStyle style = diaryStyleRepository
+                    .findByUserIdAndPetId(userId, petId)
+                    .orElseGet(() -> diaryStyleRepository.insertDefaultIfAbsent(userId, petId));
+
+            return DiaryStyleResponse.fromEntity(style);
+        });
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public DiaryStyleResponse getPetStyle(Long petId, Long userId) {
         return getUserStyle(userId, petId);
     }
+
+    // === [캐시] ===
+
+    // 트랜잭션 중 put/evict는 커밋 이후로 미뤄, 롤백된 값이 캐시에 남거나
+    // 커밋 전에 다른 요청이 이전 값을 다시 캐시하는 경우를 방지
+    private Cache styleCache() {
+        return new TransactionAwareCacheDecorator(cacheManager.getCache(CacheConfig.DIARY_STYLE_CACHE));
+    }
+
+    private void evictStyleCache(Long userId, Long petId) {
+        styleCache().evict(styleCacheKey(userId, petId));
+    }
+
+    private String styleCacheKey(Long userId, Long petId) {
+        return userId + ":" + petId;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,163 @@
+package com.petlog.record.service.impl;
+
+import com.petlog.record.dto.response.CursorPageResponse;
+import com.petlog.record.dto.response.DiaryResponse;
+import com.petlog.record.entity.Diary;
+import com.petlog.record.entity.Visibility;
+import com.petlog.record.repository.DiaryQueryRepository;
+import com.petlog.record.repository.DiaryRepository;
+import com.petlog.record.service.FeedService;
+import com.petlog.record.service.feed.CelebrityRegistry;
+import com.petlog.record.service.feed.FeedEntry;
+import com.petlog.record.service.feed.FeedStore;
+import com.petlog.record.service.feed.FollowGraph;
+import com.petlog.record.util.KeysetCursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 피드 읽기 = 내 타임라인(쓰기 시 팬아웃된 항목) + 셀럽 팔로잉의 최근 일기(읽기 시 직접 조회)를 병합
+ * 읽기 비용은 팔로잉 수 x 일기 수가 아니라 페이지 크기(+ 셀럽 팔로잉 수 x 페이지 크기)에 비례합니다.
+ * 타임라인에는 키만 있으므로 페이지에 담길 일기만 DB에서 읽고, 그 사이 삭제/비공개 전환/언팔로우된 항목은 걸러냅니다.
+ * 타임라인이 없으면(처음 읽기, 재시작, 장기 미접속으로 제거) 팔로잉 작성자의 최근 일기를 타임라인 최대 길이만큼만 조회해 다시 채웁니다.
+ */
+@Service
+public class FeedServiceImpl implements FeedService {
+
+    // 타임라인 재구성 시 IN 목록 하나에 담는 작성자 수
+    private static final int REBUILD_AUTHOR_CHUNK = 1000;
+
+    private final FeedStore feedStore;
+    private final FollowGraph followGraph;
+    private final CelebrityRegistry celebrityRegistry;
+    private final DiaryRepository diaryRepository;
+    private final DiaryQueryRepository diaryQueryRepository;
+    private final TransactionTemplate readTx;
+    private final int timelineMaxSize;
+
+    public FeedServiceImpl(FeedStore feedStore,
+                           FollowGraph followGraph,
+                           CelebrityRegistry celebrityRegistry,
+                           DiaryRepository diaryRepository,
+                           DiaryQueryRepository diaryQueryRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${feed.timeline.max-size:500}") int timelineMaxSize) {
+        this.feedStore = feedStore;
+        this.followGraph = followGraph;
+        this.celebrityRegistry = celebrityRegistry;
+        this.diaryRepository = diaryRepository;
+        this.diaryQueryRepository = diaryQueryRepository;
+        this.readTx = new TransactionTemplate(transactionManager);
+        this.readTx.setReadOnly(true);
+        this.timelineMaxSize = timelineMaxSize;
+    }
+
+    // 팔로잉 조회(원격) 동안에는 트랜잭션을 열지 않고, 일기 조회 구간만 읽기 전용 트랜잭션으로 실행
+    @Override
+    public CursorPageResponse<DiaryResponse> getFeed(Long viewerId, String cursor, Integer size) {
+        int pageSize = CursorPageResponse.normalizeSize(size);
+        KeysetCursor before = (cursor == null || cursor.isBlank()) ? null : KeysetCursor.decode(cursor);
+
+        Set<Long> followings = followGraph.followingsOf(viewerId);
+        Set<Long> visibleAuthors = new HashSet<>(followings);
+        visibleAuthors.add(viewerId);
+        if (feedStore.open(viewerId)) {
+            rebuild(viewerId, visibleAuthors);
+        }
+
+        // 1. 팬아웃된 항목 + 셀럽 팔로잉의 최근 일기 (각각 최대 pageSize + 1 건)
+        List<FeedEntry> candidates = new ArrayList<>(readPushed(viewerId, visibleAuthors, before, pageSize + 1));
+        Set<Long> celebrities = celebrityRegistry.celebrities();
+        for (Long authorId : followings) {
+            if (celebrities.contains(authorId)) {
+                candidates.addAll(pullRecent(authorId, before, pageSize + 1));
+            }
+        }
+
+        // 2. 최신순 병합 (같은 일기가 양쪽에 있으면 하나만)
+        Set<Long> seen = new HashSet<>();
+        List<FeedEntry> merged = candidates.stream()
+                .sorted(FeedEntry.NEWEST_FIRST)
+                .filter(entry -> seen.add(entry.diaryId()))
+                .limit(pageSize + 1)
+                .toList();
+        boolean hasNext = merged.size() > pageSize;
+        List<FeedEntry> page = hasNext ? merged.subList(0, pageSize) : merged;
+
+        // 3. 페이지에 담길 일기만 조회 (삭제/비공개 전환된 일기는 제외)
+        List<DiaryResponse> items = readTx.execute(status -> hydrate(page));
+
+        FeedEntry last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return CursorPageResponse.<DiaryResponse>builder()
+                .items(items)
+                .nextCursor(hasNext ? new KeysetCursor(last.createdAt(), last.diaryId()).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // 빈 타임라인을 먼저 만든 뒤 조회하므로, 조회 이후 커밋된 일기는 팬아웃으로 들어와 빠지지 않음 (중복은 타임라인에서 무시)
+    private void rebuild(Long viewerId, Set<Long> authorIds) {
+        List<Long> authors = List.copyOf(authorIds);
+        List<FeedEntry> recent = new ArrayList<>();
+        for (int from = 0; from < authors.size(); from += REBUILD_AUTHOR_CHUNK) {
+            List<Long> chunk = authors.subList(from, Math.min(from + REBUILD_AUTHOR_CHUNK, authors.size()));
+            diaryRepository.findFeedKeysByUserIds(chunk, Limit.of(timelineMaxSize)).stream()
+                    .map(key -> new FeedEntry(key.getDiaryId(), key.getUserId(), key.getCreatedAt()))
+                    .forEach(recent::add);
+        }
+        recent.stream()
+                .sorted(FeedEntry.NEWEST_FIRST)
+                .limit(timelineMaxSize)
+                .forEach(entry -> feedStore.push(List.of(viewerId), entry));
+    }
+
+    // 타임라인에서 언팔로우한 작성자의 항목을 건너뛰며 limit 건을 채움 (타임라인 길이가 제한되어 있어 반드시 끝남)
+    private List<FeedEntry> readPushed(Long viewerId, Set<Long> visibleAuthors, KeysetCursor before, int limit) {
+        List<FeedEntry> result = new ArrayList<>(limit);
+        KeysetCursor from = before;
+        while (result.size() < limit) {
+            List<FeedEntry> batch = feedStore.read(viewerId, from, limit);
+            batch.stream()
+                    .filter(entry -> visibleAuthors.contains(entry.authorId()))
+                    .forEach(result::add);
+            if (batch.size() < limit) {
+                break;
+            }
+            FeedEntry lastRead = batch.get(batch.size() - 1);
+            from = new KeysetCursor(lastRead.createdAt(), lastRead.diaryId());
+        }
+        return result;
+    }
+
+    private List<FeedEntry> pullRecent(Long authorId, KeysetCursor before, int limit) {
+        return (before == null
+                ? diaryRepository.findFeedKeys(authorId, Limit.of(limit))
+                : diaryRepository.findFeedKeysBefore(authorId, before.createdAt(), before.id(), Limit.of(limit)))
+                .stream()
+                .map(key -> new FeedEntry(key.getDiaryId(), key.getUserId(), key.getCreatedAt()))
+                .toList();
+    }
+
+    private List<DiaryResponse> hydrate(List<FeedEntry> page) {
+        Map<Long, Diary> diaries = diaryQueryRepository.findAllById(page.stream().map(FeedEntry::diaryId).toList())
+                .stream()
+                .collect(Collectors.toMap(Diary::getDiaryId, Function.identity()));
+
+        return page.stream()
+                .map(entry -> diaries.get(entry.diaryId()))
+                .filter(diary -> diary != null && diary.getVisibility() != Visibility.PRIVATE)
+                .map(DiaryResponse::fromEntity)
+                .toList();
+    }
+}
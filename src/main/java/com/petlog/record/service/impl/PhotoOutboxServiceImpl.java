@@ -0,0 +1,107 @@
+package com.petlog.record.service.impl;
+
+import com.petlog.record.entity.Diary;
+import com.petlog.record.entity.ImageSource;
+import com.petlog.record.entity.OutboxStatus;
+import com.petlog.record.entity.PhotoTransferOutbox;
+import com.petlog.record.repository.PhotoTransferOutboxRepository;
+import com.petlog.record.service.PhotoOutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PhotoOutboxServiceImpl implements PhotoOutboxService {
+
+    private final PhotoTransferOutboxRepository outboxRepository;
+
+    @Value("${diary.photo-outbox.lease-timeout:60s}")
+    private Duration leaseTimeout;
+
+    @Value("${diary.photo-outbox.retry.initial-backoff:5s}")
+    private Duration initialBackoff;
+
+    @Value("${diary.photo-outbox.retry.max-backoff:10m}")
+    private Duration maxBackoff;
+
+    @Value("${diary.photo-outbox.retry.max-attempts:10}")
+    private int maxAttempts;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY) // 일기 저장과 반드시 같은 트랜잭션에서 커밋
+    public void enqueue(Diary diary) {
+        if (diary.getImages() == null || diary.getImages().isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+
+        // 전송할 사진 선별 (GALLERY 출처만, ARCHIVE는 이미 보관함에 있으므로 제외)
+        List<PhotoTransferOutbox> rows = diary.getImages().stream()
+                .filter(img -> img.getSource() == ImageSource.GALLERY)
+                .map(img -> PhotoTransferOutbox.builder()
+                        .diaryId(diary.getDiaryId())
+                        .userId(img.getUserId())
+                        .imageUrl(img.getImageUrl())
+                        .nextAttemptAt(now)
+                        .build())
+                .collect(Collectors.toList());
+
+        if (!rows.isEmpty()) {
+            outboxRepository.saveAll(rows);
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY) // 일기 삭제와 반드시 같은 트랜잭션에서 커밋
+    public void discard(Long diaryId) {
+        // FK 가 없으므로 남겨두면 디스패처가 삭제된 일기의 사진을 보관함으로 계속 전송함
+        outboxRepository.deleteByDiaryId(diaryId);
+    }
+
+    @Override
+    @Transactional
+    public List<PhotoTransferOutbox> claimDueBatch(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<PhotoTransferOutbox> batch = outboxRepository.findDueForUpdate(now, batchSize);
+
+        // 전송하는 동안 다시 선택되지 않도록 임대 (프로세스가 죽으면 임대 만료 후 자동 재전송)
+        LocalDateTime leaseUntil = now.plus(leaseTimeout);
+        batch.forEach(row -> row.lease(leaseUntil));
+        return batch;
+    }
+
+    @Override
+    @Transactional
+    public void markSent(List<Long> outboxIds) {
+        outboxRepository.deleteAllByIdInBatch(outboxIds);
+    }
+
+    @Override
+    @Transactional
+    public void markFailed(List<Long> outboxIds, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        outboxRepository.findAllById(outboxIds).forEach(row ->
+                row.recordFailure(error, now.plus(backoff(row.getAttemptCount() + 1)), maxAttempts));
+    }
+
+    @Override
+    public long countPending() {
+        return outboxRepository.countByStatus(OutboxStatus.PENDING);
+    }
+
+    // 지수 백오프: initial * 2^(attempt-1), 최대 maxBackoff
+    private Duration backoff(int attempt) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempt - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+}
@@ -1,20 +1,34 @@
 package com.petlog.record.service.impl;
 
 import com.petlog.record.client.NotificationServiceClient;
+import com.petlog.record.dto.client.HealthSummaryResponse;
 import com.petlog.record.dto.request.RecapRequest;
+import com.petlog.record.dto.response.CursorPageResponse;
 import com.petlog.record.dto.response.RecapResponse;
 import com.petlog.record.entity.Recap;
+import com.petlog.record.event.RecapEvent;
+import com.petlog.record.event.RecapGenerationRequested;
+import com.petlog.record.exception.BusinessException;
 import com.petlog.record.exception.EntityNotFoundException;
 import com.petlog.record.exception.ErrorCode;
 import com.petlog.record.repository.RecapRepository;
+import com.petlog.record.repository.projection.RecapListStamp;
+import com.petlog.record.repository.projection.RecapPeriodView;
+import com.petlog.record.repository.projection.RecapSimpleView;
+import com.petlog.record.service.HealthSummaryProvider;
 import com.petlog.record.service.RecapService;
+import com.petlog.record.util.KeysetCursor;
+import com.petlog.record.util.ListVersion;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
@@ -24,6 +38,8 @@ public class RecapServiceImpl implements RecapService {
 
     private final RecapRepository recapRepository;
     private final NotificationServiceClient notificationClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HealthSummaryProvider healthSummaryProvider;
 
     @Override
     @Transactional
@@ -34,6 +50,9 @@ public class RecapServiceImpl implements RecapService {
         // 2. 저장 (Cascade 설정으로 인해 Highlight도 자동 저장됨)
         Recap savedRecap = recapRepository.save(recap);
 
+        // 생성 이벤트 발행 (커밋 이후 Kafka 전송 -> 알림 서비스가 구독하여 알림 발송)
+        eventPublisher.publishEvent(RecapEvent.created(savedRecap));
+
         // 3. 알림 발송 (로컬 테스트 시 알림 서비스가 없어도 동작하도록 예외 처리)
         /*
         try {
@@ -52,40 +71,97 @@ public class RecapServiceImpl implements RecapService {
     }
 
     @Override
+    @Transactional
+    public Long generateRecap(RecapRequest.Generate request) {
+        if (request.getPeriodEnd().isBefore(request.getPeriodStart())) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "집계 기간 종료일은 시작일보다 빠를 수 없습니다.");
+        }
+
+        // 1. '생성 대기 중' 리캡 저장
+        Recap savedRecap = recapRepository.save(request.toWaitingEntity());
+
+        // 2. 커밋 이후 RecapGenerator가 비동기로 집계 (완료 시 GENERATED 이벤트 발행)
+        eventPublisher.publishEvent(new RecapGenerationRequested(savedRecap.getRecapId()));
+
+        return savedRecap.getRecapId();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 건강 지표를 기다리는 동안 DB 커넥션을 잡지 않음
     public RecapResponse.Detail getRecap(Long recapId) {
-        Recap recap = recapRepository.findById(recapId)
+        // 1. 기간 키만 PK로 가볍게 조회하여 헬스케어 서비스 호출을 먼저 시작
+        RecapPeriodView period = recapRepository.findPeriodById(recapId)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.RECAP_NOT_FOUND));
+        CompletableFuture<HealthSummaryResponse> health =
+                healthSummaryProvider.fetchAsync(period.getPetId(), period.getPeriodStart(), period.getPeriodEnd());
+
+        // 2. 그동안 하이라이트까지 한 번의 쿼리로 조회 (fetch join이므로 트랜잭션 밖에서도 지연 로딩 없음)
+        Recap recap = recapRepository.findWithHighlightsById(recapId)
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.RECAP_NOT_FOUND));
 
-        // 1. Entity -> DTO 변환 (메서드명 변경: from -> fromEntity)
+        // 3. Entity -> DTO 변환 (메서드명 변경: from -> fromEntity)
         RecapResponse.Detail response = RecapResponse.Detail.fromEntity(recap);
 
-        // 2. [TODO] 헬스케어 서비스 호출하여 건강 데이터 채우기 (추후 구현)
-        /*
-        try {
-            // HealthReportDto healthData = healthClient.getReport(...);
-            // if (healthData != null) {
-            //      response.setAvgHeartRate(healthData.getHeartRate());
-            //      ...
-            // }
-        } catch (Exception e) {
-            log.warn("헬스케어 데이터 조회 실패 (리캡 상세 조회는 계속 진행): {}", e.getMessage());
+        // 4. 건강 데이터 병합 (지연 예산 초과/실패 시 null -> 건강 지표 없이 응답)
+        HealthSummaryResponse healthData = health.join();
+        if (healthData != null) {
+            response.setAvgHeartRate(healthData.getAvgHeartRate());
+            response.setAvgStepCount(healthData.getAvgStepCount());
+            response.setAvgSleepTime(healthData.getAvgSleepTime());
+            response.setAvgWeight(healthData.getAvgWeight());
         }
-        */
 
         return response;
     }
 
     @Override
-    public List<RecapResponse.Simple> getAllRecaps(Long userId) {
-        return recapRepository.findAllByUserIdOrderByCreatedAtDesc(userId).stream()
-                .map(RecapResponse.Simple::fromEntity) // 메서드명 변경: from -> fromEntity
-                .collect(Collectors.toList());
+    public CursorPageResponse<RecapResponse.Simple> getAllRecaps(Long userId, String cursor, Integer size) {
+        int pageSize = CursorPageResponse.normalizeSize(size);
+        // 다음 페이지 존재 여부 판단을 위해 1건 더 조회
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<RecapSimpleView> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = recapRepository.findSimpleViewsByUserId(userId, limit);
+        } else {
+            KeysetCursor keyset = KeysetCursor.decode(cursor);
+            rows = recapRepository.findSimpleViewsByUserIdBefore(userId, keyset.createdAt(), keyset.id(), limit);
+        }
+        return toPage(rows, pageSize);
+    }
+
+    @Override
+    public ListVersion getAllRecapsVersion(Long userId) {
+        return toVersion(recapRepository.findListStampByUserId(userId));
     }
 
     @Override
-    public List<RecapResponse.Simple> getRecapsByPet(Long petId) {
-        return recapRepository.findAllByPetIdOrderByCreatedAtDesc(petId).stream()
-                .map(RecapResponse.Simple::fromEntity) // 메서드명 변경: from -> fromEntity
-                .collect(Collectors.toList());
+    public CursorPageResponse<RecapResponse.Simple> getRecapsByPet(Long petId, String cursor, Integer size) {
+        int pageSize = CursorPageResponse.normalizeSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<RecapSimpleView> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = recapRepository.findSimpleViewsByPetId(petId, limit);
+        } else {
+            KeysetCursor keyset = KeysetCursor.decode(cursor);
+            rows = recapRepository.findSimpleViewsByPetIdBefore(petId, keyset.createdAt(), keyset.id(), limit);
+        }
+        return toPage(rows, pageSize);
+    }
+
+    @Override
+    public ListVersion getRecapsByPetVersion(Long petId) {
+        return toVersion(recapRepository.findListStampByPetId(petId));
+    }
+
+    private CursorPageResponse<RecapResponse.Simple> toPage(List<RecapSimpleView> rows, int pageSize) {
+        return CursorPageResponse.of(rows, pageSize,
+                RecapResponse.Simple::fromView,
+                view -> new KeysetCursor(view.getCreatedAt(), view.getRecapId()).encode());
+    }
+
+    private ListVersion toVersion(RecapListStamp stamp) {
+        return new ListVersion(stamp.getLastModified(), stamp.getTotalCount() != null ? stamp.getTotalCount() : 0);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,32 @@
+package com.petlog.record.util;
+
+import java.util.StringJoiner;
+
+/**
+ * PostgreSQL COPY ... FROM STDIN WITH (FORMAT csv) 입력 행 작성
+ * - null -> 빈 칸(따옴표 없음) = NULL
+ * - 문자열 -> 항상 큰따옴표로 감싸고 내부 큰따옴표는 두 번 씀 (빈 문자열 "" 과 NULL 구분, 쉼표/줄바꿈 포함 가능)
+ */
+public final class CopyCsv {
+
+    private CopyCsv() {
+    }
+
+    public static void appendRow(StringBuilder out, Object... values) {
+        StringJoiner row = new StringJoiner(",");
+        for (Object value : values) {
+            row.add(format(value));
+        }
+        out.append(row).append('\n');
+    }
+
+    private static String format(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof CharSequence text) {
+            return '"' + text.toString().replace("\"", "\"\"") + '"';
+        }
+        return value.toString(); // 숫자, 불리언, LocalDateTime(ISO-8601)
+    }
+}
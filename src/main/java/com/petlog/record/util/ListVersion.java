@@ -0,0 +1,32 @@
+package com.petlog.record.util;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 목록 응답의 버전 정보 (HTTP 조건부 요청용)
+ * 가장 최근 수정 시각과 건수로 목록 변경 여부를 판단하고, 요청 파라미터까지 묶어 강한 ETag를 만듭니다.
+ * 건수를 함께 쓰는 이유: 삭제는 최근 수정 시각을 바꾸지 않기 때문
+ */
+public record ListVersion(LocalDateTime lastModified, long totalCount) {
+
+    // 예: etag("user", 1L, cursor, size) -> "\"3f2a...\""
+    public String etag(Object... requestKey) {
+        StringBuilder raw = new StringBuilder()
+                .append(lastModified).append('|').append(totalCount);
+        for (Object part : requestKey) {
+            raw.append('|').append(part);
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(raw.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    // Last-Modified 헤더 값 (목록이 비어 있으면 -1 = 헤더 생략)
+    public long lastModifiedMillis() {
+        return lastModified != null
+                ? lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : -1;
+    }
+}
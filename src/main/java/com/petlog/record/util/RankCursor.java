@@ -0,0 +1,38 @@
+package com.petlog.record.util;
+
+import com.petlog.record.exception.BusinessException;
+import com.petlog.record.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * (score, id) 기반 커서 - 관련도 순 검색 결과 페이지네이션용
+ * score 는 DB의 real(float4) 값을 그대로 왕복시켜 다음 페이지 조건에서 동일 값 비교가 정확히 맞도록 함
+ */
+public record RankCursor(float score, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = Float.toString(score) + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static RankCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            if (idx < 0) {
+                throw new IllegalArgumentException("delimiter not found");
+            }
+            return new RankCursor(
+                    Float.parseFloat(raw.substring(0, idx)),
+                    Long.parseLong(raw.substring(idx + 1))
+            );
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_FORMAT, "잘못된 커서 값입니다: " + cursor);
+        }
+    }
+}
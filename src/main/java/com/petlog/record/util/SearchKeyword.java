@@ -0,0 +1,38 @@
+package com.petlog.record.util;
+
+import com.petlog.record.exception.BusinessException;
+import com.petlog.record.exception.ErrorCode;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 검색어 -> PostgreSQL 전문 검색 파라미터 변환
+ * - tsQuery: 어절마다 접두사 일치(:*)를 AND 로 묶은 to_tsquery 입력 ("해변 산책" -> "해변:* & 산책:*")
+ * - likePattern: 트라이그램 인덱스용 부분 일치 패턴 ("%해변 산책%")
+ * 문자/숫자 이외의 기호는 공백으로 바꾸므로 tsquery 연산자나 LIKE 와일드카드가 섞여 들어가지 않음
+ */
+public record SearchKeyword(String text, String tsQuery, String likePattern) {
+
+    public static final int MAX_TERMS = 8;
+
+    public static SearchKeyword parse(String keyword) {
+        String normalized = keyword == null ? "" : keyword.replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+        if (normalized.isEmpty()) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "검색어에는 문자나 숫자가 포함되어야 합니다.");
+        }
+
+        List<String> terms = Arrays.stream(normalized.split(" "))
+                .map(String::toLowerCase)
+                .distinct()
+                .limit(MAX_TERMS)
+                .toList();
+        String text = String.join(" ", terms);
+        String tsQuery = terms.stream()
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+
+        return new SearchKeyword(text, tsQuery, "%" + text + "%");
+    }
+}
@@ -0,0 +1,18 @@
+-- =========================================================
+-- V10: 일기 대량 가져오기(NDJSON -> COPY) 작업 체크포인트
+-- 청크를 적재한 트랜잭션 안에서 lines_processed 를 함께 갱신하므로
+-- 실패 후 같은 파일을 jobId 와 함께 다시 올리면 마지막으로 커밋된 줄 다음부터 이어서 적재
+-- =========================================================
+
+CREATE TABLE diary_import_jobs (
+    job_id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    status           VARCHAR(255) NOT NULL,
+    lines_processed  BIGINT       NOT NULL DEFAULT 0,
+    imported_count   BIGINT       NOT NULL DEFAULT 0,
+    image_count      BIGINT       NOT NULL DEFAULT 0,
+    failed_count     BIGINT       NOT NULL DEFAULT 0,
+    last_error       TEXT,
+    started_at       TIMESTAMP(6),
+    completed_at     TIMESTAMP(6),
+    updated_at       TIMESTAMP(6)
+);
@@ -0,0 +1,6 @@
+-- =========================================================
+-- V11: 사용자/펫 기록 일괄 삭제 시 일기에 딸린 아웃박스 행을 diary_id 로 찾기 위한 인덱스
+-- =========================================================
+
+CREATE INDEX IF NOT EXISTS idx_photo_outbox_diary
+    ON photo_transfer_outbox (diary_id);
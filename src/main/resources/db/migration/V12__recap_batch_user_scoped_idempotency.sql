@@ -0,0 +1,13 @@
+-- =========================================================
+-- V12: 월간 리캡 배치 멱등성 확인을 (사용자, 펫, 기간) 기준으로 변경
+-- 같은 펫을 여러 사용자가 기록하는 경우 사용자마다 리캡을 따로 생성
+-- =========================================================
+
+DROP INDEX IF EXISTS idx_recaps_pet_period;
+CREATE INDEX IF NOT EXISTS idx_recaps_pet_period
+    ON recaps (pet_id, user_id, period_start, period_end);
+
+-- 완료된 기간 재실행 시 FAILED 리캡만 recap_id 순으로 재시도 (실패 건은 소수이므로 부분 인덱스)
+CREATE INDEX IF NOT EXISTS idx_recaps_failed_period
+    ON recaps (period_start, period_end, recap_id)
+    WHERE status = 'FAILED';
@@ -0,0 +1,9 @@
+-- =========================================================
+-- V13: 피드 셀럽 계정 표시 (재시작/다중 노드에서도 유지)
+-- 팔로워 수가 기준치를 넘어 쓰기 팬아웃을 생략하는 계정. 읽기 시 일기 테이블에서 직접 조회
+-- =========================================================
+
+CREATE TABLE feed_celebrities (
+    user_id    BIGINT       PRIMARY KEY,
+    marked_at  TIMESTAMP(6) NOT NULL
+);
@@ -0,0 +1,83 @@
+-- =========================================================
+-- V1: 초기 스키마 (기존 ddl-auto: update 로 생성되던 테이블과 동일)
+-- 이미 테이블이 있는 운영 DB는 IF NOT EXISTS 로 건너뜀
+-- =========================================================
+
+CREATE TABLE IF NOT EXISTS diaries (
+    diary_id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id           BIGINT       NOT NULL,
+    pet_id            BIGINT       NOT NULL,
+    content           TEXT,
+    visibility        VARCHAR(255) NOT NULL,
+    is_ai_gen         BOOLEAN      NOT NULL,
+    weather           VARCHAR(255),
+    mood              VARCHAR(255),
+    photo_archive_id  BIGINT,
+    created_at        TIMESTAMP(6),
+    updated_at        TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS diary_images (
+    image_id    BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    diary_id    BIGINT       NOT NULL,
+    user_id     BIGINT       NOT NULL,
+    image_url   VARCHAR(255) NOT NULL,
+    img_order   INTEGER      NOT NULL,
+    main_image  BOOLEAN      NOT NULL,
+    source      VARCHAR(255) NOT NULL,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    CONSTRAINT fk_diary_images_diary FOREIGN KEY (diary_id) REFERENCES diaries (diary_id)
+);
+
+CREATE TABLE IF NOT EXISTS recaps (
+    recap_id        BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    pet_id          BIGINT       NOT NULL,
+    user_id         BIGINT       NOT NULL,
+    title           VARCHAR(255) NOT NULL,
+    summary         TEXT,
+    period_start    DATE,
+    period_end      DATE,
+    main_image_url  VARCHAR(255),
+    moment_count    INTEGER,
+    status          VARCHAR(255),
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS recap_highlights (
+    highlight_id  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    recap_id      BIGINT,
+    title         VARCHAR(255),
+    content       VARCHAR(255),
+    created_at    TIMESTAMP(6),
+    updated_at    TIMESTAMP(6),
+    CONSTRAINT fk_recap_highlights_recap FOREIGN KEY (recap_id) REFERENCES recaps (recap_id)
+);
+
+CREATE TABLE IF NOT EXISTS diary_styles (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id           BIGINT      NOT NULL,
+    pet_id            BIGINT,
+    gallery_type      VARCHAR(50) NOT NULL,
+    text_alignment    VARCHAR(20) NOT NULL,
+    font_size         INTEGER     NOT NULL,
+    size_option       VARCHAR(20) NOT NULL,
+    background_color  VARCHAR(7)  NOT NULL,
+    preset            VARCHAR(50) NOT NULL,
+    theme_style       VARCHAR(50) NOT NULL,
+    created_at        TIMESTAMP(6),
+    updated_at        TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS diary_posts (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id     BIGINT NOT NULL,
+    pet_id      BIGINT,
+    style_id    BIGINT,
+    content     TEXT,
+    images      JSON,
+    location    VARCHAR(255),
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6)
+);
@@ -0,0 +1,38 @@
+-- =========================================================
+-- V2: Repository 조회 패턴에 맞춘 인덱스
+-- (PostgreSQL은 FK 컬럼에 인덱스를 자동으로 만들지 않으므로 직접 생성)
+-- =========================================================
+
+-- [DIARIES] 캘린더 날짜별/월간 조회 (findAllByUserIdAndCreatedAtBetween, summarizeByDay)
+CREATE INDEX IF NOT EXISTS idx_diaries_user_created
+    ON diaries (user_id, created_at);
+
+-- [DIARIES] AI 보관함 키셋 페이지네이션 (findAiDiaries, findAiDiariesBefore)
+-- is_ai_gen = true 인 행만 담는 부분 인덱스 -> 일반 일기 비중이 클수록 인덱스 크기 절약
+DROP INDEX IF EXISTS idx_diaries_user_ai_created;
+CREATE INDEX idx_diaries_user_ai_created
+    ON diaries (user_id, created_at DESC, diary_id DESC)
+    WHERE is_ai_gen = true;
+
+-- [DIARIES] 펫별 일기 조회 (findAllByPetId)
+CREATE INDEX IF NOT EXISTS idx_diaries_pet_created
+    ON diaries (pet_id, created_at);
+
+-- [DIARY_IMAGES] diary_id FK 조회 (images 배치 로딩, 월간 요약 JOIN)
+CREATE INDEX IF NOT EXISTS idx_diary_images_diary
+    ON diary_images (diary_id, img_order);
+
+-- [RECAPS] 사용자별/펫별 리캡 목록 (최신순)
+CREATE INDEX IF NOT EXISTS idx_recaps_user_created
+    ON recaps (user_id, created_at DESC);
+
+CREATE INDEX IF NOT EXISTS idx_recaps_pet_created
+    ON recaps (pet_id, created_at DESC);
+
+-- [RECAP_HIGHLIGHTS] recap_id FK 조회
+CREATE INDEX IF NOT EXISTS idx_recap_highlights_recap
+    ON recap_highlights (recap_id);
+
+-- [DIARY_STYLES] 사용자/펫 스타일 조회 (findByUserIdAndPetId, findAllByUserId)
+CREATE INDEX IF NOT EXISTS idx_diary_styles_user_pet
+    ON diary_styles (user_id, pet_id);
@@ -0,0 +1,20 @@
+-- =========================================================
+-- V3: 보관함(스토리지 서비스) 사진 전송 아웃박스
+-- =========================================================
+
+CREATE TABLE photo_transfer_outbox (
+    outbox_id        BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    diary_id         BIGINT       NOT NULL,
+    user_id          BIGINT       NOT NULL,
+    image_url        VARCHAR(255) NOT NULL,
+    status           VARCHAR(255) NOT NULL,
+    attempt_count    INTEGER      NOT NULL DEFAULT 0,
+    next_attempt_at  TIMESTAMP(6) NOT NULL,
+    last_error       VARCHAR(500),
+    created_at       TIMESTAMP(6),
+    updated_at       TIMESTAMP(6)
+);
+
+-- 디스패처 조회 (status = 'PENDING' AND next_attempt_at <= now ORDER BY outbox_id)
+CREATE INDEX idx_photo_outbox_status_next
+    ON photo_transfer_outbox (status, next_attempt_at);
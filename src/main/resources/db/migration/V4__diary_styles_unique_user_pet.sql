@@ -0,0 +1,18 @@
+-- =========================================================
+-- V4: diary_styles (user_id, pet_id) 유니크 제약
+-- 기존 find-then-insert 경쟁 조건으로 생긴 중복 행을 정리한 뒤 유니크 인덱스 생성
+-- NULLS NOT DISTINCT (PostgreSQL 15+): pet_id가 NULL인 사용자 기본 스타일도 1개만 허용
+-- =========================================================
+
+-- 같은 (user_id, pet_id) 중 가장 최근에 생성된 행(id 최대)만 남김
+DELETE FROM diary_styles d
+USING diary_styles keep
+WHERE d.user_id = keep.user_id
+  AND d.pet_id IS NOT DISTINCT FROM keep.pet_id
+  AND d.id < keep.id;
+
+-- V2의 일반 인덱스는 유니크 인덱스로 대체
+DROP INDEX IF EXISTS idx_diary_styles_user_pet;
+
+CREATE UNIQUE INDEX uk_diary_styles_user_pet
+    ON diary_styles (user_id, pet_id) NULLS NOT DISTINCT;
@@ -0,0 +1,18 @@
+-- =========================================================
+-- V5: 일기/이미지/아웃박스 ID를 IDENTITY -> 시퀀스로 전환 (JDBC 배치 INSERT 활성화)
+-- Hibernate pooled 옵티마이저(allocationSize = 50)는 nextval 값 v를 받아 (v-49 ~ v) 구간을 사용하므로
+-- INCREMENT BY 는 allocationSize와 반드시 같아야 하고, 시작값은 기존 최대 ID + 50 이상이어야 함
+-- =========================================================
+
+CREATE SEQUENCE IF NOT EXISTS diaries_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS diary_images_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS photo_transfer_outbox_seq INCREMENT BY 50;
+
+SELECT setval('diaries_seq', COALESCE((SELECT MAX(diary_id) FROM diaries), 0) + 50);
+SELECT setval('diary_images_seq', COALESCE((SELECT MAX(image_id) FROM diary_images), 0) + 50);
+SELECT setval('photo_transfer_outbox_seq', COALESCE((SELECT MAX(outbox_id) FROM photo_transfer_outbox), 0) + 50);
+
+-- 기존 IDENTITY 기본값 제거 (키 발급 경로를 시퀀스 하나로 통일)
+ALTER TABLE diaries ALTER COLUMN diary_id DROP IDENTITY IF EXISTS;
+ALTER TABLE diary_images ALTER COLUMN image_id DROP IDENTITY IF EXISTS;
+ALTER TABLE photo_transfer_outbox ALTER COLUMN outbox_id DROP IDENTITY IF EXISTS;
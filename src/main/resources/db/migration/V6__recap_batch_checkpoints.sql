@@ -0,0 +1,27 @@
+-- =========================================================
+-- V6: 월간 리캡 배치 (체크포인트 테이블 + 대상 조회/멱등성 확인 인덱스)
+-- =========================================================
+
+CREATE TABLE recap_batch_checkpoints (
+    job_key          VARCHAR(255) PRIMARY KEY,
+    period_start     DATE         NOT NULL,
+    period_end       DATE         NOT NULL,
+    status           VARCHAR(255) NOT NULL,
+    last_pet_id      BIGINT       NOT NULL,
+    last_user_id     BIGINT       NOT NULL,
+    processed_count  BIGINT       NOT NULL DEFAULT 0,
+    generated_count  BIGINT       NOT NULL DEFAULT 0,
+    skipped_count    BIGINT       NOT NULL DEFAULT 0,
+    failed_count     BIGINT       NOT NULL DEFAULT 0,
+    started_at       TIMESTAMP(6),
+    completed_at     TIMESTAMP(6),
+    updated_at       TIMESTAMP(6)
+);
+
+-- 배치 대상 (pet_id, user_id) 키셋 조회 (인덱스만으로 처리 가능)
+CREATE INDEX IF NOT EXISTS idx_diaries_pet_user_created
+    ON diaries (pet_id, user_id, created_at);
+
+-- 같은 펫/기간 리캡 존재 여부 확인
+CREATE INDEX IF NOT EXISTS idx_recaps_pet_period
+    ON recaps (pet_id, period_start, period_end);
@@ -0,0 +1,14 @@
+-- =========================================================
+-- V7: 리캡 목록 키셋 페이지네이션 인덱스
+-- ORDER BY created_at DESC, recap_id DESC 를 인덱스 순서 그대로 읽도록 recap_id 를 정렬 키에 추가
+-- (기존 (user_id, created_at DESC) 인덱스는 새 인덱스의 접두사이므로 제거)
+-- =========================================================
+
+CREATE INDEX IF NOT EXISTS idx_recaps_user_created_id
+    ON recaps (user_id, created_at DESC, recap_id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_recaps_pet_created_id
+    ON recaps (pet_id, created_at DESC, recap_id DESC);
+
+DROP INDEX IF EXISTS idx_recaps_user_created;
+DROP INDEX IF EXISTS idx_recaps_pet_created;
@@ -0,0 +1,21 @@
+-- =========================================================
+-- V8: 일기 본문 전문 검색 (searchDiaries)
+-- - content_tsv: 'simple' 설정 tsvector 생성 컬럼 + GIN 인덱스
+--   한국어 형태소 사전이 없으므로 공백/구두점 단위로 나누고, 검색어는 접두사(:*)로 질의하여
+--   "해변" 으로 "해변에서", "해변이" 같은 조사 붙은 어절까지 찾음
+-- - pg_trgm 트라이그램 GIN 인덱스: 어절 중간 일치("바닷가" 안의 "닷가" 등) 보완 + 유사도 점수
+--   (트라이그램은 DB LC_CTYPE 이 UTF-8 계열(ko_KR.UTF-8, C.UTF-8 등)이어야 한글을 문자로 인식)
+-- 생성 컬럼 추가는 테이블을 다시 쓰므로 대량 데이터에서는 점검 시간에 적용
+-- =========================================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE diaries
+    ADD COLUMN IF NOT EXISTS content_tsv tsvector
+        GENERATED ALWAYS AS (to_tsvector('simple', coalesce(content, ''))) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_diaries_content_tsv
+    ON diaries USING GIN (content_tsv);
+
+CREATE INDEX IF NOT EXISTS idx_diaries_content_trgm
+    ON diaries USING GIN (content gin_trgm_ops);
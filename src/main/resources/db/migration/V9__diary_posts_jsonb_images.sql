@@ -0,0 +1,19 @@
+-- =========================================================
+-- V9: diary_posts 이미지 배열을 JSONB 로 전환 + 타임라인/이미지 조회 인덱스
+-- - images: JSON(텍스트 그대로 저장) -> JSONB(파싱된 바이너리) 로 바꿔 포함 연산자(@>)와 GIN 인덱스 사용
+-- - jsonb_path_ops: @> 전용 연산자 클래스 (기본 jsonb_ops 보다 인덱스가 작고 빠름)
+-- =========================================================
+
+ALTER TABLE diary_posts
+    ALTER COLUMN images TYPE JSONB USING images::jsonb;
+
+-- [DIARY_POSTS] 이미지 URL 포함 게시글 조회 (findPostsContainingImage)
+CREATE INDEX IF NOT EXISTS idx_diary_posts_images
+    ON diary_posts USING GIN (images jsonb_path_ops);
+
+-- [DIARY_POSTS] 사용자별/펫별 타임라인 키셋 페이지네이션 (최신순)
+CREATE INDEX IF NOT EXISTS idx_diary_posts_user_created_id
+    ON diary_posts (user_id, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_diary_posts_pet_created_id
+    ON diary_posts (pet_id, created_at DESC, id DESC);
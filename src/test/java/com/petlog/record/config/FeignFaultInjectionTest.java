@@ -0,0 +1,247 @@
+package com.petlog.record.config;
+
+import com.petlog.record.client.PetServiceClient;
+import com.petlog.record.client.UserServiceClient;
+import com.petlog.record.exception.BusinessException;
+import com.petlog.record.exception.EntityNotFoundException;
+import com.petlog.record.exception.ErrorCode;
+import com.petlog.record.service.UserPetValidator;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 장애 주입 테스트: 로컬 스텁 HTTP 서버(회원/펫 서비스 대역)를 느리게/실패하게 만들고
+ * 애플리케이션과 같은 설정(application.yaml 의 Feign + hc5 + 서킷 브레이커 + 벌크헤드 + 적응형 타임아웃)으로
+ * 만들어진 Feign 클라이언트와 UserPetValidator 를 통해 호출합니다.
+ * DB/Kafka 는 필요 없으므로 해당 자동 설정만 제외합니다.
+ */
+@SpringBootTest(classes = FeignFaultInjectionTest.TestApp.class, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD) // 서킷 상태/지연 통계를 테스트마다 초기화
+class FeignFaultInjectionTest {
+
+    @Configuration
+    @EnableAutoConfiguration(exclude = {
+            DataSourceAutoConfiguration.class,
+            DataSourceTransactionManagerAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class,
+            FlywayAutoConfiguration.class,
+            KafkaAutoConfiguration.class
+    })
+    @EnableFeignClients(clients = {UserServiceClient.class, PetServiceClient.class})
+    @Import({FeignResilienceConfig.class, FeignHttpClientConfig.class, AsyncConfig.class, UserPetValidator.class})
+    static class TestApp {
+    }
+
+    // === 스텁 서버 (컨텍스트보다 먼저 떠야 URL 을 주입할 수 있으므로 static) ===
+    private static HttpServer server;
+    private static volatile int status = 200;
+    private static volatile long delayMillis = 0;
+    private static final AtomicInteger served = new AtomicInteger();
+    private static final AtomicInteger inFlight = new AtomicInteger();
+    private static final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @Autowired
+    private UserServiceClient userClient;
+
+    @Autowired
+    private PetServiceClient petClient;
+
+    @Autowired
+    private UserPetValidator validator;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @DynamicPropertySource
+    static void stubUrls(DynamicPropertyRegistry registry) {
+        startServer();
+        String baseUrl = "http://localhost:" + server.getAddress().getPort();
+        registry.add("external.user-service.url", () -> baseUrl);
+        registry.add("external.pet-service.url", () -> baseUrl);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.stop(0);
+    }
+
+    @BeforeEach
+    void resetStub() {
+        status = 200;
+        delayMillis = 0;
+        served.set(0);
+        inFlight.set(0);
+        maxInFlight.set(0);
+    }
+
+    @Test
+    void notFoundMapsToEntityNotFoundWithoutTrippingBreaker() {
+        status = 404;
+
+        for (long userId = 1; userId <= 30; userId++) {
+            long id = userId;
+            assertThatThrownBy(() -> validator.validateUser(id))
+                    .isInstanceOf(EntityNotFoundException.class)
+                    .extracting(e -> ((BusinessException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.USER_NOT_FOUND);
+        }
+
+        // 4xx 는 ignore-exceptions 설정으로 실패로 기록되지 않음
+        CircuitBreaker breaker = circuitBreakerRegistry.circuitBreaker("user-service");
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.getMetrics().getNumberOfFailedCalls()).isZero();
+    }
+
+    @Test
+    void serverErrorsMapToExternalApiErrorAndOpenBreaker() {
+        status = 500;
+
+        // minimum-number-of-calls(20) 만큼 실패시키면 실패율 100% -> OPEN
+        for (long userId = 1; userId <= 20; userId++) {
+            assertExternalApiError(userId);
+        }
+        assertThat(circuitBreakerRegistry.circuitBreaker("user-service").getState())
+                .isEqualTo(CircuitBreaker.State.OPEN);
+
+        // 열린 서킷은 스텁 서버를 호출하지 않고 즉시 거절 (존재하지 않는 사용자로 오판하지 않음)
+        int servedBefore = served.get();
+        long startedAt = System.nanoTime();
+        assertExternalApiError(21L);
+        assertThat(served.get()).isEqualTo(servedBefore);
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofMillis(100));
+    }
+
+    @Test
+    void hangingDependencyFailsFastAfterWarmUp() {
+        for (int i = 0; i < 30; i++) {
+            userClient.getUserInfo(1L);
+        }
+
+        delayMillis = 5_000;
+        long startedAt = System.nanoTime();
+        assertExternalApiError(2L);
+
+        // 설정 상한(readTimeout 3초)이 아니라 p99 기반 적응형 타임아웃 근처에서 실패
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofMillis(2_500));
+    }
+
+    @Test
+    void bulkheadCapsConcurrentCallsToDependency() throws Exception {
+        delayMillis = 1_000;
+        ExecutorService callers = Executors.newFixedThreadPool(40);
+        try {
+            List<Future<?>> calls = new ArrayList<>();
+            for (long petId = 1; petId <= 40; petId++) {
+                long id = petId;
+                calls.add(callers.submit(() -> petClient.getPetInfo(id)));
+            }
+
+            int rejected = 0;
+            for (Future<?> call : calls) {
+                try {
+                    call.get();
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).hasRootCauseInstanceOf(BulkheadFullException.class);
+                    rejected++;
+                }
+            }
+
+            // pet-service 벌크헤드(24) 이상은 스텁까지 도달하지 못하고 max-wait-duration 후 거절
+            assertThat(maxInFlight.get()).isLessThanOrEqualTo(24);
+            assertThat(rejected).isPositive();
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void bulkValidationOfManyIdsStaysWithinBulkhead() {
+        delayMillis = 50;
+        Set<Long> userIds = LongStream.rangeClosed(1, 200).boxed().collect(Collectors.toSet());
+        Set<Long> petIds = LongStream.rangeClosed(1, 200).boxed().collect(Collectors.toSet());
+
+        UserPetValidator.Missing missing = validator.validateAll(userIds, petIds);
+
+        // ID 400개를 한 번에 보내지 않고 max-fanout(8)씩만 보내므로 벌크헤드 거절 없이 모두 확인됨
+        assertThat(missing.userIds()).isEmpty();
+        assertThat(missing.petIds()).isEmpty();
+        assertThat(served.get()).isEqualTo(400);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(16); // 사용자 8 + 펫 8
+    }
+
+    private void assertExternalApiError(Long userId) {
+        assertThatThrownBy(() -> validator.validateUser(userId))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.EXTERNAL_API_ERROR);
+    }
+
+    private static synchronized void startServer() {
+        if (server != null) {
+            return;
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        server.createContext("/api", exchange -> {
+            served.incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                if (delayMillis > 0) {
+                    Thread.sleep(delayMillis);
+                }
+                byte[] body = "{\"username\":\"stub\"}".getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(status, body.length);
+                exchange.getResponseBody().write(body);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+                exchange.close();
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+}
@@ -0,0 +1,137 @@
+package com.petlog.record.config;
+
+import com.sun.net.httpserver.HttpServer;
+import feign.Feign;
+import feign.Param;
+import feign.Request;
+import feign.RequestLine;
+import feign.Retryer;
+import feign.Target;
+import feign.hc5.ApacheHttp5Client;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 가상 스레드 모드 검증: Feign 호출 경로(커넥션 풀 + 적응형 타임아웃)가 동시 부하에서
+ * 캐리어 스레드를 고정(pinning)하지 않는지 JFR jdk.VirtualThreadPinned 이벤트로 확인합니다.
+ * Java 21 이상에서만 실행 (./gradlew test -PjavaVersion=21)
+ */
+class VirtualThreadPinningTest {
+
+    private static final int CONCURRENT_CALLS = 500;
+    private static final long STUB_LATENCY_MILLIS = 20;
+
+    private HttpServer server;
+    private CloseableHttpClient httpClient;
+    private StubUserApi client;
+
+    interface StubUserApi {
+        @RequestLine("GET /api/users/{userId}")
+        String getUserInfo(@Param("userId") Long userId);
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        assumeTrue(Runtime.version().feature() >= 21, "가상 스레드는 Java 21 이상 필요");
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        server.createContext("/api/users", exchange -> {
+            sleep(STUB_LATENCY_MILLIS);
+            byte[] body = "{\"userId\":1}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        // 운영 설정(application.yaml)과 같은 크기의 hc5 커넥션 풀
+        httpClient = HttpClients.custom()
+                .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(200)
+                        .setMaxConnPerRoute(50)
+                        .build())
+                .build();
+        client = Feign.builder()
+                .client(new ApacheHttp5Client(httpClient))
+                .addCapability(new AdaptiveTimeoutCapability(new SimpleMeterRegistry(), 200, 20, 3.0, Duration.ofMillis(200)))
+                .retryer(Retryer.NEVER_RETRY)
+                .options(new Request.Options(1, TimeUnit.SECONDS, 5, TimeUnit.SECONDS, true))
+                .target(new Target.HardCodedTarget<>(StubUserApi.class, "user-service",
+                        "http://localhost:" + server.getAddress().getPort()));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (httpClient != null) {
+            httpClient.close();
+        }
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void feignCallsDoNotPinCarrierThreadsUnderLoad(@TempDir Path tempDir) throws Exception {
+        // 클래스 초기화 등 1회성 고정을 측정에서 제외하기 위한 워밍업
+        for (int i = 0; i < 30; i++) {
+            client.getUserInfo(1L);
+        }
+
+        Path dump = tempDir.resolve("pinning.jfr");
+        try (Recording recording = new Recording()) {
+            // 스텁 지연(20ms) 동안 고정된 채 블로킹되면 임계값을 넘어 기록됨
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(5)).withStackTrace();
+            recording.start();
+
+            VirtualThreadTaskExecutor executor = new VirtualThreadTaskExecutor("pinning-test-");
+            List<CompletableFuture<String>> calls = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_CALLS; i++) {
+                long userId = i;
+                calls.add(CompletableFuture.supplyAsync(() -> client.getUserInfo(userId), executor));
+            }
+            CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<RecordedEvent> pinned = RecordingFile.readAllEvents(dump).stream()
+                .filter(event -> event.getEventType().getName().equals("jdk.VirtualThreadPinned"))
+                .toList();
+        assertThat(pinned)
+                .as("고정된 지점: %s", pinned.isEmpty() ? "" : pinned.get(0).getStackTrace())
+                .isEmpty();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.petlog.record.event;
+
+import com.petlog.record.entity.Visibility;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 임베디드 브로커로 커밋 이후 발행(AFTER_COMMIT)과 파티션 키를 검증합니다.
+ * DB 없이 트랜잭션 동기화만 필요하므로 아무 자원도 잡지 않는 트랜잭션 매니저를 사용합니다.
+ * 직렬화/배치 설정은 application.yaml 의 spring.kafka.producer 값을 그대로 사용합니다.
+ */
+@SpringBootTest(classes = {KafkaEventRelay.class, KafkaEventRelayTest.TestConfig.class})
+@EmbeddedKafka(partitions = 3, topics = {"petlog.diary.events", "petlog.recap.events"},
+        bootstrapServersProperty = "spring.kafka.bootstrap-servers")
+class KafkaEventRelayTest {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(10);
+
+    @TestConfiguration
+    @EnableTransactionManagement
+    @ImportAutoConfiguration({KafkaAutoConfiguration.class, JacksonAutoConfiguration.class})
+    static class TestConfig {
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new NoResourceTransactionManager();
+        }
+    }
+
+    @Autowired
+    private EmbeddedKafkaBroker broker;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${diary.kafka.topics.diary-events}")
+    private String diaryTopic;
+
+    @Value("${diary.kafka.topics.recap-events}")
+    private String recapTopic;
+
+    private Consumer<String, String> consumer;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, Object> props = KafkaTestUtils.consumerProps("relay-test-" + System.nanoTime(), "false", broker);
+        consumer = new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), new StringDeserializer())
+                .createConsumer();
+        broker.consumeFromAllEmbeddedTopics(consumer);
+    }
+
+    @AfterEach
+    void tearDown() {
+        consumer.close();
+    }
+
+    // 브로커/토픽은 테스트 메서드끼리 공유하므로 테스트마다 다른 ID(=키)를 쓰고 키로 걸러서 확인
+    @Test
+    void diaryEventIsPublishedOnlyAfterCommitKeyedByDiaryId() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventPublisher.publishEvent(diaryEvent(101L));
+            // 커밋 전에는 토픽에 아무것도 없어야 함
+            assertThat(poll(diaryTopic, "101", Duration.ofMillis(500))).isEmpty();
+        });
+
+        List<ConsumerRecord<String, String>> records = pollUntil(diaryTopic, "101", 1);
+        assertThat(records.get(0).value()).contains("\"type\":\"CREATED\"", "\"diaryId\":101");
+    }
+
+    @Test
+    void recapEventIsKeyedByRecapId() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                eventPublisher.publishEvent(recapEvent(7L)));
+
+        List<ConsumerRecord<String, String>> records = pollUntil(recapTopic, "7", 1);
+        assertThat(records.get(0).value()).contains("\"recapId\":7");
+    }
+
+    @Test
+    void sameDiaryEventsLandOnSamePartitionInOrder() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> eventPublisher.publishEvent(diaryEvent(404L)));
+        tx.executeWithoutResult(status -> eventPublisher.publishEvent(
+                new DiaryEvent(DiaryEvent.Type.DELETED, 404L, 1L, 2L, Visibility.PUBLIC, false,
+                        LocalDateTime.of(2024, 3, 1, 10, 0), LocalDateTime.now())));
+
+        List<ConsumerRecord<String, String>> records = pollUntil(diaryTopic, "404", 2);
+        assertThat(records).extracting(ConsumerRecord::partition).containsOnly(records.get(0).partition());
+        assertThat(records.get(0).value()).contains("\"type\":\"CREATED\"");
+        assertThat(records.get(1).value()).contains("\"type\":\"DELETED\"");
+    }
+
+    @Test
+    void nothingIsPublishedWhenTransactionRollsBack() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventPublisher.publishEvent(diaryEvent(202L));
+            eventPublisher.publishEvent(recapEvent(8L));
+            status.setRollbackOnly();
+        });
+
+        assertThat(poll(diaryTopic, "202", Duration.ofSeconds(2))).isEmpty();
+        assertThat(poll(recapTopic, "8", Duration.ofMillis(500))).isEmpty();
+    }
+
+    @Test
+    void eventsOutsideTransactionAreNotPublished() {
+        // AFTER_COMMIT 리스너는 트랜잭션이 없으면 호출되지 않음 (fallbackExecution = false)
+        eventPublisher.publishEvent(diaryEvent(303L));
+
+        assertThat(poll(diaryTopic, "303", Duration.ofSeconds(2))).isEmpty();
+    }
+
+    // 부정 검증용: timeout 끝까지 읽은 레코드 중 topic/key 가 일치하는 것만 반환
+    private List<ConsumerRecord<String, String>> poll(String topic, String key, Duration timeout) {
+        List<ConsumerRecord<String, String>> matched = new ArrayList<>();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            for (ConsumerRecord<String, String> record : consumer.poll(Duration.ofMillis(100))) {
+                if (record.topic().equals(topic) && key.equals(record.key())) {
+                    matched.add(record);
+                }
+            }
+        }
+        return matched;
+    }
+
+    // 긍정 검증용: 일치하는 레코드가 expected 건 도착할 때까지 (최대 POLL_TIMEOUT) 읽음
+    private List<ConsumerRecord<String, String>> pollUntil(String topic, String key, int expected) {
+        List<ConsumerRecord<String, String>> matched = new ArrayList<>();
+        long deadline = System.nanoTime() + POLL_TIMEOUT.toNanos();
+        while (matched.size() < expected && System.nanoTime() < deadline) {
+            for (ConsumerRecord<String, String> record : consumer.poll(Duration.ofMillis(100))) {
+                if (record.topic().equals(topic) && key.equals(record.key())) {
+                    matched.add(record);
+                }
+            }
+        }
+        assertThat(matched).hasSize(expected);
+        return matched;
+    }
+
+    private static DiaryEvent diaryEvent(Long diaryId) {
+        return new DiaryEvent(DiaryEvent.Type.CREATED, diaryId, 1L, 2L, Visibility.PUBLIC, false,
+                LocalDateTime.of(2024, 3, 1, 10, 0), LocalDateTime.now());
+    }
+
+    private static RecapEvent recapEvent(Long recapId) {
+        return new RecapEvent(RecapEvent.Type.CREATED, recapId, 1L, 2L, "3월의 기록",
+                LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31), "WAITING", LocalDateTime.now());
+    }
+
+    // 트랜잭션 동기화(커밋/롤백 콜백)만 제공하는 테스트용 트랜잭션 매니저
+    static class NoResourceTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
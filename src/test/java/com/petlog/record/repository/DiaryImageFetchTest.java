@@ -0,0 +1,89 @@
+package com.petlog.record.repository;
+
+import com.petlog.record.entity.Diary;
+import com.petlog.record.support.PostgresContainerSupport;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일기 N건을 이미지와 함께 읽을 때 실행되는 SQL 수가 N 과 무관하게 일정한지 Hibernate Statistics 로 확인합니다.
+ * - 캘린더 조회: @EntityGraph(images) fetch join -> 1번
+ * - AI 보관함: 일기 1번 + images 배치 IN 조회(default_batch_fetch_size) 1번
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class DiaryImageFetchTest extends PostgresContainerSupport {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2024, 5, 1, 0, 0);
+
+    @Autowired
+    private DiaryQueryRepository diaryQueryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 50})
+    void calendarLoadsDiariesWithImagesInOneStatement(int diaryCount) {
+        insertDiariesWithImages(diaryCount);
+
+        List<Diary> diaries = diaryQueryRepository.findAllByUserIdAndCreatedAtBetween(1L, DAY, DAY.plusDays(1));
+        int imageCount = diaries.stream().mapToInt(diary -> diary.getImages().size()).sum();
+
+        assertThat(diaries).hasSize(diaryCount);
+        assertThat(imageCount).isEqualTo(diaryCount * 2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 20})
+    void aiArchivePageLoadsImagesInOneBatch(int diaryCount) {
+        insertDiariesWithImages(diaryCount);
+
+        List<Diary> diaries = diaryQueryRepository.findAiDiaries(1L, Limit.of(20));
+        int imageCount = diaries.stream().mapToInt(diary -> diary.getImages().size()).sum();
+
+        assertThat(diaries).hasSize(diaryCount);
+        assertThat(imageCount).isEqualTo(diaryCount * 2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    // 사용자 1 의 AI 일기 n 건(같은 날, 1분 간격) + 일기마다 이미지 2장을 넣고 영속성 컨텍스트/통계를 비움
+    private void insertDiariesWithImages(int n) {
+        entityManager.getEntityManager().createNativeQuery("""
+                INSERT INTO diaries (diary_id, user_id, pet_id, content, visibility, is_ai_gen, created_at, updated_at)
+                SELECT g, 1, 1, 'diary ' || g, 'PRIVATE', true,
+                       TIMESTAMP '2024-05-01 09:00' + g * INTERVAL '1 minute', now()
+                FROM generate_series(1, :n) g
+                """).setParameter("n", n).executeUpdate();
+        entityManager.getEntityManager().createNativeQuery("""
+                INSERT INTO diary_images (image_id, diary_id, user_id, image_url, img_order, main_image, source, created_at, updated_at)
+                SELECT g * 10 + k, g, 1, 'https://img/' || g || '/' || k || '.jpg', k, k = 1, 'GALLERY', now(), now()
+                FROM generate_series(1, :n) g CROSS JOIN generate_series(1, 2) k
+                """).setParameter("n", n).executeUpdate();
+        entityManager.clear();
+        statistics.clear();
+    }
+}
@@ -0,0 +1,96 @@
+package com.petlog.record.repository;
+
+import com.petlog.record.repository.projection.DiarySearchHit;
+import com.petlog.record.support.PostgresContainerSupport;
+import com.petlog.record.util.SearchKeyword;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * searchDiaries 가 tsvector 접두사 일치 / 트라이그램 부분 일치로 기대한 일기를 찾고
+ * 다른 사용자의 일기는 절대 반환하지 않는지 실제 PostgreSQL(V8 생성 컬럼, pg_trgm)에서 확인합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class DiarySearchQueryTest extends PostgresContainerSupport {
+
+    private static final long OWNER = 1L;
+    private static final long OTHER = 2L;
+
+    @Autowired
+    private DiaryQueryRepository diaryQueryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        insert(1, OWNER, 10, "오늘은 해변에서 모래놀이를 했다.");
+        insert(2, OWNER, 10, "바다 근처 바닷가에서 수영도 했다.");
+        insert(3, OWNER, 20, "공원에서 산책을 했다.");
+        insert(4, OWNER, 20, "비가 와서 집에서 낮잠을 잤다.");
+        insert(5, OWNER, 20, "저녁에는 해변 산책로를 걸었다.");
+        // 같은 단어가 들어간 다른 사용자의 일기
+        insert(6, OTHER, 30, "해변에서 수영하고 바닷가를 산책했다.");
+        entityManager.clear();
+    }
+
+    @Test
+    void prefixMatchFindsWordsWithParticles() {
+        // "해변" -> "해변에서", "해변" 모두 일치 (접두사 :*)
+        assertThat(search(OWNER, "해변", null)).containsExactlyInAnyOrder(1L, 5L);
+    }
+
+    @Test
+    void multipleTermsAreAnded() {
+        assertThat(search(OWNER, "바다 수영", null)).containsExactly(2L);
+        assertThat(search(OWNER, "해변 산책", null)).containsExactly(5L);
+    }
+
+    @Test
+    void trigramMatchFindsSubstringInsideWord() {
+        // "닷가" 는 어절의 접두사가 아니므로 tsvector 로는 못 찾고 ILIKE(트라이그램 인덱스)로 찾음
+        assertThat(search(OWNER, "닷가", null)).containsExactly(2L);
+    }
+
+    @Test
+    void resultsNeverLeaveUserScope() {
+        assertThat(search(OWNER, "수영", null)).containsExactly(2L);
+        assertThat(search(OTHER, "해변", null)).containsExactly(6L);
+        assertThat(search(OTHER, "낮잠", null)).isEmpty();
+    }
+
+    @Test
+    void petFilterNarrowsResults() {
+        assertThat(search(OWNER, "해변", 20L)).containsExactly(5L);
+    }
+
+    private List<Long> search(long userId, String keyword, Long petId) {
+        SearchKeyword parsed = SearchKeyword.parse(keyword);
+        return diaryQueryRepository.searchDiaries(userId, parsed.text(), parsed.tsQuery(), parsed.likePattern(),
+                        petId, null, null, null, null, null, null, 21)
+                .stream()
+                .map(DiarySearchHit::getDiaryId)
+                .toList();
+    }
+
+    private void insert(long diaryId, long userId, long petId, String content) {
+        entityManager.getEntityManager().createNativeQuery("""
+                        INSERT INTO diaries (diary_id, user_id, pet_id, content, visibility, is_ai_gen, created_at, updated_at)
+                        VALUES (:diaryId, :userId, :petId, :content, 'PRIVATE', false, now(), now())
+                        """)
+                .setParameter("diaryId", diaryId)
+                .setParameter("userId", userId)
+                .setParameter("petId", petId)
+                .setParameter("content", content)
+                .executeUpdate();
+    }
+}
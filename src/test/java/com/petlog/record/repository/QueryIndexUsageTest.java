@@ -0,0 +1,174 @@
+package com.petlog.record.repository;
+
+import com.petlog.record.entity.Diary;
+import com.petlog.record.support.PostgresContainerSupport;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Repository 조회가 마이그레이션(V2, 이후 V4/V7 에서 대체된 인덱스 포함)의 인덱스를 실제로 사용하는지 확인합니다.
+ * 리포지토리 메서드를 실행해 Hibernate 가 만든 SQL 을 그대로 잡아 EXPLAIN (GENERIC_PLAN, PostgreSQL 16+) 합니다.
+ * 빈 테이블에서는 순차 스캔이 항상 싸므로 enable_seqscan 을 끄고, 조건에 맞는 인덱스가 선택되는지만 봅니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.petlog.record.repository.QueryIndexUsageTest$CapturingInspector")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class QueryIndexUsageTest extends PostgresContainerSupport {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2024, 5, 1, 0, 0);
+
+    // Hibernate 가 실행하는 SQL 을 모아 둠 (바인딩 전, 파라미터는 ?)
+    public static class CapturingInspector implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+
+    @Autowired
+    private DiaryQueryRepository diaryQueryRepository;
+
+    @Autowired
+    private RecapRepository recapRepository;
+
+    @Autowired
+    private DiaryStyleRepository diaryStyleRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void clearCaptured() {
+        CapturingInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void calendarQueriesUseUserCreatedIndex() {
+        diaryQueryRepository.findAllByUserIdAndCreatedAtBetween(1L, DAY, DAY.plusDays(1));
+        assertThat(planOf("from diaries")).contains("idx_diaries_user_created");
+
+        diaryQueryRepository.summarizeByDay(1L, DAY, DAY.plusMonths(1));
+        assertThat(planOf("group by cast")).contains("idx_diaries_user_created");
+    }
+
+    @Test
+    void aiArchivePagesUsePartialIndex() {
+        diaryQueryRepository.findAiDiaries(1L, Limit.of(20));
+        assertThat(planOf("is_ai_gen")).contains("idx_diaries_user_ai_created");
+
+        diaryQueryRepository.findAiDiariesBefore(1L, DAY, 100L, Limit.of(20));
+        assertThat(planOf("is_ai_gen")).contains("idx_diaries_user_ai_created");
+    }
+
+    @Test
+    void petPeriodChunkUsesPetUserCreatedIndex() {
+        diaryRepository.findPeriodChunk(1L, 10L, DAY, DAY.plusMonths(1), Limit.of(500));
+        assertThat(planOf("from diaries")).contains("idx_diaries_pet_user_created");
+    }
+
+    @Test
+    void imageBatchLoadingUsesDiaryImagesForeignKeyIndex() {
+        entityManager.getEntityManager().createNativeQuery("""
+                INSERT INTO diaries (diary_id, user_id, pet_id, content, visibility, is_ai_gen, created_at, updated_at)
+                VALUES (1, 1, 1, 'ai diary', 'PRIVATE', true, now(), now())
+                """).executeUpdate();
+        entityManager.getEntityManager().createNativeQuery("""
+                INSERT INTO diary_images (image_id, diary_id, user_id, image_url, img_order, main_image, source, created_at, updated_at)
+                VALUES (1, 1, 1, 'https://img/1.jpg', 1, true, 'GALLERY', now(), now())
+                """).executeUpdate();
+        entityManager.clear();
+
+        // AI 보관함은 images 를 fetch join 하지 않으므로 default_batch_fetch_size 로 IN 조회
+        List<Diary> diaries = diaryQueryRepository.findAiDiaries(1L, Limit.of(20));
+        assertThat(diaries).singleElement().satisfies(diary -> assertThat(diary.getImages()).hasSize(1));
+
+        assertThat(planOf("from diary_images")).contains("idx_diary_images_diary");
+    }
+
+    @Test
+    void recapQueriesUseRecapIndexes() {
+        recapRepository.findWithHighlightsById(1L);
+        assertThat(planOf("recap_highlights")).contains("idx_recap_highlights_recap");
+
+        // V2 의 (user_id, created_at DESC) 는 V7 에서 recap_id 를 붙인 키셋 인덱스로 대체
+        recapRepository.findSimpleViewsByUserId(1L, Limit.of(20));
+        assertThat(planOf("from recaps")).contains("idx_recaps_user_created_id");
+    }
+
+    @Test
+    void styleLookupUsesUniqueUserPetIndex() {
+        // V2 의 idx_diary_styles_user_pet 은 V4 에서 유니크 인덱스로 대체
+        diaryStyleRepository.findByUserIdAndPetId(1L, 2L);
+        assertThat(planOf("from diary_styles")).contains("uk_diary_styles_user_pet");
+    }
+
+    // 마지막으로 실행된 SQL 중 fragment 를 포함하는 문장의 실행 계획
+    private String planOf(String fragment) {
+        List<String> matching = CapturingInspector.STATEMENTS.stream()
+                .filter(sql -> sql.toLowerCase(Locale.ROOT).contains(fragment))
+                .toList();
+        assertThat(matching).as("captured SQL containing '%s'", fragment).isNotEmpty();
+        return explain(matching.get(matching.size() - 1));
+    }
+
+    private String explain(String sql) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET LOCAL enable_seqscan = off");
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rs = statement.executeQuery("EXPLAIN (GENERIC_PLAN) " + numberParameters(sql))) {
+                    while (rs.next()) {
+                        plan.append(rs.getString(1)).append('\n');
+                    }
+                }
+                return plan.toString();
+            } finally {
+                connection.rollback();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("EXPLAIN 실패: " + sql, e);
+        }
+    }
+
+    // JDBC 파라미터 ? 를 GENERIC_PLAN 이 받는 $1, $2 ... 로 변환 (조회 SQL 에는 문자열 안의 ? 가 없음)
+    private static String numberParameters(String sql) {
+        StringBuilder numbered = new StringBuilder(sql.length() + 16);
+        int index = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++index);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+}
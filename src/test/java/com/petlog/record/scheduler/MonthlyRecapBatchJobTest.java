@@ -0,0 +1,225 @@
+package com.petlog.record.scheduler;
+
+import com.petlog.record.entity.Diary;
+import com.petlog.record.entity.Recap;
+import com.petlog.record.entity.RecapBatchCheckpoint;
+import com.petlog.record.entity.RecapHighlight;
+import com.petlog.record.entity.RecapStatus;
+import com.petlog.record.entity.Visibility;
+import com.petlog.record.repository.DiaryRepository;
+import com.petlog.record.repository.RecapBatchCheckpointRepository;
+import com.petlog.record.repository.RecapRepository;
+import com.petlog.record.repository.projection.RecapBatchTarget;
+import com.petlog.record.service.RecapGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MonthlyRecapBatchJobTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2024, 3);
+    private static final LocalDate START = MONTH.atDay(1);
+    private static final LocalDate END = MONTH.atEndOfMonth();
+
+    private final DiaryRepository diaryRepository = mock(DiaryRepository.class);
+    private final RecapRepository recapRepository = mock(RecapRepository.class);
+    private final RecapBatchCheckpointRepository checkpointRepository = mock(RecapBatchCheckpointRepository.class);
+    private final RecapGenerator recapGenerator = mock(RecapGenerator.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private MonthlyRecapBatchJob job;
+
+    @BeforeEach
+    void setUp() {
+        // 트랜잭션은 콜백만 실행, 워커는 호출 스레드에서 바로 실행
+        job = new MonthlyRecapBatchJob(diaryRepository, recapRepository, checkpointRepository, recapGenerator,
+                Runnable::run, mock(TaskScheduler.class), mock(PlatformTransactionManager.class),
+                meterRegistry, 1000);
+        when(checkpointRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(recapGenerator.generate(anyLong())).thenReturn(RecapGenerator.Outcome.GENERATED);
+    }
+
+    @Test
+    void secondUserOfSharedPetGetsOwnRecap() {
+        // 펫 1을 사용자 10, 20이 함께 기록 -> 사용자 10의 리캡만 이미 있음
+        when(checkpointRepository.findById("monthly-recap:" + MONTH)).thenReturn(Optional.empty());
+        when(diaryRepository.findRecapTargets(any(), any(), eq(0L), eq(0L), anyInt()))
+                .thenReturn(List.of(target(1L, 10L), target(1L, 20L)));
+        when(recapRepository.findFirstByUserIdAndPetIdAndPeriodStartAndPeriodEnd(10L, 1L, START, END))
+                .thenReturn(Optional.of(recap(100L, 10L, RecapStatus.GENERATED)));
+        when(recapRepository.findFirstByUserIdAndPetIdAndPeriodStartAndPeriodEnd(20L, 1L, START, END))
+                .thenReturn(Optional.empty());
+        when(recapRepository.save(any())).thenReturn(recap(200L, 20L, RecapStatus.WAITING));
+
+        job.run(MONTH, false);
+
+        verify(recapRepository).save(argThat(recap -> recap.getUserId().equals(20L) && recap.getPetId().equals(1L)));
+        verify(recapGenerator).generate(200L);
+        verify(recapGenerator, never()).generate(100L);
+    }
+
+    @Test
+    void sharedPetRecapsAggregateOnlyOwnersDiaries() {
+        // 실제 생성기로 집계 -> 펫 1을 함께 기르는 사용자 10, 20의 리캡이 서로의 일기(PRIVATE 포함)를 보지 않아야 함
+        RecapGenerator generator = new RecapGenerator(recapRepository, diaryRepository, mock(ApplicationEventPublisher.class),
+                mock(PlatformTransactionManager.class), 100, 5);
+        MonthlyRecapBatchJob sharedPetJob = new MonthlyRecapBatchJob(diaryRepository, recapRepository, checkpointRepository,
+                generator, Runnable::run, mock(TaskScheduler.class), mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry(), 1000);
+
+        when(checkpointRepository.findById("monthly-recap:" + MONTH)).thenReturn(Optional.empty());
+        when(diaryRepository.findRecapTargets(any(), any(), eq(0L), eq(0L), anyInt()))
+                .thenReturn(List.of(target(1L, 10L), target(1L, 20L)));
+
+        // recaps 테이블 대역 (리캡 ID = 사용자 ID x 10)
+        Map<Long, Recap> recaps = new HashMap<>();
+        when(recapRepository.save(any())).thenAnswer(invocation -> {
+            Recap recap = invocation.getArgument(0);
+            ReflectionTestUtils.setField(recap, "recapId", recap.getUserId() * 10);
+            recaps.put(recap.getRecapId(), recap);
+            return recap;
+        });
+        when(recapRepository.findById(anyLong())).thenAnswer(invocation -> Optional.ofNullable(recaps.get(invocation.getArgument(0))));
+
+        // diaries 테이블 대역: 작성자 조건으로 걸러서 반환
+        List<Diary> diaries = List.of(
+                diary(1L, 10L, "행복", "산책", Visibility.PUBLIC),
+                diary(2L, 20L, "슬픔", "나만 보는 일기", Visibility.PRIVATE),
+                diary(3L, 20L, "슬픔", "병원", Visibility.FOLLOWER),
+                diary(4L, 10L, "행복", "공원", Visibility.PUBLIC));
+        when(diaryRepository.findPeriodChunk(eq(1L), anyLong(), any(), any(), any())).thenAnswer(invocation -> {
+            Long userId = invocation.getArgument(1);
+            return diaries.stream().filter(diary -> diary.getUserId().equals(userId)).toList();
+        });
+
+        sharedPetJob.run(MONTH, false);
+
+        Recap first = recaps.get(100L);
+        assertThat(first.getStatus()).isEqualTo(RecapStatus.GENERATED);
+        assertThat(first.getMomentCount()).isEqualTo(2);
+        assertThat(first.getSummary()).contains("행복").doesNotContain("슬픔");
+        assertThat(first.getHighlights()).extracting(RecapHighlight::getContent).containsExactlyInAnyOrder("산책", "공원");
+
+        Recap second = recaps.get(200L);
+        assertThat(second.getStatus()).isEqualTo(RecapStatus.GENERATED);
+        assertThat(second.getMomentCount()).isEqualTo(2);
+        assertThat(second.getSummary()).contains("슬픔").doesNotContain("행복");
+        assertThat(second.getHighlights()).extracting(RecapHighlight::getContent)
+                .containsExactlyInAnyOrder("나만 보는 일기", "병원");
+    }
+
+    @Test
+    void recapTakenByAnotherRunCountsAsSkippedNotFailed() {
+        // 조회 시점에는 WAITING 이었지만 생성기 호출 전에 동시/재시도 실행이 먼저 가져감
+        when(checkpointRepository.findById("monthly-recap:" + MONTH)).thenReturn(Optional.empty());
+        when(diaryRepository.findRecapTargets(any(), any(), eq(0L), eq(0L), anyInt()))
+                .thenReturn(List.of(target(1L, 10L)));
+        when(recapRepository.findFirstByUserIdAndPetIdAndPeriodStartAndPeriodEnd(10L, 1L, START, END))
+                .thenReturn(Optional.of(recap(100L, 10L, RecapStatus.WAITING)));
+        when(recapGenerator.generate(100L)).thenReturn(RecapGenerator.Outcome.SKIPPED);
+
+        job.run(MONTH, false);
+
+        verify(checkpointRepository).save(argThat(checkpoint ->
+                checkpoint.getSkippedCount() == 1 && checkpoint.getFailedCount() == 0));
+        assertThat(meterRegistry.counter("recap.batch.failed").count()).isZero();
+        assertThat(meterRegistry.counter("recap.batch.skipped").count()).isEqualTo(1);
+    }
+
+    @Test
+    void failedRecapIsRetriedWhenRunResumes() {
+        Recap failed = recap(100L, 10L, RecapStatus.FAILED);
+        when(checkpointRepository.findById("monthly-recap:" + MONTH)).thenReturn(Optional.empty());
+        when(diaryRepository.findRecapTargets(any(), any(), eq(0L), eq(0L), anyInt()))
+                .thenReturn(List.of(target(1L, 10L)));
+        when(recapRepository.findFirstByUserIdAndPetIdAndPeriodStartAndPeriodEnd(10L, 1L, START, END))
+                .thenReturn(Optional.of(failed));
+        when(recapRepository.findById(100L)).thenReturn(Optional.of(failed));
+
+        job.run(MONTH, false);
+
+        assertThat(failed.getStatus()).isEqualTo(RecapStatus.WAITING); // generate 호출 전에 대기 상태로 되돌림
+        verify(recapGenerator).generate(100L);
+        verify(recapRepository, never()).save(any());
+    }
+
+    @Test
+    void completedMonthRerunRetriesOnlyFailedRecaps() {
+        RecapBatchCheckpoint completed = RecapBatchCheckpoint.start("monthly-recap:" + MONTH, START, END);
+        completed.complete();
+        Recap failed = recap(100L, 10L, RecapStatus.FAILED);
+        when(checkpointRepository.findById("monthly-recap:" + MONTH)).thenReturn(Optional.of(completed));
+        when(recapRepository.findFailedRecapIds(eq(START), eq(END), eq(0L), any(Limit.class))).thenReturn(List.of(100L));
+        when(recapRepository.findById(100L)).thenReturn(Optional.of(failed));
+
+        job.run(MONTH, false);
+
+        assertThat(failed.getStatus()).isEqualTo(RecapStatus.WAITING);
+        verify(recapGenerator).generate(100L);
+        verify(diaryRepository, never()).findRecapTargets(any(), any(), anyLong(), anyLong(), anyInt());
+    }
+
+    private static Recap recap(Long recapId, Long userId, RecapStatus status) {
+        return Recap.builder()
+                .recapId(recapId)
+                .petId(1L)
+                .userId(userId)
+                .title("2024년 3월의 추억")
+                .periodStart(START)
+                .periodEnd(END)
+                .status(status)
+                .build();
+    }
+
+    private static Diary diary(Long diaryId, Long userId, String mood, String content, Visibility visibility) {
+        return Diary.builder()
+                .diaryId(diaryId)
+                .userId(userId)
+                .petId(1L)
+                .content(content)
+                .visibility(visibility)
+                .isAiGen(false)
+                .mood(mood)
+                .weather("맑음")
+                .createdAt(LocalDateTime.of(2024, 3, diaryId.intValue(), 10, 0))
+                .build();
+    }
+
+    private static RecapBatchTarget target(Long petId, Long userId) {
+        return new RecapBatchTarget() {
+            @Override
+            public Long getPetId() {
+                return petId;
+            }
+
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+        };
+    }
+}
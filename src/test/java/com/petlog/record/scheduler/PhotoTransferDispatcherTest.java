@@ -0,0 +1,73 @@
+package com.petlog.record.scheduler;
+
+import com.petlog.record.client.StorageServiceClient;
+import com.petlog.record.entity.PhotoTransferOutbox;
+import com.petlog.record.service.PhotoOutboxService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PhotoTransferDispatcherTest {
+
+    private static final int BATCH_SIZE = 3;
+    private static final int MAX_BATCHES_PER_RUN = 5;
+
+    private final PhotoOutboxService photoOutboxService = mock(PhotoOutboxService.class);
+    private final StorageServiceClient storageServiceClient = mock(StorageServiceClient.class);
+    private final AtomicLong outboxIds = new AtomicLong();
+
+    private PhotoTransferDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new PhotoTransferDispatcher(photoOutboxService, storageServiceClient, new SimpleMeterRegistry(),
+                BATCH_SIZE, MAX_BATCHES_PER_RUN);
+        // 적체 상황: 매번 가득 찬 배치가 나옴
+        when(photoOutboxService.claimDueBatch(anyInt())).thenAnswer(invocation -> fullBatch());
+    }
+
+    @Test
+    void drainsFullBatchesUpToMaxPerRun() {
+        dispatcher.dispatch();
+
+        verify(photoOutboxService, times(MAX_BATCHES_PER_RUN)).claimDueBatch(BATCH_SIZE);
+        verify(photoOutboxService, times(MAX_BATCHES_PER_RUN)).markSent(anyList());
+    }
+
+    @Test
+    void stopsRunAtFirstFailedBatch() {
+        doThrow(new IllegalStateException("storage down")).when(storageServiceClient).savePhotos(anyList());
+
+        dispatcher.dispatch();
+
+        // 장애 중인 스토리지로 남은 배치를 계속 보내지 않고 다음 주기로 미룸
+        verify(photoOutboxService, times(1)).claimDueBatch(BATCH_SIZE);
+        verify(photoOutboxService, times(1)).markFailed(anyList(), anyString());
+        verify(photoOutboxService, never()).markSent(anyList());
+    }
+
+    private List<PhotoTransferOutbox> fullBatch() {
+        return LongStream.range(0, BATCH_SIZE)
+                .mapToObj(i -> PhotoTransferOutbox.builder()
+                        .outboxId(outboxIds.incrementAndGet())
+                        .diaryId(1L)
+                        .userId(1L)
+                        .imageUrl("https://image/" + i + ".jpg")
+                        .build())
+                .toList();
+    }
+}
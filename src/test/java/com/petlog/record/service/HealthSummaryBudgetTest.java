@@ -0,0 +1,203 @@
+package com.petlog.record.service;
+
+import com.petlog.record.client.HealthcareServiceClient;
+import com.petlog.record.client.NotificationServiceClient;
+import com.petlog.record.config.AsyncConfig;
+import com.petlog.record.config.CacheConfig;
+import com.petlog.record.config.FeignHttpClientConfig;
+import com.petlog.record.config.FeignResilienceConfig;
+import com.petlog.record.dto.response.RecapResponse;
+import com.petlog.record.entity.Recap;
+import com.petlog.record.entity.RecapStatus;
+import com.petlog.record.repository.RecapRepository;
+import com.petlog.record.repository.projection.RecapPeriodView;
+import com.petlog.record.service.impl.RecapServiceImpl;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * 리캡 상세 건강 지표 지연 예산 테스트: 로컬 스텁 HTTP 서버(헬스케어 서비스 대역)에 지연을 주입하고
+ * 애플리케이션과 같은 설정의 Feign 클라이언트 -> HealthSummaryProvider(completeOnTimeout) -> RecapServiceImpl 을 거쳐
+ * 예산(recap.health.timeout)을 넘기면 건강 지표 없이 부분 응답이 나오는지 확인합니다.
+ * 리캡 조회는 저장소 대역으로 대신하므로 DB/Kafka 자동 설정은 제외합니다.
+ */
+@SpringBootTest(classes = HealthSummaryBudgetTest.TestApp.class, webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "recap.health.timeout=300ms")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD) // 건강 지표 캐시를 테스트마다 초기화
+class HealthSummaryBudgetTest {
+
+    @Configuration
+    @EnableAutoConfiguration(exclude = {
+            DataSourceAutoConfiguration.class,
+            DataSourceTransactionManagerAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class,
+            FlywayAutoConfiguration.class,
+            KafkaAutoConfiguration.class
+    })
+    @EnableFeignClients(clients = HealthcareServiceClient.class)
+    @Import({FeignResilienceConfig.class, FeignHttpClientConfig.class, AsyncConfig.class, CacheConfig.class,
+            HealthSummaryProvider.class, RecapServiceImpl.class})
+    static class TestApp {
+    }
+
+    private static final Long RECAP_ID = 10L;
+    private static final Long PET_ID = 7L;
+    // 이미 끝난 기간 -> 늦게 도착한 응답도 캐시에 적재됨
+    private static final LocalDate PERIOD_START = LocalDate.of(2024, 3, 1);
+    private static final LocalDate PERIOD_END = LocalDate.of(2024, 3, 31);
+
+    // === 스텁 서버 (컨텍스트보다 먼저 떠야 URL 을 주입할 수 있으므로 static) ===
+    private static HttpServer server;
+    private static volatile long delayMillis = 0;
+    private static final AtomicInteger served = new AtomicInteger();
+
+    @MockitoBean
+    private RecapRepository recapRepository;
+
+    @MockitoBean
+    private NotificationServiceClient notificationClient;
+
+    @Autowired
+    private RecapService recapService;
+
+    @DynamicPropertySource
+    static void stubUrl(DynamicPropertyRegistry registry) {
+        startServer();
+        registry.add("external.healthcare-service.url", () -> "http://localhost:" + server.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.stop(0);
+    }
+
+    @BeforeEach
+    void setUp() {
+        delayMillis = 0;
+        served.set(0);
+        when(recapRepository.findPeriodById(RECAP_ID)).thenReturn(Optional.of(new RecapPeriodView() {
+            @Override
+            public Long getPetId() {
+                return PET_ID;
+            }
+
+            @Override
+            public LocalDate getPeriodStart() {
+                return PERIOD_START;
+            }
+
+            @Override
+            public LocalDate getPeriodEnd() {
+                return PERIOD_END;
+            }
+        }));
+        when(recapRepository.findWithHighlightsById(RECAP_ID)).thenReturn(Optional.of(Recap.builder()
+                .recapId(RECAP_ID)
+                .petId(PET_ID)
+                .userId(1L)
+                .title("2024년 3월")
+                .summary("봄 산책이 많았던 한 달")
+                .periodStart(PERIOD_START)
+                .periodEnd(PERIOD_END)
+                .momentCount(12)
+                .status(RecapStatus.GENERATED)
+                .build()));
+    }
+
+    @Test
+    void mergesHealthMetricsWhenServiceAnswersWithinBudget() {
+        RecapResponse.Detail detail = recapService.getRecap(RECAP_ID);
+
+        assertThat(detail.getTitle()).isEqualTo("2024년 3월");
+        assertThat(detail.getAvgHeartRate()).isEqualTo(85);
+        assertThat(detail.getAvgStepCount()).isEqualTo(5400);
+        assertThat(detail.getAvgSleepTime()).isEqualTo(12.5);
+        assertThat(detail.getAvgWeight()).isEqualTo(5.2);
+    }
+
+    @Test
+    void returnsPartialRecapWhenServiceIsSlowerThanBudget() throws InterruptedException {
+        // 예산(300ms)보다 길고 Feign readTimeout(2초)보다 짧은 지연 -> 호출 자체는 결국 성공
+        delayMillis = 1_000;
+
+        long startedAt = System.nanoTime();
+        RecapResponse.Detail detail = recapService.getRecap(RECAP_ID);
+
+        // 건강 지표만 빠진 부분 응답이 예산 근처에서 반환됨
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofMillis(800));
+        assertThat(detail.getRecapId()).isEqualTo(RECAP_ID);
+        assertThat(detail.getTitle()).isEqualTo("2024년 3월");
+        assertThat(detail.getMomentCount()).isEqualTo(12);
+        assertThat(detail.getAvgHeartRate()).isNull();
+        assertThat(detail.getAvgStepCount()).isNull();
+        assertThat(detail.getAvgSleepTime()).isNull();
+        assertThat(detail.getAvgWeight()).isNull();
+
+        // 예산 이후 도착한 응답은 캐시에 적재되어 다음 조회는 원격 호출 없이 전체 응답
+        Thread.sleep(1_500);
+        RecapResponse.Detail next = recapService.getRecap(RECAP_ID);
+        assertThat(next.getAvgHeartRate()).isEqualTo(85);
+        assertThat(served).hasValue(1);
+    }
+
+    private static synchronized void startServer() {
+        if (server != null) {
+            return;
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", 0), 64);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        server.createContext("/api/health", exchange -> {
+            served.incrementAndGet();
+            try {
+                if (delayMillis > 0) {
+                    Thread.sleep(delayMillis);
+                }
+                byte[] body = """
+                        {"petId":7,"avgHeartRate":85,"avgStepCount":5400,"avgSleepTime":12.5,"avgWeight":5.2}
+                        """.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                exchange.close();
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+}
@@ -0,0 +1,111 @@
+package com.petlog.record.service;
+
+import com.petlog.record.client.HealthcareServiceClient;
+import com.petlog.record.config.CacheConfig;
+import com.petlog.record.dto.client.HealthSummaryResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HealthSummaryProviderTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-04-15T00:00:00Z"), ZoneId.of("UTC"));
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CaffeineCacheManager cacheManager = new CaffeineCacheManager(CacheConfig.HEALTH_SUMMARY_CACHE);
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void returnsNullWithinBudgetWhenServiceHangs() {
+        HealthSummaryProvider provider = provider((petId, from, to) -> {
+            sleep(2_000);
+            return summary(petId);
+        }, Duration.ofMillis(100));
+
+        long startedAt = System.nanoTime();
+        HealthSummaryResponse result = provider.fetchAsync(1L, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31)).join();
+
+        assertThat(result).isNull();
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofMillis(1_000));
+    }
+
+    @Test
+    void returnsNullWhenServiceFails() {
+        HealthSummaryProvider provider = provider((petId, from, to) -> {
+            throw new IllegalStateException("down");
+        }, Duration.ofMillis(500));
+
+        assertThat(provider.fetchAsync(1L, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31)).join()).isNull();
+    }
+
+    @Test
+    void returnsNullWithoutCallingWhenExecutorIsSaturated() {
+        // 외부 호출 실행기가 가득 차 거절 -> 호출 스레드에서 대신 실행하지 않고 바로 건강 지표 없이 완료
+        HealthSummaryProvider provider = new HealthSummaryProvider((petId, from, to) -> {
+            calls.incrementAndGet();
+            return summary(petId);
+        }, command -> {
+            throw new RejectedExecutionException("full");
+        }, cacheManager, Duration.ofMillis(500), CLOCK);
+
+        assertThat(provider.fetchAsync(1L, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31)).join()).isNull();
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    void cachesPastPeriodOnly() {
+        HealthSummaryProvider provider = provider((petId, from, to) -> {
+            calls.incrementAndGet();
+            return summary(petId);
+        }, Duration.ofMillis(500));
+
+        // 지난 기간 (3월) -> 두 번째 요청은 캐시
+        provider.fetchAsync(1L, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31)).join();
+        provider.fetchAsync(1L, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31)).join();
+        assertThat(calls).hasValue(1);
+
+        // 진행 중인 기간 (4월) -> 매번 조회
+        provider.fetchAsync(1L, LocalDate.of(2024, 4, 1), LocalDate.of(2024, 4, 30)).join();
+        provider.fetchAsync(1L, LocalDate.of(2024, 4, 1), LocalDate.of(2024, 4, 30)).join();
+        assertThat(calls).hasValue(3);
+    }
+
+    private HealthSummaryProvider provider(HealthcareServiceClient client, Duration budget) {
+        return new HealthSummaryProvider(client, executor, cacheManager, budget, CLOCK);
+    }
+
+    private static HealthSummaryResponse summary(Long petId) {
+        return HealthSummaryResponse.builder()
+                .petId(petId)
+                .avgHeartRate(85)
+                .avgStepCount(5400)
+                .avgSleepTime(12.5)
+                .avgWeight(5.2)
+                .build();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
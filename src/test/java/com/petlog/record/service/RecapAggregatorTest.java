@@ -0,0 +1,102 @@
+package com.petlog.record.service;
+
+import com.petlog.record.entity.Diary;
+import com.petlog.record.entity.DiaryImage;
+import com.petlog.record.entity.ImageSource;
+import com.petlog.record.entity.RecapHighlight;
+import com.petlog.record.entity.Visibility;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecapAggregatorTest {
+
+    @Test
+    void aggregatesCountsAndMostFrequentMoodAndWeather() {
+        RecapAggregator aggregator = new RecapAggregator(3);
+
+        aggregator.accept(diary(1L, "행복", "맑음", "산책", 0));
+        aggregator.accept(diary(2L, "슬픔", "비", "비가 와서 집에만 있었다", 0));
+        aggregator.accept(diary(3L, "행복", "맑음", "공원", 0));
+
+        RecapAggregator.Result result = aggregator.result();
+
+        assertThat(result.momentCount()).isEqualTo(3);
+        assertThat(result.topMood()).isEqualTo("행복");
+        assertThat(result.topWeather()).isEqualTo("맑음");
+        assertThat(result.summary()).contains("3개의 순간");
+    }
+
+    @Test
+    void keepsOnlyTopScoredHighlightsInRankingOrder() {
+        RecapAggregator aggregator = new RecapAggregator(2);
+
+        aggregator.accept(diary(1L, "행복", "맑음", "짧음", 0));
+        aggregator.accept(diary(2L, "행복", "맑음", "사진이 많은 날", 3));
+        aggregator.accept(diary(3L, "행복", "맑음", "짧음", 0));
+        aggregator.accept(diary(4L, "신남", "맑음", "사진 한 장", 1));
+
+        RecapAggregator.Result result = aggregator.result();
+
+        assertThat(result.highlights())
+                .extracting(RecapHighlight::getContent)
+                .containsExactly("사진이 많은 날", "사진 한 장");
+        // 표지는 가장 점수가 높은 하이라이트의 대표 이미지
+        assertThat(result.mainImageUrl()).isEqualTo("https://image/2/0.jpg");
+    }
+
+    @Test
+    void ordersHighlightsByScoreThenDiaryId() {
+        RecapAggregator aggregator = new RecapAggregator(3);
+
+        aggregator.accept(diary(1L, "행복", "맑음", "사진 한 장", 1));
+        aggregator.accept(diary(2L, "행복", "맑음", "짧음", 0));
+        aggregator.accept(diary(3L, "행복", "맑음", "사진이 많은 날", 3));
+        aggregator.accept(diary(4L, "행복", "맑음", "사진 한 장", 1));
+
+        RecapAggregator.Result result = aggregator.result();
+
+        // 작성 순서(1, 3, 4)가 아니라 점수 순서, 동점(1, 4)은 먼저 작성된 일기가 앞
+        assertThat(result.highlights())
+                .extracting(RecapHighlight::getContent)
+                .containsExactly("사진이 많은 날", "사진 한 장", "사진 한 장");
+        assertThat(result.highlights())
+                .extracting(RecapHighlight::getTitle)
+                .containsExactly("3월 3일의 행복", "3월 1일의 행복", "3월 4일의 행복");
+    }
+
+    @Test
+    void emptyPeriodProducesEmptyRecap() {
+        RecapAggregator.Result result = new RecapAggregator(5).result();
+
+        assertThat(result.momentCount()).isZero();
+        assertThat(result.mainImageUrl()).isNull();
+        assertThat(result.highlights()).isEmpty();
+    }
+
+    private Diary diary(Long id, String mood, String weather, String content, int imageCount) {
+        Diary diary = Diary.builder()
+                .diaryId(id)
+                .userId(1L)
+                .petId(1L)
+                .content(content)
+                .visibility(Visibility.PUBLIC)
+                .isAiGen(false)
+                .mood(mood)
+                .weather(weather)
+                .createdAt(LocalDateTime.of(2024, 3, id.intValue(), 10, 0))
+                .build();
+        for (int i = 0; i < imageCount; i++) {
+            diary.addImage(DiaryImage.builder()
+                    .userId(1L)
+                    .imageUrl("https://image/" + id + "/" + i + ".jpg")
+                    .imgOrder(i)
+                    .mainImage(i == 0)
+                    .source(ImageSource.GALLERY)
+                    .build());
+        }
+        return diary;
+    }
+}
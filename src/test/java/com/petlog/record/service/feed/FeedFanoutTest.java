@@ -0,0 +1,98 @@
+package com.petlog.record.service.feed;
+
+import com.petlog.record.repository.DiaryRepository;
+import com.petlog.record.repository.projection.DiaryFeedKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FeedFanoutTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 5, 1, 9, 0);
+    private static final Long AUTHOR = 7L;
+    private static final Long FOLLOWER = 20L;
+
+    private final InMemoryFeedStore feedStore = new InMemoryFeedStore(500, 100, Duration.ofDays(1));
+    private final FollowGraph followGraph = mock(FollowGraph.class);
+    private final CelebrityRegistry celebrityRegistry = mock(CelebrityRegistry.class);
+    private final DiaryRepository diaryRepository = mock(DiaryRepository.class);
+
+    private FeedFanout fanout;
+
+    @BeforeEach
+    void setUp() {
+        fanout = new FeedFanout(feedStore, followGraph, celebrityRegistry, diaryRepository, new SimpleMeterRegistry(), 500);
+        feedStore.open(AUTHOR);
+        feedStore.open(FOLLOWER);
+    }
+
+    @Test
+    void celebrityIsMarkedAndNotFannedOut() {
+        when(followGraph.followersForFanout(AUTHOR)).thenReturn(null);
+
+        fanout.fanOut(entry(1L, 1));
+
+        verify(celebrityRegistry).mark(AUTHOR);
+        assertThat(feedStore.read(AUTHOR, null, 10)).extracting(FeedEntry::diaryId).containsExactly(1L);
+        assertThat(feedStore.read(FOLLOWER, null, 10)).isEmpty();
+    }
+
+    @Test
+    void demotedCelebrityBackfillsRecentDiariesBeforeUnmarking() {
+        // 셀럽이던 동안 팬아웃하지 않은 일기 1, 2 -> 팔로워 수가 기준치 아래로 내려간 뒤 첫 작성(3)
+        when(followGraph.followersForFanout(AUTHOR)).thenReturn(List.of(FOLLOWER));
+        when(celebrityRegistry.isCelebrity(AUTHOR)).thenReturn(true);
+        when(diaryRepository.findFeedKeys(AUTHOR, Limit.of(500))).thenReturn(List.of(key(2L, 2), key(1L, 1)));
+
+        fanout.fanOut(entry(3L, 3));
+
+        assertThat(feedStore.read(FOLLOWER, null, 10)).extracting(FeedEntry::diaryId).containsExactly(3L, 2L, 1L);
+        verify(celebrityRegistry).unmark(AUTHOR);
+    }
+
+    @Test
+    void regularAuthorIsFannedOutWithoutBackfill() {
+        when(followGraph.followersForFanout(AUTHOR)).thenReturn(List.of(FOLLOWER));
+
+        fanout.fanOut(entry(1L, 1));
+
+        assertThat(feedStore.read(FOLLOWER, null, 10)).extracting(FeedEntry::diaryId).containsExactly(1L);
+        verify(diaryRepository, never()).findFeedKeys(any(), any());
+        verify(celebrityRegistry, never()).unmark(any());
+    }
+
+    private static FeedEntry entry(long diaryId, long minutes) {
+        return new FeedEntry(diaryId, AUTHOR, BASE.plusMinutes(minutes));
+    }
+
+    private static DiaryFeedKey key(long diaryId, long minutes) {
+        return new DiaryFeedKey() {
+            @Override
+            public Long getDiaryId() {
+                return diaryId;
+            }
+
+            @Override
+            public Long getUserId() {
+                return AUTHOR;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return BASE.plusMinutes(minutes);
+            }
+        };
+    }
+}
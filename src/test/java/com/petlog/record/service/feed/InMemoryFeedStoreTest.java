@@ -0,0 +1,80 @@
+package com.petlog.record.service.feed;
+
+import com.petlog.record.util.KeysetCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryFeedStoreTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 5, 1, 9, 0);
+
+    private final InMemoryFeedStore store = new InMemoryFeedStore(3, 100, Duration.ofDays(1));
+
+    @BeforeEach
+    void openTimelines() {
+        store.open(1L);
+        store.open(2L);
+    }
+
+    @Test
+    void readsNewestFirstAndKeepsOnlyMaxEntries() {
+        for (long i = 1; i <= 5; i++) {
+            store.push(List.of(1L, 2L), entry(i, i));
+        }
+
+        assertThat(store.read(1L, null, 10)).extracting(FeedEntry::diaryId).containsExactly(5L, 4L, 3L);
+        assertThat(store.read(2L, null, 10)).extracting(FeedEntry::diaryId).containsExactly(5L, 4L, 3L);
+    }
+
+    @Test
+    void readContinuesAfterCursorWithSameCreatedAtTieBreak() {
+        store.push(List.of(1L), entry(10L, 1));
+        store.push(List.of(1L), entry(11L, 1));
+        store.push(List.of(1L), entry(12L, 0));
+
+        List<FeedEntry> first = store.read(1L, null, 1);
+        FeedEntry last = first.get(0);
+        List<FeedEntry> next = store.read(1L, new KeysetCursor(last.createdAt(), last.diaryId()), 10);
+
+        assertThat(first).extracting(FeedEntry::diaryId).containsExactly(11L);
+        assertThat(next).extracting(FeedEntry::diaryId).containsExactly(10L, 12L);
+    }
+
+    @Test
+    void duplicatePushIsIgnored() {
+        store.push(List.of(1L), entry(1L, 1));
+        store.push(List.of(1L), entry(1L, 1));
+        store.push(List.of(1L), entry(2L, 2));
+        store.push(List.of(1L), entry(3L, 3));
+
+        assertThat(store.read(1L, null, 10)).extracting(FeedEntry::diaryId).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    void unknownViewerHasEmptyTimeline() {
+        assertThat(store.read(99L, null, 10)).isEmpty();
+    }
+
+    @Test
+    void pushSkipsViewersWithoutTimelineUntilOpened() {
+        store.push(List.of(1L, 99L), entry(1L, 1));
+
+        assertThat(store.read(99L, null, 10)).isEmpty();
+        assertThat(store.open(99L)).isTrue();
+        assertThat(store.open(99L)).isFalse();
+
+        store.push(List.of(1L, 99L), entry(2L, 2));
+        assertThat(store.read(99L, null, 10)).extracting(FeedEntry::diaryId).containsExactly(2L);
+        assertThat(store.read(1L, null, 10)).extracting(FeedEntry::diaryId).containsExactly(2L, 1L);
+    }
+
+    private static FeedEntry entry(long diaryId, long minutes) {
+        return new FeedEntry(diaryId, 7L, BASE.plusMinutes(minutes));
+    }
+}
@@ -0,0 +1,155 @@
+package com.petlog.record.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petlog.record.exception.BusinessException;
+import com.petlog.record.exception.ErrorCode;
+import com.petlog.record.service.DiaryExportService;
+import com.petlog.record.support.PostgresContainerSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 실제 PostgreSQL 서버 측 커서로 내보내기를 실행하여 힙 사용량, 동시 실행 제한, 최대 실행 시간을 확인합니다.
+ * 내보내기가 자체 읽기 트랜잭션을 열어야 커서가 동작하므로 테스트 트랜잭션으로 감싸지 않고, 테스트마다 테이블을 비웁니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DiaryExportServiceImplTest extends PostgresContainerSupport {
+
+    private static final long USER_ID = 1L;
+    private static final long MB = 1024 * 1024;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM diary_images");
+        jdbcTemplate.update("DELETE FROM diaries");
+    }
+
+    @Test
+    void streamingExportDoesNotHoldResultSetInHeap() throws IOException {
+        seed(100_000);
+
+        long streaming = retainedHeapMidExport(500);
+        long buffered = retainedHeapMidExport(0);
+
+        // 일기 10만 건(행 20만 개) 중 일부를 쓴 시점에 남아 있는 힙: 스트리밍은 fetchSize 행만, 버퍼링은 결과 전체
+        assertThat(streaming).isLessThan(16 * MB);
+        assertThat(buffered).isGreaterThan(48 * MB); // 측정이 결과 전체 적재를 실제로 구분하는지 확인
+    }
+
+    @Test
+    void rejectsExportsBeyondConcurrencyLimit() {
+        DiaryExportService service = service(500, 2, Duration.ofMinutes(1));
+
+        DiaryExportService.Slot first = service.acquireSlot();
+        service.acquireSlot();
+        assertThatThrownBy(service::acquireSlot)
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.DIARY_EXPORT_BUSY);
+
+        // 여러 번 닫아도 자리는 한 번만 반납
+        first.close();
+        first.close();
+        service.acquireSlot();
+        assertThatThrownBy(service::acquireSlot).isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void abortsExportAfterMaxDuration() {
+        seed(10);
+        DiaryExportService service = service(500, 1, Duration.ZERO);
+
+        assertThatThrownBy(() -> service.export(USER_ID, DiaryExportService.Format.NDJSON, OutputStream.nullOutputStream()))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("최대 시간");
+    }
+
+    private DiaryExportService service(int fetchSize, int maxConcurrent, Duration maxDuration) {
+        return new DiaryExportServiceImpl(dataSource, new DataSourceTransactionManager(dataSource),
+                new ObjectMapper(), fetchSize, 100, maxConcurrent, maxDuration);
+    }
+
+    // 출력이 8MB를 넘은 시점(내보내기 도중)에 기준 대비 남아 있는 힙
+    private long retainedHeapMidExport(int fetchSize) throws IOException {
+        long probeAfter = 8 * MB;
+        AtomicLong retained = new AtomicLong(-1);
+        long baseline = usedHeapAfterGc();
+        OutputStream probe = new OutputStream() {
+            private long written;
+
+            @Override
+            public void write(int b) {
+                write(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                written += len;
+                if (written >= probeAfter && retained.get() < 0) {
+                    retained.set(usedHeapAfterGc() - baseline);
+                }
+            }
+        };
+
+        long count = service(fetchSize, 1, Duration.ofMinutes(5))
+                .export(USER_ID, DiaryExportService.Format.NDJSON, probe);
+
+        assertThat(count).isEqualTo(100_000);
+        assertThat(retained.get()).isNotNegative();
+        return retained.get();
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private void seed(int diaryCount) {
+        jdbcTemplate.update("""
+                INSERT INTO diaries (diary_id, user_id, pet_id, content, visibility, is_ai_gen, weather, mood, created_at, updated_at)
+                SELECT nextval('diaries_seq'), ?, 1, '내보내기 테스트 일기 ' || g || ' - 오늘도 산책을 다녀왔다.',
+                       'PRIVATE', false, '맑음', '행복',
+                       TIMESTAMP '2015-01-01' + g * INTERVAL '1 hour', TIMESTAMP '2015-01-01' + g * INTERVAL '1 hour'
+                FROM generate_series(1, ?) AS g
+                """, USER_ID, diaryCount);
+        jdbcTemplate.update("""
+                INSERT INTO diary_images (image_id, diary_id, user_id, image_url, img_order, main_image, source, created_at, updated_at)
+                SELECT nextval('diary_images_seq'), d.diary_id, d.user_id,
+                       'https://bucket.s3.ap-northeast-2.amazonaws.com/test/' || d.diary_id || '/' || n || '.jpg',
+                       n, n = 1, 'GALLERY', d.created_at, d.created_at
+                FROM diaries d CROSS JOIN generate_series(1, 2) AS n
+                WHERE d.user_id = ?
+                """, USER_ID);
+    }
+}
@@ -0,0 +1,181 @@
+package com.petlog.record.service.impl;
+
+import com.petlog.record.dto.response.DiaryImportResponse;
+import com.petlog.record.service.DiaryImportService;
+import com.petlog.record.service.UserPetValidator;
+import com.petlog.record.support.PostgresContainerSupport;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * 실제 PostgreSQL(COPY, 시퀀스)에 가져오기를 실행하여 체크포인트 재개와 줄 단위 오류 처리를 확인합니다.
+ * 서비스가 청크마다 직접 커밋하므로 테스트 트랜잭션으로 감싸지 않고, 테스트마다 테이블을 비웁니다.
+ */
+@DataJpaTest(properties = "diary.import.chunk-size=10")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({DiaryImportServiceImpl.class, DiaryImportServiceImplTest.MetricsConfig.class})
+class DiaryImportServiceImplTest extends PostgresContainerSupport {
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @MockitoBean
+    private UserPetValidator userPetValidator;
+
+    @Autowired
+    private DiaryImportService importService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        when(userPetValidator.validateAll(any(), any())).thenReturn(new UserPetValidator.Missing(Set.of(), Set.of()));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM diary_images");
+        jdbcTemplate.update("DELETE FROM diaries");
+        jdbcTemplate.update("DELETE FROM diary_import_jobs");
+    }
+
+    @Test
+    void interruptedImportResumesFromCheckpointWithoutDuplicates() throws IOException {
+        StringBuilder ndjson = new StringBuilder();
+        int cutAt = 0;
+        for (int i = 1; i <= 35; i++) {
+            ndjson.append("{\"userId\":1,\"petId\":2,\"content\":\"imported ").append(i)
+                    .append("\",\"images\":[{\"imageUrl\":\"https://img/").append(i).append(".jpg\"}]}\n");
+            if (i == 25) {
+                cutAt = ndjson.toString().getBytes(StandardCharsets.UTF_8).length;
+            }
+        }
+        byte[] body = ndjson.toString().getBytes(StandardCharsets.UTF_8);
+
+        // 25번째 줄까지 보낸 뒤 연결이 끊김 -> 청크 2개(20줄)만 커밋되고, 21~25줄은 롤백
+        int limit = cutAt;
+        assertThatThrownBy(() -> importService.importDiaries(null, disconnectedAfter(body, limit)))
+                .isInstanceOf(IOException.class);
+        Long jobId = jdbcTemplate.queryForObject("SELECT job_id FROM diary_import_jobs", Long.class);
+        assertThat(countDiaries()).isEqualTo(20);
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM diary_import_jobs", String.class)).isEqualTo("FAILED");
+
+        // 같은 파일을 jobId 와 함께 다시 보내면 21번째 줄부터 이어서 적재
+        DiaryImportResponse resumed = importService.importDiaries(jobId, new ByteArrayInputStream(body));
+
+        assertThat(resumed.getStatus()).isEqualTo("COMPLETED");
+        assertThat(resumed.getLinesProcessed()).isEqualTo(35);
+        assertThat(resumed.getImportedCount()).isEqualTo(35);
+        assertThat(countDiaries()).isEqualTo(35);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(DISTINCT content) FROM diaries", Long.class)).isEqualTo(35);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM diary_images", Long.class)).isEqualTo(35);
+    }
+
+    @Test
+    void overlongColumnRejectsOnlyThatLineAndReportsPhysicalLineNumber() throws IOException {
+        String ndjson = """
+                {"userId":1,"petId":2,"content":"first"}
+
+                {"userId":1,"petId":2,"content":"too long","weather":"%s"}
+                {"userId":1,"petId":2,"content":"last"}
+                """.formatted("맑음".repeat(128));
+
+        DiaryImportResponse response = importService.importDiaries(null, stream(ndjson));
+
+        assertThat(response.getStatus()).isEqualTo("COMPLETED");
+        assertThat(response.getImportedCount()).isEqualTo(2);
+        assertThat(response.getFailedCount()).isEqualTo(1);
+        assertThat(response.getLastError()).startsWith("line 3: weather");
+        assertThat(jdbcTemplate.queryForList("SELECT content FROM diaries ORDER BY diary_id", String.class))
+                .containsExactly("first", "last");
+    }
+
+    @Test
+    void valueRejectedByDatabaseFallsBackToRowByRowLoad() throws IOException {
+        // 형식 검증은 통과하지만 PostgreSQL timestamp 범위를 넘는 날짜 -> 청크 COPY 실패 후 해당 줄만 건너뜀
+        String ndjson = """
+                {"userId":1,"petId":2,"content":"before"}
+                {"userId":1,"petId":2,"content":"far future","createdAt":"+300000-01-01T00:00:00"}
+                {"userId":1,"petId":2,"content":"after"}
+                """;
+
+        DiaryImportResponse response = importService.importDiaries(null, stream(ndjson));
+
+        assertThat(response.getStatus()).isEqualTo("COMPLETED");
+        assertThat(response.getImportedCount()).isEqualTo(2);
+        assertThat(response.getFailedCount()).isEqualTo(1);
+        assertThat(response.getLastError()).startsWith("line 2: ");
+        assertThat(jdbcTemplate.queryForList("SELECT content FROM diaries ORDER BY diary_id", String.class))
+                .containsExactly("before", "after");
+    }
+
+    private long countDiaries() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM diaries", Long.class);
+    }
+
+    private static InputStream stream(String ndjson) {
+        return new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // limit 바이트까지 읽은 뒤에는 클라이언트 연결이 끊긴 것처럼 IOException
+    private static InputStream disconnectedAfter(byte[] body, int limit) {
+        ByteArrayInputStream delegate = new ByteArrayInputStream(body, 0, limit);
+        return new InputStream() {
+            @Override
+            public int read() throws IOException {
+                int b = delegate.read();
+                if (b < 0) {
+                    throw new IOException("connection reset");
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                int n = delegate.read(buffer, offset, length);
+                if (n < 0) {
+                    throw new IOException("connection reset");
+                }
+                return n;
+            }
+        };
+    }
+}
@@ -0,0 +1,98 @@
+package com.petlog.record.service.impl;
+
+import com.petlog.record.dto.request.DiaryRequest;
+import com.petlog.record.dto.response.DiaryBulkResponse;
+import com.petlog.record.entity.Diary;
+import com.petlog.record.exception.ErrorCode;
+import com.petlog.record.repository.DiaryRepository;
+import com.petlog.record.service.PhotoOutboxService;
+import com.petlog.record.service.UserPetValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DiaryServiceImplTest {
+
+    private final DiaryRepository diaryRepository = mock(DiaryRepository.class);
+    private final UserPetValidator userPetValidator = mock(UserPetValidator.class);
+    private final PhotoOutboxService photoOutboxService = mock(PhotoOutboxService.class);
+
+    private DiaryServiceImpl diaryService;
+
+    @BeforeEach
+    void setUp() {
+        // 트랜잭션은 콜백만 실행
+        diaryService = new DiaryServiceImpl(diaryRepository, userPetValidator,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                photoOutboxService, mock(ApplicationEventPublisher.class));
+        ReflectionTestUtils.setField(diaryService, "bulkChunkSize", 50);
+
+        when(userPetValidator.validateAll(anyCollection(), anyCollection()))
+                .thenReturn(new UserPetValidator.Missing(Set.of(), Set.of()));
+        AtomicLong ids = new AtomicLong();
+        when(diaryRepository.save(any(Diary.class))).thenAnswer(invocation -> {
+            Diary diary = invocation.getArgument(0);
+            ReflectionTestUtils.setField(diary, "diaryId", ids.incrementAndGet());
+            return diary;
+        });
+    }
+
+    @Test
+    void nonDataAccessFailureIsReportedAsThatItemsFailure() {
+        // DB 오류가 아닌 예외(아웃박스 적재 중 IllegalStateException)가 두 번째 항목에서만 발생
+        doThrow(new IllegalStateException("outbox serialization failed"))
+                .when(photoOutboxService).enqueue(argThat(diary -> "broken".equals(diary.getContent())));
+
+        DiaryBulkResponse response = diaryService.createDiaries(List.of(
+                request("first"), request("broken"), request("third")));
+
+        assertThat(response.getSuccessCount()).isEqualTo(2);
+        assertThat(response.getFailureCount()).isEqualTo(1);
+        List<DiaryBulkResponse.Item> results = response.getResults();
+        assertThat(results.get(0).isSuccess()).isTrue();
+        assertThat(results.get(1).isSuccess()).isFalse();
+        assertThat(results.get(1).getErrorCode()).isEqualTo(ErrorCode.INTERNAL_SERVER_ERROR.getCode());
+        assertThat(results.get(2).isSuccess()).isTrue();
+        assertThat(results.get(2).getDiaryId()).isNotNull();
+    }
+
+    @Test
+    void deleteDiscardsPendingPhotoTransfersBeforeImagesAndDiary() {
+        Diary diary = Diary.builder().diaryId(7L).userId(1L).petId(1L).content("삭제할 일기").build();
+        when(diaryRepository.findById(7L)).thenReturn(Optional.of(diary));
+
+        diaryService.deleteDiary(7L);
+
+        // FK 가 없는 아웃박스 행이 남으면 삭제된 일기의 사진이 계속 전송되므로 같은 트랜잭션에서 먼저 지움
+        InOrder order = inOrder(photoOutboxService, diaryRepository);
+        order.verify(photoOutboxService).discard(7L);
+        order.verify(diaryRepository).deleteImagesByDiaryId(7L);
+        order.verify(diaryRepository).deleteByDiaryId(7L);
+    }
+
+    private DiaryRequest.Create request(String content) {
+        return DiaryRequest.Create.builder()
+                .userId(1L)
+                .petId(1L)
+                .content(content)
+                .build();
+    }
+}
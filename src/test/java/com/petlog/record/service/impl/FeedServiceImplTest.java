@@ -0,0 +1,173 @@
+package com.petlog.record.service.impl;
+
+import com.petlog.record.dto.response.CursorPageResponse;
+import com.petlog.record.dto.response.DiaryResponse;
+import com.petlog.record.entity.Diary;
+import com.petlog.record.entity.Visibility;
+import com.petlog.record.repository.DiaryQueryRepository;
+import com.petlog.record.repository.DiaryRepository;
+import com.petlog.record.repository.projection.DiaryFeedKey;
+import com.petlog.record.service.feed.CelebrityRegistry;
+import com.petlog.record.service.feed.FeedEntry;
+import com.petlog.record.service.feed.FollowGraph;
+import com.petlog.record.service.feed.InMemoryFeedStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FeedServiceImplTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 5, 1, 9, 0);
+    private static final Long VIEWER = 1L;
+    private static final Long FRIEND = 2L;
+    private static final Long CELEBRITY = 3L;
+    private static final Long UNFOLLOWED = 4L;
+
+    private final InMemoryFeedStore feedStore = new InMemoryFeedStore(500, 100, Duration.ofDays(1));
+    private final FollowGraph followGraph = mock(FollowGraph.class);
+    private final CelebrityRegistry celebrityRegistry = mock(CelebrityRegistry.class);
+    private final DiaryRepository diaryRepository = mock(DiaryRepository.class);
+    private final DiaryQueryRepository diaryQueryRepository = mock(DiaryQueryRepository.class);
+
+    // diaries 테이블 대역 (findAllById 는 여기 있는 일기만 반환 -> 없는 ID 는 삭제된 일기)
+    private final Map<Long, Diary> diaries = new HashMap<>();
+
+    private FeedServiceImpl feedService;
+
+    @BeforeEach
+    void setUp() {
+        // 트랜잭션은 콜백만 실행
+        feedService = new FeedServiceImpl(feedStore, followGraph, celebrityRegistry, diaryRepository,
+                diaryQueryRepository, mock(PlatformTransactionManager.class), 500);
+        when(followGraph.followingsOf(VIEWER)).thenReturn(Set.of(FRIEND, CELEBRITY));
+        when(celebrityRegistry.celebrities()).thenReturn(Set.of(CELEBRITY));
+        when(diaryRepository.findFeedKeys(eq(CELEBRITY), any())).thenReturn(List.of());
+        when(diaryQueryRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            Iterable<Long> ids = invocation.getArgument(0);
+            return StreamSupport.stream(ids.spliterator(), false).map(diaries::get).filter(Objects::nonNull).toList();
+        });
+    }
+
+    @Test
+    void mergesPushedTimelineWithCelebrityDiariesNewestFirst() {
+        feedStore.open(VIEWER);
+        push(diary(10L, FRIEND, 1, Visibility.PUBLIC));
+        push(diary(12L, FRIEND, 3, Visibility.FOLLOWER));
+        diary(11L, CELEBRITY, 2, Visibility.PUBLIC);
+        diary(13L, CELEBRITY, 4, Visibility.PUBLIC);
+        when(diaryRepository.findFeedKeys(CELEBRITY, Limit.of(4))).thenReturn(List.of(key(13L, CELEBRITY, 4), key(11L, CELEBRITY, 2)));
+
+        CursorPageResponse<DiaryResponse> page = feedService.getFeed(VIEWER, null, 3);
+
+        assertThat(page.getItems()).extracting(DiaryResponse::getDiaryId).containsExactly(13L, 12L, 11L);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getNextCursor()).isNotNull();
+    }
+
+    @Test
+    void dropsPrivateAndDeletedDiariesWhenHydrating() {
+        feedStore.open(VIEWER);
+        push(diary(1L, FRIEND, 1, Visibility.PUBLIC));
+        push(diary(2L, FRIEND, 2, Visibility.PRIVATE)); // 팬아웃 이후 비공개로 전환
+        push(diary(3L, FRIEND, 3, Visibility.PUBLIC));
+        diaries.remove(3L); // 팬아웃 이후 삭제
+
+        CursorPageResponse<DiaryResponse> page = feedService.getFeed(VIEWER, null, 10);
+
+        assertThat(page.getItems()).extracting(DiaryResponse::getDiaryId).containsExactly(1L);
+        assertThat(page.isHasNext()).isFalse();
+    }
+
+    @Test
+    void skipsEntriesOfUnfollowedAuthors() {
+        feedStore.open(VIEWER);
+        push(diary(1L, FRIEND, 1, Visibility.PUBLIC));
+        push(diary(2L, FRIEND, 2, Visibility.PUBLIC));
+        // 언팔로우한 작성자의 최신 항목이 한 번에 읽는 양(size + 1)보다 많아도 건너뛰고 계속 읽음
+        for (long id = 100; id < 110; id++) {
+            push(diary(id, UNFOLLOWED, id, Visibility.PUBLIC));
+        }
+
+        CursorPageResponse<DiaryResponse> page = feedService.getFeed(VIEWER, null, 2);
+
+        assertThat(page.getItems()).extracting(DiaryResponse::getDiaryId).containsExactly(2L, 1L);
+        assertThat(page.isHasNext()).isFalse();
+    }
+
+    @Test
+    void missingTimelineIsRebuiltFromDiariesOnce() {
+        // 재시작/제거로 타임라인이 없는 상태: 팔로잉 작성자의 최근 일기로 다시 채움
+        diary(1L, FRIEND, 1, Visibility.PUBLIC);
+        diary(2L, VIEWER, 2, Visibility.FOLLOWER);
+        when(diaryRepository.findFeedKeysByUserIds(any(), eq(Limit.of(500))))
+                .thenReturn(List.of(key(2L, VIEWER, 2), key(1L, FRIEND, 1)));
+
+        CursorPageResponse<DiaryResponse> first = feedService.getFeed(VIEWER, null, 10);
+
+        assertThat(first.getItems()).extracting(DiaryResponse::getDiaryId).containsExactly(2L, 1L);
+        assertThat(feedStore.read(VIEWER, null, 10)).extracting(FeedEntry::diaryId).containsExactly(2L, 1L);
+
+        // 이후 팬아웃은 재구성된 타임라인에 쌓이고, 다시 읽어도 재구성하지 않음
+        push(diary(3L, FRIEND, 3, Visibility.PUBLIC));
+        CursorPageResponse<DiaryResponse> second = feedService.getFeed(VIEWER, null, 10);
+
+        assertThat(second.getItems()).extracting(DiaryResponse::getDiaryId).containsExactly(3L, 2L, 1L);
+        verify(diaryRepository, times(1)).findFeedKeysByUserIds(any(), any());
+    }
+
+    private Diary diary(Long diaryId, Long authorId, long minutes, Visibility visibility) {
+        Diary diary = Diary.builder()
+                .diaryId(diaryId)
+                .userId(authorId)
+                .petId(authorId * 10)
+                .content("diary " + diaryId)
+                .visibility(visibility)
+                .isAiGen(false)
+                .createdAt(BASE.plusMinutes(minutes))
+                .build();
+        diaries.put(diaryId, diary);
+        return diary;
+    }
+
+    private void push(Diary diary) {
+        feedStore.push(List.of(VIEWER), new FeedEntry(diary.getDiaryId(), diary.getUserId(), diary.getCreatedAt()));
+    }
+
+    private static DiaryFeedKey key(Long diaryId, Long userId, long minutes) {
+        return new DiaryFeedKey() {
+            @Override
+            public Long getDiaryId() {
+                return diaryId;
+            }
+
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return BASE.plusMinutes(minutes);
+            }
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package com.petlog.record.support;
+
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * PostgreSQL 통합 테스트 공통 컨테이너
+ * 스키마는 실제 Flyway 마이그레이션으로 만들고, @ServiceConnection 이 DB_URL 등 datasource 설정을 대신함
+ * (트라이그램 인덱스가 한글을 문자로 인식하도록 UTF-8 로케일로 초기화)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresContainerSupport {
+
+    @Container
+    @ServiceConnection
+    protected static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16")
+            .withEnv("POSTGRES_INITDB_ARGS", "--encoding=UTF8 --locale=C.UTF-8");
+}
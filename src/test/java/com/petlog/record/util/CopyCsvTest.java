@@ -0,0 +1,37 @@
+package com.petlog.record.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CopyCsvTest {
+
+    @Test
+    void nullIsUnquotedAndEmptyStringIsQuoted() {
+        StringBuilder out = new StringBuilder();
+
+        CopyCsv.appendRow(out, 1L, null, "", true);
+
+        assertThat(out).hasToString("1,,\"\",true\n");
+    }
+
+    @Test
+    void quotesCommasAndNewlinesStayInsideOneField() {
+        StringBuilder out = new StringBuilder();
+
+        CopyCsv.appendRow(out, "그가 \"산책\"이라고, 말했다\n두 번째 줄");
+
+        assertThat(out).hasToString("\"그가 \"\"산책\"\"이라고, 말했다\n두 번째 줄\"\n");
+    }
+
+    @Test
+    void timestampsUseIsoFormat() {
+        StringBuilder out = new StringBuilder();
+
+        CopyCsv.appendRow(out, LocalDateTime.of(2024, 3, 1, 10, 15, 30));
+
+        assertThat(out).hasToString("2024-03-01T10:15:30\n");
+    }
+}
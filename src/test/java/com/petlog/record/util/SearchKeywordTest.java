@@ -0,0 +1,43 @@
+package com.petlog.record.util;
+
+import com.petlog.record.exception.BusinessException;
+import com.petlog.record.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchKeywordTest {
+
+    @Test
+    void termsBecomePrefixQueryJoinedWithAnd() {
+        SearchKeyword keyword = SearchKeyword.parse("  해변   산책 ");
+
+        assertThat(keyword.tsQuery()).isEqualTo("해변:* & 산책:*");
+        assertThat(keyword.likePattern()).isEqualTo("%해변 산책%");
+        assertThat(keyword.text()).isEqualTo("해변 산책");
+    }
+
+    @Test
+    void operatorsAndWildcardsAreStripped() {
+        SearchKeyword keyword = SearchKeyword.parse("beach & !dog's_100% (fun):*");
+
+        assertThat(keyword.tsQuery()).isEqualTo("beach:* & dog:* & s:* & 100:* & fun:*");
+        assertThat(keyword.likePattern()).doesNotContain("_").isEqualTo("%beach dog s 100 fun%");
+    }
+
+    @Test
+    void duplicateTermsAreRemovedAndTermCountIsCapped() {
+        SearchKeyword keyword = SearchKeyword.parse("Beach beach a b c d e f g h i j");
+
+        assertThat(keyword.tsQuery().split(" & ")).hasSize(SearchKeyword.MAX_TERMS).startsWith("beach:*");
+    }
+
+    @Test
+    void keywordWithoutLettersOrDigitsIsRejected() {
+        assertThatThrownBy(() -> SearchKeyword.parse("%%% ***"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.VALIDATION_ERROR);
+    }
+}